@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.aware.DatabaseNameAware;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ * 
+ * <p>Read data sources are compared with in flight count and EWMA of execution latency collected from SQL execution hook.
+ * Data sources which rejoin read data sources are warmed up during warm-up time.</p>
+ */
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm, DatabaseNameAware {
+    
+    private static final String STRATEGY_KEY = "strategy";
+    
+    private static final String DECAY_MILLISECONDS_KEY = "decay-milliseconds";
+    
+    private static final String WARM_UP_MILLISECONDS_KEY = "warm-up-milliseconds";
+    
+    private static final String POWER_OF_TWO_CHOICES = "P2C";
+    
+    private static final String LEAST_OUTSTANDING_REQUESTS = "LEAST_OUTSTANDING";
+    
+    private static final double MIN_WARM_UP_FACTOR = 0.1D;
+    
+    private final Map<String, List<String>> lastReadDataSourceNames = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> warmUpStartMillis = new ConcurrentHashMap<>();
+    
+    private boolean leastOutstanding;
+    
+    private long warmUpMillis;
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        String strategy = props.getProperty(STRATEGY_KEY, POWER_OF_TWO_CHOICES).toUpperCase();
+        ShardingSpherePreconditions.checkState(POWER_OF_TWO_CHOICES.equals(strategy) || LEAST_OUTSTANDING_REQUESTS.equals(strategy),
+                () -> new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("Strategy `%s` is not supported", strategy)));
+        leastOutstanding = LEAST_OUTSTANDING_REQUESTS.equals(strategy);
+        long decayMillis = getLongValue(props, DECAY_MILLISECONDS_KEY, 10000L);
+        ShardingSpherePreconditions.checkState(decayMillis > 0L, () -> new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), "Decay milliseconds must be positive"));
+        warmUpMillis = getLongValue(props, WARM_UP_MILLISECONDS_KEY, 30000L);
+        ReadDataSourceStatisticsRegistry.getInstance().enable(decayMillis);
+    }
+    
+    private long getLongValue(final Properties props, final String key, final long defaultValue) {
+        String value = props.getProperty(key);
+        if (null == value) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            throw new ReadQueryLoadBalanceAlgorithmInitializationExcpetion(getType(), String.format("`%s` must be a number", key));
+        }
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        refreshWarmUp(name, readDataSourceNames);
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        return leastOutstanding ? getLeastOutstandingDataSource(readDataSourceNames) : getPowerOfTwoChoicesDataSource(readDataSourceNames);
+    }
+    
+    private void refreshWarmUp(final String name, final List<String> readDataSourceNames) {
+        List<String> previous = lastReadDataSourceNames.get(name);
+        if (readDataSourceNames.equals(previous)) {
+            return;
+        }
+        lastReadDataSourceNames.put(name, new ArrayList<>(readDataSourceNames));
+        if (null == previous || warmUpMillis <= 0L) {
+            return;
+        }
+        long currentMillis = System.currentTimeMillis();
+        for (String each : readDataSourceNames) {
+            if (!previous.contains(each)) {
+                warmUpStartMillis.put(each, currentMillis);
+            }
+        }
+    }
+    
+    private String getPowerOfTwoChoicesDataSource(final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        int first = ThreadLocalRandom.current().nextInt(size);
+        int second = ThreadLocalRandom.current().nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        String firstDataSourceName = readDataSourceNames.get(first);
+        String secondDataSourceName = readDataSourceNames.get(second);
+        return getCost(firstDataSourceName) <= getCost(secondDataSourceName) ? firstDataSourceName : secondDataSourceName;
+    }
+    
+    private String getLeastOutstandingDataSource(final List<String> readDataSourceNames) {
+        int offset = ThreadLocalRandom.current().nextInt(readDataSourceNames.size());
+        String result = null;
+        int minInFlightCount = Integer.MAX_VALUE;
+        double minCost = Double.MAX_VALUE;
+        for (int i = 0; i < readDataSourceNames.size(); i++) {
+            String each = readDataSourceNames.get((offset + i) % readDataSourceNames.size());
+            int inFlightCount = ReadDataSourceStatisticsRegistry.getInstance().get(databaseName, each).getInFlightCount();
+            if (inFlightCount > minInFlightCount) {
+                continue;
+            }
+            double cost = getCost(each);
+            if (inFlightCount < minInFlightCount || cost < minCost) {
+                result = each;
+                minInFlightCount = inFlightCount;
+                minCost = cost;
+            }
+        }
+        return result;
+    }
+    
+    private double getCost(final String dataSourceName) {
+        ReadDataSourceStatistics statistics = ReadDataSourceStatisticsRegistry.getInstance().get(databaseName, dataSourceName);
+        return statistics.getCost(ReadDataSourceStatisticsRegistry.getInstance().getDecayNanos()) / getWarmUpFactor(dataSourceName);
+    }
+    
+    private double getWarmUpFactor(final String dataSourceName) {
+        Long startMillis = warmUpStartMillis.get(dataSourceName);
+        if (null == startMillis) {
+            return 1D;
+        }
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        if (elapsedMillis >= warmUpMillis) {
+            warmUpStartMillis.remove(dataSourceName);
+            return 1D;
+        }
+        return Math.max((double) elapsedMillis / warmUpMillis, MIN_WARM_UP_FACTOR);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read data source statistics.
+ * 
+ * <p>Latency is tracked as peak EWMA: slower samples are taken immediately, faster samples and idle time decay it.
+ * Latency percentiles are estimated by exponential buckets, which are halved periodically so that recent samples weigh more.</p>
+ */
+public final class ReadDataSourceStatistics {
+    
+    private static final double MIN_LATENCY_NANOS = 1000D;
+    
+    private static final double MIN_BUCKET_LATENCY_NANOS = 10000D;
+    
+    private static final int BUCKETS_PER_DOUBLING = 4;
+    
+    private static final int LATENCY_BUCKET_COUNT = 96;
+    
+    private static final long MIN_PERCENTILE_SAMPLES = 100L;
+    
+    private static final long MAX_PERCENTILE_SAMPLES = 4096L;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final long[] latencyBuckets = new long[LATENCY_BUCKET_COUNT];
+    
+    private double latencyNanos;
+    
+    private long lastUpdatedNanos;
+    
+    private long latencySampleCount;
+    
+    /**
+     * Start execution.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution.
+     * 
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param decayNanos decay time constant in nanoseconds
+     */
+    public void finish(final long elapsedNanos, final long decayNanos) {
+        inFlightCount.decrementAndGet();
+        updateLatency(elapsedNanos, decayNanos);
+    }
+    
+    private synchronized void updateLatency(final long elapsedNanos, final long decayNanos) {
+        long currentNanos = System.nanoTime();
+        if (0L == lastUpdatedNanos || elapsedNanos > latencyNanos) {
+            latencyNanos = elapsedNanos;
+        } else {
+            double weight = Math.exp(-(double) (currentNanos - lastUpdatedNanos) / decayNanos);
+            latencyNanos = latencyNanos * weight + elapsedNanos * (1D - weight);
+        }
+        lastUpdatedNanos = currentNanos;
+        recordLatencySample(elapsedNanos);
+    }
+    
+    private void recordLatencySample(final long elapsedNanos) {
+        latencyBuckets[getLatencyBucketIndex(elapsedNanos)]++;
+        if (++latencySampleCount < MAX_PERCENTILE_SAMPLES) {
+            return;
+        }
+        latencySampleCount = 0L;
+        for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+            latencyBuckets[i] >>= 1;
+            latencySampleCount += latencyBuckets[i];
+        }
+    }
+    
+    private int getLatencyBucketIndex(final long elapsedNanos) {
+        if (elapsedNanos <= MIN_BUCKET_LATENCY_NANOS) {
+            return 0;
+        }
+        int result = (int) Math.ceil(Math.log(elapsedNanos / MIN_BUCKET_LATENCY_NANOS) / Math.log(2D) * BUCKETS_PER_DOUBLING);
+        return Math.min(result, LATENCY_BUCKET_COUNT - 1);
+    }
+    
+    /**
+     * Get in flight count.
+     * 
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return Math.max(0, inFlightCount.get());
+    }
+    
+    /**
+     * Get cost, which is decayed latency multiplied by outstanding requests.
+     * 
+     * @param decayNanos decay time constant in nanoseconds
+     * @return cost
+     */
+    public double getCost(final long decayNanos) {
+        return Math.max(getDecayedLatencyNanos(decayNanos), MIN_LATENCY_NANOS) * (getInFlightCount() + 1);
+    }
+    
+    private synchronized double getDecayedLatencyNanos(final long decayNanos) {
+        return 0L == lastUpdatedNanos ? 0D : latencyNanos * Math.exp(-(double) (System.nanoTime() - lastUpdatedNanos) / decayNanos);
+    }
+    
+    /**
+     * Find latency percentile.
+     * 
+     * @param percentile percentile
+     * @return latency percentile in nanoseconds, empty if there are not enough samples
+     */
+    public synchronized Optional<Long> findLatencyPercentileNanos(final int percentile) {
+        if (latencySampleCount < MIN_PERCENTILE_SAMPLES) {
+            return Optional.empty();
+        }
+        long threshold = (long) Math.ceil(latencySampleCount * Math.min(percentile, 100) / 100D);
+        long count = 0L;
+        for (int i = 0; i < LATENCY_BUCKET_COUNT - 1; i++) {
+            count += latencyBuckets[i];
+            if (count >= threshold) {
+                return Optional.of(getLatencyBucketUpperBoundNanos(i));
+            }
+        }
+        return Optional.of(getLatencyBucketUpperBoundNanos(LATENCY_BUCKET_COUNT - 1));
+    }
+    
+    private long getLatencyBucketUpperBoundNanos(final int index) {
+        return (long) (MIN_BUCKET_LATENCY_NANOS * Math.pow(2D, (double) index / BUCKETS_PER_DOUBLING));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read data source statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadDataSourceStatisticsRegistry {
+    
+    private static final ReadDataSourceStatisticsRegistry INSTANCE = new ReadDataSourceStatisticsRegistry();
+    
+    private static final long HEDGED_READ_LEASE_NANOS = TimeUnit.MINUTES.toNanos(1L);
+    
+    private static final long HEDGED_READ_LEASE_RENEW_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final Map<String, Map<String, ReadDataSourceStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    private volatile boolean enabled;
+    
+    private volatile long hedgedReadLeaseRenewedNanos;
+    
+    @Getter
+    private volatile long decayNanos = TimeUnit.SECONDS.toNanos(10L);
+    
+    /**
+     * Get read data source statistics registry.
+     *
+     * @return got instance
+     */
+    public static ReadDataSourceStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Enable statistics collecting.
+     * 
+     * @param decayMillis decay time constant in milliseconds
+     */
+    public void enable(final long decayMillis) {
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+        enabled = true;
+    }
+    
+    /**
+     * Renew lease of statistics collecting for hedged reads.
+     * 
+     * <p>Statistics collecting for hedged reads stops if the lease is not renewed for a minute, such as after hedged reads are disabled.
+     * The lease is renewed at most once a second, so routing does not write shared state for each read.</p>
+     */
+    public void renewHedgedReadLease() {
+        long nanos = System.nanoTime();
+        if (nanos - hedgedReadLeaseRenewedNanos > HEDGED_READ_LEASE_RENEW_INTERVAL_NANOS || 0L == hedgedReadLeaseRenewedNanos) {
+            hedgedReadLeaseRenewedNanos = nanos;
+        }
+    }
+    
+    /**
+     * Judge whether statistics collecting is enabled.
+     * 
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        if (enabled) {
+            return true;
+        }
+        long leaseRenewedNanos = hedgedReadLeaseRenewedNanos;
+        return 0L != leaseRenewedNanos && System.nanoTime() - leaseRenewedNanos < HEDGED_READ_LEASE_NANOS;
+    }
+    
+    /**
+     * Get statistics of data source.
+     * 
+     * <p>Statistics are kept per database, because storage unit names are only unique within a database.</p>
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public ReadDataSourceStatistics get(final String databaseName, final String dataSourceName) {
+        String databaseKey = null == databaseName ? "" : databaseName.toLowerCase();
+        Map<String, ReadDataSourceStatistics> databaseStatistics = statistics.get(databaseKey);
+        if (null == databaseStatistics) {
+            databaseStatistics = statistics.computeIfAbsent(databaseKey, key -> new ConcurrentHashMap<>());
+        }
+        ReadDataSourceStatistics result = databaseStatistics.get(dataSourceName);
+        return null == result ? databaseStatistics.computeIfAbsent(dataSourceName, key -> new ReadDataSourceStatistics()) : result;
+    }
+}
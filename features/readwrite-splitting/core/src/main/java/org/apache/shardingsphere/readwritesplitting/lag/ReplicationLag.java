@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replication lag of read data source.
+ * 
+ * <p>Replication lag is measured by replication positions: applied time is the sampled time of the newest replication position of primary data source,
+ * which has been applied on read data source. Samples which are not refreshed in time are expired and treated as infinitely lagging.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ReplicationLag {
+    
+    private static final long EXPIRY_MILLIS = 5000L;
+    
+    private final long appliedMillis;
+    
+    private final long sampledMillis;
+    
+    /**
+     * Get replication lag.
+     * 
+     * @return replication lag in milliseconds, Long.MAX_VALUE if no replication position is known to be applied or sample is expired
+     */
+    public long getLagMillis() {
+        return 0L == appliedMillis || isExpired() ? Long.MAX_VALUE : Math.max(0L, sampledMillis - appliedMillis);
+    }
+    
+    /**
+     * Judge whether writes before the time have been applied on read data source.
+     * 
+     * @param writeMillis time of write in milliseconds
+     * @return applied or not
+     */
+    public boolean isApplied(final long writeMillis) {
+        return 0L != appliedMillis && !isExpired() && appliedMillis >= writeMillis;
+    }
+    
+    private boolean isExpired() {
+        return System.currentTimeMillis() - sampledMillis > EXPIRY_MILLIS;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Replication lag detector.
+ */
+public interface ReplicationLagDetector extends DatabaseTypedSPI {
+    
+    /**
+     * Get current replication position of primary data source, such as GTID set or WAL LSN.
+     * 
+     * @param connection connection of primary data source
+     * @return replication position, null if replication position is unavailable
+     * @throws SQLException SQL exception
+     */
+    String getPrimaryPosition(Connection connection) throws SQLException;
+    
+    /**
+     * Judge whether replication position of primary data source has been applied on read data source.
+     * 
+     * @param connection connection of read data source
+     * @param primaryPosition replication position of primary data source
+     * @return applied or not, true if read data source is not a replica
+     * @throws SQLException SQL exception
+     */
+    boolean isApplied(Connection connection, String primaryPosition) throws SQLException;
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>Replication positions of primary data sources are sampled in background, and read data sources are checked against the sampled positions.
+ * Results are kept in readwrite-splitting data source rules. Every probe is bounded by timeout, databases which are not routed for a while are unwatched.
+ * Probes run on a bounded pool, and a data source is not probed again until its previous probe has finished, so hanging data sources can not exhaust threads.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ReplicationLagMonitor {
+    
+    private static final ReplicationLagMonitor INSTANCE = new ReplicationLagMonitor();
+    
+    private static final long CHECK_INTERVAL_MILLIS = 1000L;
+    
+    private static final long PROBE_TIMEOUT_MILLIS = 1000L;
+    
+    private static final long WATCH_EXPIRY_MILLIS = 60000L;
+    
+    private static final int MAX_PRIMARY_POSITION_SIZE = 10;
+    
+    private static final int MAX_PROBE_THREADS = 4;
+    
+    private final Map<String, WatchedDatabase> watchedDatabases = new ConcurrentHashMap<>();
+    
+    private final Set<String> inFlightProbes = ConcurrentHashMap.newKeySet();
+    
+    private ScheduledExecutorService executorService;
+    
+    private ExecutorService probeExecutorService;
+    
+    /**
+     * Get replication lag monitor.
+     *
+     * @return got instance
+     */
+    public static ReplicationLagMonitor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Watch replication lag of read data sources in database.
+     * 
+     * @param database database
+     * @param maxLagMillis max replication lag in milliseconds of the database, 0 means read data sources are not filtered by replication lag
+     */
+    public void watch(final ShardingSphereDatabase database, final long maxLagMillis) {
+        WatchedDatabase watchedDatabase = watchedDatabases.get(database.getName());
+        if (null == watchedDatabase || database != watchedDatabase.getDatabase() || maxLagMillis != watchedDatabase.getMaxLagMillis()) {
+            watchedDatabase = new WatchedDatabase(database, maxLagMillis);
+            database.getRuleMetaData().findSingleRule(ReadwriteSplittingRule.class).ifPresent(optional -> optional.getDataSourceRules().forEach(each -> each.setMaxReplicationLagMillis(maxLagMillis)));
+            watchedDatabases.put(database.getName(), watchedDatabase);
+            start();
+        }
+        watchedDatabase.renew();
+    }
+    
+    /**
+     * Unwatch replication lag of read data sources in database.
+     * 
+     * @param databaseName database name
+     */
+    public void unwatch(final String databaseName) {
+        watchedDatabases.remove(databaseName);
+        stopIfUnwatched();
+    }
+    
+    private synchronized void start() {
+        if (null == executorService) {
+            probeExecutorService = Executors.newFixedThreadPool(MAX_PROBE_THREADS, ExecutorThreadFactoryBuilder.build("ReplicationLagProbe-%d"));
+            executorService = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReplicationLagMonitor-%d"));
+            executorService.scheduleWithFixedDelay(this::check, 0L, CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private synchronized void stopIfUnwatched() {
+        if (null != executorService && watchedDatabases.isEmpty()) {
+            executorService.shutdown();
+            probeExecutorService.shutdownNow();
+            executorService = null;
+            probeExecutorService = null;
+            inFlightProbes.clear();
+        }
+    }
+    
+    /**
+     * Check replication lag of all watched read data sources.
+     */
+    public void check() {
+        long currentMillis = System.currentTimeMillis();
+        for (WatchedDatabase each : watchedDatabases.values()) {
+            Optional<ReadwriteSplittingRule> rule = each.getDatabase().getRuleMetaData().findSingleRule(ReadwriteSplittingRule.class);
+            if (!rule.isPresent() || currentMillis - each.getRenewedMillis() > WATCH_EXPIRY_MILLIS) {
+                watchedDatabases.remove(each.getDatabase().getName(), each);
+                continue;
+            }
+            try {
+                check(each, rule.get());
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("Check replication lag of database `{}` failed.", each.getDatabase().getName(), ex);
+            }
+        }
+        stopIfUnwatched();
+    }
+    
+    private void check(final WatchedDatabase watchedDatabase, final ReadwriteSplittingRule rule) {
+        String databaseName = watchedDatabase.getDatabase().getName();
+        Map<String, StorageUnit> storageUnits = watchedDatabase.getDatabase().getResourceMetaData().getStorageUnits();
+        for (ReadwriteSplittingDataSourceRule each : rule.getDataSourceRules()) {
+            StorageUnit primaryStorageUnit = storageUnits.get(each.getWriteDataSource());
+            if (null == primaryStorageUnit) {
+                continue;
+            }
+            Optional<ReplicationLagDetector> detector = DatabaseTypedSPILoader.findService(ReplicationLagDetector.class, primaryStorageUnit.getStorageType());
+            if (!detector.isPresent()) {
+                continue;
+            }
+            Deque<ReplicationPosition> primaryPositions = watchedDatabase.getPrimaryPositions().computeIfAbsent(each.getName(), key -> new ArrayDeque<>(MAX_PRIMARY_POSITION_SIZE));
+            samplePrimaryPosition(getProbeKey(databaseName, each.getWriteDataSource()), primaryStorageUnit, detector.get(), primaryPositions);
+            // Probes which timed out may still be running, so they are given copies of primary positions instead of the deque changed by sampling
+            List<ReplicationPosition> primaryPositionsSnapshot = new ArrayList<>(primaryPositions);
+            for (String readDataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                StorageUnit storageUnit = storageUnits.get(readDataSourceName);
+                if (null != storageUnit) {
+                    each.updateReplicationLag(readDataSourceName,
+                            detect(getProbeKey(databaseName, readDataSourceName), storageUnit, detector.get(), primaryPositionsSnapshot, each.getReplicationLags().get(readDataSourceName)));
+                }
+            }
+        }
+    }
+    
+    private String getProbeKey(final String databaseName, final String dataSourceName) {
+        return databaseName + "." + dataSourceName;
+    }
+    
+    private void samplePrimaryPosition(final String probeKey, final StorageUnit storageUnit, final ReplicationLagDetector detector, final Deque<ReplicationPosition> primaryPositions) {
+        long sampledMillis = System.currentTimeMillis();
+        String position;
+        try {
+            position = probe(probeKey, storageUnit, detector::getPrimaryPosition);
+        } catch (final SQLException ex) {
+            return;
+        }
+        if (null == position) {
+            return;
+        }
+        if (primaryPositions.size() >= MAX_PRIMARY_POSITION_SIZE) {
+            primaryPositions.removeFirst();
+        }
+        primaryPositions.addLast(new ReplicationPosition(position, sampledMillis));
+    }
+    
+    private ReplicationLag detect(final String probeKey, final StorageUnit storageUnit, final ReplicationLagDetector detector,
+                                  final List<ReplicationPosition> primaryPositions, final ReplicationLag previousLag) {
+        long sampledMillis = System.currentTimeMillis();
+        long previousAppliedMillis = null == previousLag ? 0L : previousLag.getAppliedMillis();
+        try {
+            return new ReplicationLag(probe(probeKey, storageUnit, connection -> findAppliedMillis(connection, detector, primaryPositions, previousAppliedMillis)), sampledMillis);
+        } catch (final SQLException ex) {
+            return new ReplicationLag(0L, sampledMillis);
+        }
+    }
+    
+    private long findAppliedMillis(final Connection connection, final ReplicationLagDetector detector, final List<ReplicationPosition> primaryPositions,
+                                   final long previousAppliedMillis) throws SQLException {
+        ListIterator<ReplicationPosition> positions = primaryPositions.listIterator(primaryPositions.size());
+        while (positions.hasPrevious()) {
+            ReplicationPosition each = positions.previous();
+            if (each.getSampledMillis() <= previousAppliedMillis) {
+                break;
+            }
+            if (detector.isApplied(connection, each.getPosition())) {
+                return each.getSampledMillis();
+            }
+        }
+        return previousAppliedMillis;
+    }
+    
+    private <T> T probe(final String probeKey, final StorageUnit storageUnit, final ProbeCallback<T> callback) throws SQLException {
+        if (!inFlightProbes.add(probeKey)) {
+            throw new SQLException(String.format("Previous replication lag probe of `%s` is still in flight.", probeKey));
+        }
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = probeExecutorService.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return null;
+                }
+                try (Connection connection = storageUnit.getDataSource().getConnection()) {
+                    return callback.probe(connection);
+                } finally {
+                    inFlightProbes.remove(probeKey);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            inFlightProbes.remove(probeKey);
+            throw new SQLException(ex);
+        }
+        try {
+            return future.get(PROBE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            cancel(probeKey, future, started);
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException | TimeoutException ex) {
+            cancel(probeKey, future, started);
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void cancel(final String probeKey, final Future<?> future, final AtomicBoolean started) {
+        // Probes which have not started are never run, otherwise the probe is released by itself when it finishes
+        if (started.compareAndSet(false, true)) {
+            inFlightProbes.remove(probeKey);
+        }
+        future.cancel(true);
+    }
+    
+    private interface ProbeCallback<T> {
+        
+        T probe(Connection connection) throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ReplicationPosition {
+        
+        private final String position;
+        
+        private final long sampledMillis;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class WatchedDatabase {
+        
+        private final ShardingSphereDatabase database;
+        
+        private final long maxLagMillis;
+        
+        private final Map<String, Deque<ReplicationPosition>> primaryPositions = new ConcurrentHashMap<>();
+        
+        private volatile long renewedMillis = System.currentTimeMillis();
+        
+        void renew() {
+            long currentMillis = System.currentTimeMillis();
+            if (currentMillis - renewedMillis >= CHECK_INTERVAL_MILLIS) {
+                renewedMillis = currentMillis;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag detector for MySQL.
+ * 
+ * <p>Replication positions are GTID sets, replication position is unavailable if GTID is disabled.</p>
+ */
+public final class MySQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    private static final String QUERY_GTID_EXECUTED = "SELECT @@GLOBAL.gtid_executed";
+    
+    private static final String QUERY_GTID_APPLIED = "SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)";
+    
+    @Override
+    public String getPrimaryPosition(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(QUERY_GTID_EXECUTED)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            String result = resultSet.getString(1);
+            return null == result || result.trim().isEmpty() ? null : result;
+        }
+    }
+    
+    @Override
+    public boolean isApplied(final Connection connection, final String primaryPosition) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(QUERY_GTID_APPLIED)) {
+            preparedStatement.setString(1, primaryPosition);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
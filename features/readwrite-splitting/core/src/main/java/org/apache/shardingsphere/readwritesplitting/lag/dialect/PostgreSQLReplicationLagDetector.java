@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag detector for PostgreSQL.
+ * 
+ * <p>Replication positions are WAL LSNs.</p>
+ */
+public final class PostgreSQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    private static final String QUERY_CURRENT_LSN = "SELECT CASE WHEN pg_is_in_recovery() THEN NULL ELSE pg_current_wal_lsn()::TEXT END";
+    
+    private static final String QUERY_LSN_APPLIED = "SELECT NOT pg_is_in_recovery() OR pg_last_wal_replay_lsn() >= ?::pg_lsn";
+    
+    @Override
+    public String getPrimaryPosition(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(QUERY_CURRENT_LSN)) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+    
+    @Override
+    public boolean isApplied(final Connection connection, final String primaryPosition) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(QUERY_LSN_APPLIED)) {
+            preparedStatement.setString(1, primaryPosition);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
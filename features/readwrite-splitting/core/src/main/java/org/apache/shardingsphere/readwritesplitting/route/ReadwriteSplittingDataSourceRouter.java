@@ -26,6 +26,7 @@ import org.apache.shardingsphere.readwritesplitting.route.qualified.type.Qualifi
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,6 +41,8 @@ public final class ReadwriteSplittingDataSourceRouter {
     
     private final ConnectionContext connectionContext;
     
+    private final boolean readYourWritesEnabled;
+    
     /**
      * Route.
      *
@@ -50,10 +53,30 @@ public final class ReadwriteSplittingDataSourceRouter {
     public String route(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
         for (QualifiedReadwriteSplittingDataSourceRouter each : getQualifiedRouters(connectionContext)) {
             if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
-                return each.route(rule);
+                String result = each.route(rule);
+                if (readYourWritesEnabled) {
+                    recordWrite(sqlStatementContext, result);
+                }
+                return result;
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return new StandardReadwriteSplittingDataSourceRouter().route(rule, readYourWritesEnabled ? getLastWriteMillis() : 0L);
+    }
+    
+    private void recordWrite(final SQLStatementContext sqlStatementContext, final String routedDataSourceName) {
+        if (rule.getWriteDataSource().equals(routedDataSourceName) && !(sqlStatementContext.getSqlStatement() instanceof SelectStatement)) {
+            // Write is finished when the next statement of session is routed, reads are kept on primary until then
+            connectionContext.setReadWriteSplitLastWriteMillis(Long.MAX_VALUE);
+        }
+    }
+    
+    private long getLastWriteMillis() {
+        long result = connectionContext.getReadWriteSplitLastWriteMillis();
+        if (Long.MAX_VALUE == result) {
+            result = System.currentTimeMillis();
+            connectionContext.setReadWriteSplitLastWriteMillis(result);
+        }
+        return result;
     }
     
     private Collection<QualifiedReadwriteSplittingDataSourceRouter> getQualifiedRouters(final ConnectionContext connectionContext) {
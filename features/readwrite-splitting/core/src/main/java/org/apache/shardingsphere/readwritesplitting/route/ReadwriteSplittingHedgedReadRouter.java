@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+
+import java.util.Optional;
+
+/**
+ * Hedged read router for readwrite-splitting.
+ */
+@RequiredArgsConstructor
+public final class ReadwriteSplittingHedgedReadRouter {
+    
+    private final String databaseName;
+    
+    private final ReadwriteSplittingDataSourceRule rule;
+    
+    private final ConnectionContext connectionContext;
+    
+    private final int delayPercentile;
+    
+    /**
+     * Route hedged read.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param routedDataSourceName routed data source name
+     * @return hedged read route
+     */
+    public Optional<HedgedReadRoute> route(final SQLStatementContext sqlStatementContext, final String routedDataSourceName) {
+        if (!isHedgeable(sqlStatementContext, routedDataSourceName)) {
+            return Optional.empty();
+        }
+        Optional<Long> delayNanos = ReadDataSourceStatisticsRegistry.getInstance().get(databaseName, routedDataSourceName).findLatencyPercentileNanos(delayPercentile);
+        if (!delayNanos.isPresent()) {
+            return Optional.empty();
+        }
+        return new StandardReadwriteSplittingDataSourceRouter().findHedgedReadDataSource(databaseName, rule, routedDataSourceName).map(each -> new HedgedReadRoute(each, delayNanos.get()));
+    }
+    
+    private boolean isHedgeable(final SQLStatementContext sqlStatementContext, final String routedDataSourceName) {
+        // Reads after writes of read-your-writes sessions are not hedged, because hedged read data source may not have applied the writes
+        return sqlStatementContext.getSqlStatement() instanceof SelectStatement && !rule.getWriteDataSource().equals(routedDataSourceName)
+                && !connectionContext.getTransactionContext().isInTransaction() && 0L == connectionContext.getReadWriteSplitLastWriteMillis();
+    }
+}
@@ -18,15 +18,20 @@
 package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 
@@ -44,29 +49,67 @@ public final class ReadwriteSplittingSQLRouter implements SQLRouter<ReadwriteSpl
     public RouteContext createRouteContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData,
                                            final ShardingSphereDatabase database, final ReadwriteSplittingRule rule, final ConfigurationProperties props, final ConnectionContext connectionContext) {
         RouteContext result = new RouteContext();
+        boolean readYourWritesEnabled = watchReplicationLag(database, props);
         ReadwriteSplittingDataSourceRule singleDataSourceRule = rule.getSingleDataSourceRule();
-        String dataSourceName = new ReadwriteSplittingDataSourceRouter(singleDataSourceRule, connectionContext).route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
+        String dataSourceName = new ReadwriteSplittingDataSourceRouter(singleDataSourceRule, connectionContext, readYourWritesEnabled).route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(singleDataSourceRule.getName(), dataSourceName), Collections.emptyList()));
+        HedgedReadRouteStageContext hedgedReadRouteStageContext = new HedgedReadRouteStageContext(props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_MAX_PERCENT));
+        addHedgedReadRoute(hedgedReadRouteStageContext, database.getName(), singleDataSourceRule, dataSourceName, queryContext, props, connectionContext);
+        setHedgedReadRouteStageContext(result, hedgedReadRouteStageContext);
         return result;
     }
     
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database,
                                      final ReadwriteSplittingRule rule, final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        boolean readYourWritesEnabled = watchReplicationLag(database, props);
         Collection<RouteUnit> toBeRemoved = new LinkedList<>();
         Collection<RouteUnit> toBeAdded = new LinkedList<>();
+        HedgedReadRouteStageContext hedgedReadRouteStageContext = new HedgedReadRouteStageContext(props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_MAX_PERCENT));
         for (RouteUnit each : routeContext.getRouteUnits()) {
             String dataSourceName = each.getDataSourceMapper().getLogicName();
             Optional<ReadwriteSplittingDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceName);
             if (dataSourceRule.isPresent() && dataSourceRule.get().getName().equalsIgnoreCase(each.getDataSourceMapper().getActualName())) {
                 toBeRemoved.add(each);
-                String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get(), connectionContext).route(queryContext.getSqlStatementContext(),
+                String actualDataSourceName = new ReadwriteSplittingDataSourceRouter(dataSourceRule.get(), connectionContext, readYourWritesEnabled).route(queryContext.getSqlStatementContext(),
                         queryContext.getHintValueContext());
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
+                addHedgedReadRoute(hedgedReadRouteStageContext, database.getName(), dataSourceRule.get(), actualDataSourceName, queryContext, props, connectionContext);
             }
         }
         routeContext.getRouteUnits().removeAll(toBeRemoved);
         routeContext.getRouteUnits().addAll(toBeAdded);
+        setHedgedReadRouteStageContext(routeContext, hedgedReadRouteStageContext);
+    }
+    
+    private void addHedgedReadRoute(final HedgedReadRouteStageContext hedgedReadRouteStageContext, final String databaseName, final ReadwriteSplittingDataSourceRule dataSourceRule,
+                                    final String routedDataSourceName, final QueryContext queryContext, final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        int delayPercentile = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_DELAY_PERCENTILE);
+        if (delayPercentile <= 0) {
+            return;
+        }
+        ReadDataSourceStatisticsRegistry.getInstance().renewHedgedReadLease();
+        Optional<HedgedReadRoute> hedgedReadRoute = new ReadwriteSplittingHedgedReadRouter(databaseName, dataSourceRule, connectionContext, delayPercentile).route(queryContext.getSqlStatementContext(),
+                routedDataSourceName);
+        hedgedReadRoute.ifPresent(optional -> hedgedReadRouteStageContext.add(routedDataSourceName, optional));
+    }
+    
+    private void setHedgedReadRouteStageContext(final RouteContext routeContext, final HedgedReadRouteStageContext hedgedReadRouteStageContext) {
+        // Hedged read routes are put as a new stage context for each routing, because route contexts may be shared with route cache
+        if (hedgedReadRouteStageContext.isEmpty()) {
+            routeContext.getRouteStageContexts().remove(ReadwriteSplittingRule.class);
+        } else {
+            routeContext.getRouteStageContexts().put(ReadwriteSplittingRule.class, hedgedReadRouteStageContext);
+        }
+    }
+    
+    private boolean watchReplicationLag(final ShardingSphereDatabase database, final ConfigurationProperties props) {
+        long maxLagMillis = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS);
+        boolean result = props.getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED);
+        if (maxLagMillis > 0L || result) {
+            ReplicationLagMonitor.getInstance().watch(database, maxLagMillis);
+        }
+        return result;
     }
     
     @Override
@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Standard data source router for readwrite-splitting.
@@ -35,7 +39,44 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceRule rule) {
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), getFilteredReadDataSources(rule));
+        return route(rule, 0L);
+    }
+    
+    /**
+     * Route to data source which has applied writes before last write time.
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @param lastWriteMillis last write time in milliseconds, 0 means no write needs to be applied
+     * @return routed data source name
+     */
+    public String route(final ReadwriteSplittingDataSourceRule rule, final long lastWriteMillis) {
+        List<String> readDataSources = getFilteredReadDataSources(rule);
+        if (0L != lastWriteMillis) {
+            readDataSources = getAppliedReadDataSources(rule, readDataSources, lastWriteMillis);
+        }
+        return readDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), readDataSources);
+    }
+    
+    /**
+     * Find hedged read data source, which is the available read data source with the lowest cost except the routed one.
+     *
+     * @param databaseName database name
+     * @param rule Readwrite-splitting data source rule
+     * @param routedDataSourceName routed data source name
+     * @return hedged read data source name
+     */
+    public Optional<String> findHedgedReadDataSource(final String databaseName, final ReadwriteSplittingDataSourceRule rule, final String routedDataSourceName) {
+        ReadDataSourceStatisticsRegistry registry = ReadDataSourceStatisticsRegistry.getInstance();
+        String result = null;
+        double minCost = Double.MAX_VALUE;
+        for (String each : getFilteredReadDataSources(rule)) {
+            double cost = registry.get(databaseName, each).getCost(registry.getDecayNanos());
+            if (!each.equals(routedDataSourceName) && cost < minCost) {
+                result = each;
+                minCost = cost;
+            }
+        }
+        return Optional.ofNullable(result);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
@@ -45,4 +86,15 @@ public final class StandardReadwriteSplittingDataSourceRouter {
         }
         return result;
     }
+    
+    private List<String> getAppliedReadDataSources(final ReadwriteSplittingDataSourceRule rule, final List<String> readDataSources, final long lastWriteMillis) {
+        List<String> result = new LinkedList<>();
+        for (String each : readDataSources) {
+            ReplicationLag replicationLag = rule.getReplicationLags().get(each);
+            if (null != replicationLag && replicationLag.isApplied(lastWriteMillis)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
 }
@@ -18,14 +18,18 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source rule.
@@ -43,6 +47,11 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final Map<String, ReplicationLag> replicationLags = new ConcurrentHashMap<>();
+    
+    @Setter
+    private volatile long maxReplicationLagMillis;
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final ReadQueryLoadBalanceAlgorithm loadBalancer) {
         name = config.getName();
@@ -81,4 +90,14 @@ public final class ReadwriteSplittingDataSourceRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    /**
+     * Update replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     * @param replicationLag replication lag
+     */
+    public void updateReplicationLag(final String dataSourceName, final ReplicationLag replicationLag) {
+        replicationLags.put(dataSourceName, replicationLag);
+    }
 }
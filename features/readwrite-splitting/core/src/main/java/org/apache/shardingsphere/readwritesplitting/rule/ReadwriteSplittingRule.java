@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceDeletedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.aware.DatabaseNameAware;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
@@ -81,7 +82,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                ReadQueryLoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                if (loadBalancer instanceof DatabaseNameAware) {
+                    ((DatabaseNameAware) loadBalancer).setDatabaseName(databaseName);
+                }
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
@@ -136,6 +141,15 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return dataSourceRules.values().iterator().next();
     }
     
+    /**
+     * Get data source rules.
+     *
+     * @return readwrite-splitting data source rules
+     */
+    public Collection<ReadwriteSplittingDataSourceRule> getDataSourceRules() {
+        return dataSourceRules.values();
+    }
+    
     /**
      * Find data source rule.
      *
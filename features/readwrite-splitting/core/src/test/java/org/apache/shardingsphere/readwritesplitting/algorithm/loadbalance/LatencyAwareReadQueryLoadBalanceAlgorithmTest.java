@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.aware.DatabaseNameAware;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.exception.algorithm.ReadQueryLoadBalanceAlgorithmInitializationExcpetion;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetSingleReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_read_ds")), is("test_read_ds"));
+    }
+    
+    @Test
+    void assertGetDataSourceWithLowerLatency() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        execute("latency_slow_ds", TimeUnit.SECONDS.toNanos(1L));
+        execute("latency_fast_ds", TimeUnit.MILLISECONDS.toNanos(1L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("latency_slow_ds", "latency_fast_ds")), is("latency_fast_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithLeastOutstandingRequests() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(PropertiesBuilder.build(new Property("strategy", "LEAST_OUTSTANDING")));
+        ReadDataSourceStatisticsRegistry.getInstance().get("foo_db", "outstanding_busy_ds").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("outstanding_busy_ds", "outstanding_idle_ds")), is("outstanding_idle_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithWarmingUpDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("warm_up_existed_ds")), is("warm_up_existed_ds"));
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("warm_up_existed_ds", "warm_up_rejoined_ds")), is("warm_up_existed_ds"));
+        }
+    }
+    
+    @Test
+    void assertInitWithInvalidStrategy() {
+        assertThrows(ReadQueryLoadBalanceAlgorithmInitializationExcpetion.class,
+                () -> TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("strategy", "invalid"))));
+    }
+    
+    private ReadQueryLoadBalanceAlgorithm createLoadBalanceAlgorithm(final Properties props) {
+        ReadQueryLoadBalanceAlgorithm result = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", props);
+        ((DatabaseNameAware) result).setDatabaseName("foo_db");
+        return result;
+    }
+    
+    private void execute(final String dataSourceName, final long elapsedNanos) {
+        ReadDataSourceStatistics statistics = ReadDataSourceStatisticsRegistry.getInstance().get("foo_db", dataSourceName);
+        statistics.start();
+        statistics.finish(elapsedNanos, ReadDataSourceStatisticsRegistry.getInstance().getDecayNanos());
+    }
+}
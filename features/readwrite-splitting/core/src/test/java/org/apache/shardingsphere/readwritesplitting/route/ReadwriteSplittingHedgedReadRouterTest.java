@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RoundRobinReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadwriteSplittingHedgedReadRouterTest {
+    
+    private ReadwriteSplittingDataSourceRule rule;
+    
+    @BeforeEach
+    void setUp() {
+        rule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_config", "hedged_write_ds", Arrays.asList("hedged_read_ds_0", "hedged_read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinReadQueryLoadBalanceAlgorithm());
+        ReadDataSourceStatistics statistics = ReadDataSourceStatisticsRegistry.getInstance().get("foo_db", "hedged_read_ds_0");
+        for (int i = 0; i < 100; i++) {
+            statistics.start();
+            statistics.finish(TimeUnit.MILLISECONDS.toNanos(1L), ReadDataSourceStatisticsRegistry.getInstance().getDecayNanos());
+        }
+    }
+    
+    @Test
+    void assertRoute() {
+        Optional<HedgedReadRoute> actual = new ReadwriteSplittingHedgedReadRouter("foo_db", rule, new ConnectionContext(), 95).route(mockSQLStatementContext(true), "hedged_read_ds_0");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getDataSourceName(), is("hedged_read_ds_1"));
+        assertThat(actual.get().getDelayNanos(), greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1L)));
+    }
+    
+    @Test
+    void assertRouteWithLatencySamplesOfOtherDatabase() {
+        assertThat(new ReadwriteSplittingHedgedReadRouter("bar_db", rule, new ConnectionContext(), 95).route(mockSQLStatementContext(true), "hedged_read_ds_0").isPresent(), is(false));
+    }
+    
+    @Test
+    void assertRouteWithoutEnoughLatencySamples() {
+        assertThat(new ReadwriteSplittingHedgedReadRouter("foo_db", rule, new ConnectionContext(), 95).route(mockSQLStatementContext(true), "hedged_read_ds_1").isPresent(), is(false));
+    }
+    
+    @Test
+    void assertRouteWithWriteStatement() {
+        assertThat(new ReadwriteSplittingHedgedReadRouter("foo_db", rule, new ConnectionContext(), 95).route(mockSQLStatementContext(false), "hedged_read_ds_0").isPresent(), is(false));
+    }
+    
+    @Test
+    void assertRouteInTransaction() {
+        ConnectionContext connectionContext = new ConnectionContext();
+        connectionContext.getTransactionContext().setInTransaction(true);
+        assertThat(new ReadwriteSplittingHedgedReadRouter("foo_db", rule, connectionContext, 95).route(mockSQLStatementContext(true), "hedged_read_ds_0").isPresent(), is(false));
+    }
+    
+    private SQLStatementContext mockSQLStatementContext(final boolean isSelect) {
+        SQLStatementContext result = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(isSelect ? mock(SelectStatement.class) : mock(UpdateStatement.class));
+        return result;
+    }
+}
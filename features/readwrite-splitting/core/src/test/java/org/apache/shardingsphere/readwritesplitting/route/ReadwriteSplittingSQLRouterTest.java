@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -56,6 +58,8 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -114,6 +118,21 @@ class ReadwriteSplittingSQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(WRITE_DATASOURCE));
     }
     
+    @Test
+    void assertDecorateRouteContextNotChangeExistedHedgedReadRouteStageContext() {
+        RouteContext actual = mockRouteContext();
+        HedgedReadRouteStageContext existedHedgedReadRouteStageContext = new HedgedReadRouteStageContext(5);
+        existedHedgedReadRouteStageContext.add(READ_DATASOURCE, new HedgedReadRoute("other_read", 1L));
+        actual.getRouteStageContexts().put(ReadwriteSplittingRule.class, existedHedgedReadRouteStageContext);
+        QueryContext queryContext = new QueryContext(mock(SQLStatementContext.class), "", Collections.emptyList());
+        RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(staticRule));
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME,
+                mock(DatabaseType.class), mock(ResourceMetaData.class, RETURNS_DEEP_STUBS), ruleMetaData, Collections.emptyMap());
+        sqlRouter.decorateRouteContext(actual, queryContext, database, staticRule, new ConfigurationProperties(new Properties()), new ConnectionContext());
+        assertFalse(actual.getRouteStageContexts().containsKey(ReadwriteSplittingRule.class));
+        assertTrue(existedHedgedReadRouteStageContext.find(READ_DATASOURCE).isPresent());
+    }
+    
     @Test
     void assertCreateRouteContextToReplicaDataSource() {
         MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
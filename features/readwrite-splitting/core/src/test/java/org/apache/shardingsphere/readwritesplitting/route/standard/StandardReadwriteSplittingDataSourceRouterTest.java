@@ -20,6 +20,7 @@ package org.apache.shardingsphere.readwritesplitting.route.standard;
 import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RoundRobinReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,4 +51,18 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteWithAppliedLastWrite() {
+        long lastWriteMillis = System.currentTimeMillis();
+        rule.updateReplicationLag("read_ds_1", new ReplicationLag(lastWriteMillis + 1L, lastWriteMillis + 1L));
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule, lastWriteMillis), is("read_ds_1"));
+    }
+    
+    @Test
+    void assertRouteWithNotAppliedLastWrite() {
+        long lastWriteMillis = System.currentTimeMillis();
+        rule.updateReplicationLag("read_ds_0", new ReplicationLag(lastWriteMillis - 1000L, lastWriteMillis + 1L));
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule, lastWriteMillis), is("write_ds"));
+    }
 }
@@ -64,6 +64,46 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether load table metadata lazily when table is accessed for the first time instead of loading all tables when application startup.
+     */
+    LAZY_LOAD_TABLE_METADATA_ENABLED("lazy-load-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max size of lazily loaded table metadata to be cached.
+     */
+    LAZY_LOAD_TABLE_METADATA_CACHE_SIZE("lazy-load-table-metadata-cache-size", String.valueOf(10000), int.class, true),
+    
+    /**
+     * Max concurrent loading tasks of table metadata for each storage unit.
+     */
+    LOAD_TABLE_METADATA_CONCURRENCY_PER_STORAGE_UNIT("load-table-metadata-concurrency-per-storage-unit", String.valueOf(1), int.class, false),
+    
+    /**
+     * Timeout milliseconds of loading table metadata, 0 means no timeout.
+     */
+    LOAD_TABLE_METADATA_TIMEOUT_MILLISECONDS("load-table-metadata-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max replication lag milliseconds of readwrite-splitting read data sources, 0 means read data sources are not filtered by replication lag.
+     */
+    READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS("readwrite-splitting-max-replication-lag-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether route reads to readwrite-splitting read data sources which have applied previous writes of the same session.
+     */
+    READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED("readwrite-splitting-read-your-writes-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Latency percentile of routed readwrite-splitting read data source to delay hedged reads, 0 means reads are not hedged.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_DELAY_PERCENTILE("readwrite-splitting-hedged-read-delay-percentile", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max percent of readwrite-splitting reads to be hedged.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_MAX_PERCENT("readwrite-splitting-hedged-read-max-percent", String.valueOf(5), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,6 +120,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether to keep replayed session variables on backend connections when they are released, and only send the differences when they are acquired again.
+     */
+    PROXY_BACKEND_SESSION_VARIABLE_LAZY_RESET_ENABLED("proxy-backend-session-variable-lazy-reset-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max cached prepared statements of each physical backend connection. The default value is 0, which means prepared statements are not cached.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether to commit local transactions in two phases when they hold several backend connections which support preparing local transactions.
+     */
+    PROXY_LOCAL_TRANSACTION_TWO_PHASE_COMMIT_ENABLED("proxy-local-transaction-two-phase-commit-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max retry count of backend executions failed with transient exceptions in auto commit mode.
+     */
+    PROXY_BACKEND_EXECUTION_RETRY_MAX_COUNT("proxy-backend-execution-retry-max-count", String.valueOf(0), int.class, false),
+    
+    /**
+     * Initial backoff milliseconds of backend execution retry, doubled on each retry.
+     */
+    PROXY_BACKEND_EXECUTION_RETRY_BACKOFF_MILLISECONDS("proxy-backend-execution-retry-backoff-milliseconds", String.valueOf(50), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
 import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereLazyTables;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.reviser.MetaDataReviseEngine;
@@ -43,6 +45,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -64,9 +67,56 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        return material.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_LOAD_TABLE_METADATA_ENABLED) ? buildLazily(tableNames, material) : build(tableNames, material);
+    }
+    
+    /**
+     * Build generic schema with all tables loaded eagerly, even if lazy loading of table meta data is enabled.
+     *
+     * @param material generic schema builder material
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> buildEagerly(final GenericSchemaBuilderMaterial material) throws SQLException {
         return build(getAllTableNames(material.getRules()), material);
     }
     
+    /**
+     * Build generic schema with schemas loaded from repository.
+     * 
+     * <p>If lazy loading of table meta data is enabled, placeholders of lazy tables and tables absent in repository are loaded lazily,
+     * otherwise placeholders are loaded from storage units.</p>
+     *
+     * @param loadedSchemas schemas loaded from repository
+     * @param material generic schema builder material
+     * @return generic schema map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereSchema> build(final Map<String, ShardingSphereSchema> loadedSchemas, final GenericSchemaBuilderMaterial material) throws SQLException {
+        String schemaName = new DatabaseTypeRegistry(material.getProtocolType()).getDefaultSchemaName(material.getDefaultSchemaName());
+        ShardingSphereSchema loadedSchema = loadedSchemas.getOrDefault(schemaName, new ShardingSphereSchema());
+        Collection<String> placeholderTableNames = loadedSchema.getTables().entrySet().stream()
+                .filter(entry -> entry.getValue().isPlaceholder()).map(Entry::getKey).collect(Collectors.toList());
+        boolean isLazy = material.getProps().<Boolean>getValue(ConfigurationPropertyKey.LAZY_LOAD_TABLE_METADATA_ENABLED);
+        if (!isLazy && placeholderTableNames.isEmpty()) {
+            return loadedSchemas;
+        }
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(loadedSchemas);
+        Map<String, ShardingSphereTable> tables = new LinkedHashMap<>(loadedSchema.getTables());
+        placeholderTableNames.forEach(tables::remove);
+        if (isLazy) {
+            Collection<String> lazyTableNames = new LinkedHashSet<>(placeholderTableNames);
+            getAllTableNames(material.getRules()).stream().filter(each -> !tables.containsKey(each.toLowerCase())).forEach(lazyTableNames::add);
+            result.put(schemaName, new ShardingSphereSchema(tables, loadedSchema.getViews(), createLazyTables(schemaName, lazyTableNames, material)));
+            return result;
+        }
+        ShardingSphereSchema schema = new ShardingSphereSchema(tables, loadedSchema.getViews());
+        Optional.ofNullable(build(placeholderTableNames, material).get(schemaName)).ifPresent(optional -> schema.putAll(optional.getTables()));
+        result.put(schemaName, schema);
+        return result;
+    }
+    
     /**
      * Build generic schema.
      *
@@ -83,6 +133,24 @@ public final class GenericSchemaBuilder {
         return revise(result, material);
     }
     
+    private static Map<String, ShardingSphereSchema> buildLazily(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        String schemaName = new DatabaseTypeRegistry(material.getProtocolType()).getDefaultSchemaName(material.getDefaultSchemaName());
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>();
+        result.put(schemaName, new ShardingSphereSchema(new LinkedHashMap<>(), new LinkedHashMap<>(), createLazyTables(schemaName, tableNames, material)));
+        return result;
+    }
+    
+    private static ShardingSphereLazyTables createLazyTables(final String schemaName, final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        int cacheSize = material.getProps().getValue(ConfigurationPropertyKey.LAZY_LOAD_TABLE_METADATA_CACHE_SIZE);
+        return new ShardingSphereLazyTables(tableNames, each -> loadTable(schemaName, each, material), cacheSize);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private static ShardingSphereTable loadTable(final String schemaName, final String tableName, final GenericSchemaBuilderMaterial material) {
+        ShardingSphereSchema schema = build(Collections.singleton(tableName), material).get(schemaName);
+        return null == schema ? null : schema.getTable(tableName);
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(TableContainedRule.class::isInstance).flatMap(each -> ((TableContainedRule) each).getLogicTableMapper().getTableNames().stream()).collect(Collectors.toSet());
     }
@@ -93,7 +161,9 @@ public final class GenericSchemaBuilder {
         if (materials.isEmpty()) {
             return Collections.emptyMap();
         }
-        return MetaDataLoader.load(materials);
+        int concurrencyPerStorageUnit = material.getProps().getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_CONCURRENCY_PER_STORAGE_UNIT);
+        long timeoutMillis = material.getProps().getValue(ConfigurationPropertyKey.LOAD_TABLE_METADATA_TIMEOUT_MILLISECONDS);
+        return MetaDataLoader.load(materials, concurrencyPerStorageUnit, timeoutMillis);
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
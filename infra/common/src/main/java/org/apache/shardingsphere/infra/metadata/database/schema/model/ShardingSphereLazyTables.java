@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ShardingSphere lazy tables.
+ *
+ * <p>Only table names are held, table meta data is loaded when the table is accessed for the first time, and cold tables are evicted when cache is full.</p>
+ */
+public final class ShardingSphereLazyTables {
+    
+    private final Set<String> tableNames;
+    
+    private final Function<String, ShardingSphereTable> tableLoader;
+    
+    private final int cacheSize;
+    
+    private final LoadingCache<String, ShardingSphereTable> tables;
+    
+    public ShardingSphereLazyTables(final Collection<String> tableNames, final Function<String, ShardingSphereTable> tableLoader, final int cacheSize) {
+        this.tableNames = ConcurrentHashMap.newKeySet(tableNames.size());
+        tableNames.forEach(each -> this.tableNames.add(each.toLowerCase()));
+        this.tableLoader = tableLoader;
+        this.cacheSize = cacheSize;
+        tables = Caffeine.newBuilder().maximumSize(cacheSize).build(tableLoader::apply);
+    }
+    
+    /**
+     * Copy lazy tables, loaded tables are copied too and changes of the copy are invisible to this lazy tables.
+     *
+     * @return copied lazy tables
+     */
+    public ShardingSphereLazyTables copy() {
+        ShardingSphereLazyTables result = new ShardingSphereLazyTables(tableNames, tableLoader, cacheSize);
+        result.tables.putAll(tables.asMap());
+        return result;
+    }
+    
+    /**
+     * Get table names.
+     *
+     * @return table names
+     */
+    public Collection<String> getTableNames() {
+        return Collections.unmodifiableSet(tableNames);
+    }
+    
+    /**
+     * Judge whether contains table.
+     *
+     * @param tableName table name
+     * @return contains table or not
+     */
+    public boolean containsTable(final String tableName) {
+        return tableNames.contains(tableName.toLowerCase());
+    }
+    
+    /**
+     * Get table, load table meta data if absent in cache.
+     *
+     * @param tableName table name
+     * @return table, null if table is not lazy table or not found in storage units
+     */
+    public ShardingSphereTable getTable(final String tableName) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        return tableNames.contains(lowerCaseTableName) ? tables.get(lowerCaseTableName) : null;
+    }
+    
+    /**
+     * Add table, table meta data is loaded when the table is accessed.
+     *
+     * @param tableName table name
+     */
+    public void addTable(final String tableName) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        tableNames.add(lowerCaseTableName);
+        tables.invalidate(lowerCaseTableName);
+    }
+    
+    /**
+     * Remove table.
+     *
+     * @param tableName table name
+     */
+    public void removeTable(final String tableName) {
+        String lowerCaseTableName = tableName.toLowerCase();
+        tableNames.remove(lowerCaseTableName);
+        tables.invalidate(lowerCaseTableName);
+    }
+    
+    /**
+     * Create placeholder table, which is persisted into repository for lazy table.
+     *
+     * @param tableName table name
+     * @return placeholder table
+     */
+    public static ShardingSphereTable createPlaceholder(final String tableName) {
+        return new ShardingSphereTable(tableName, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), true);
+    }
+}
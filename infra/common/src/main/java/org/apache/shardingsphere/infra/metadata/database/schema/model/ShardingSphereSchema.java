@@ -21,6 +21,8 @@ import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -36,17 +38,25 @@ public final class ShardingSphereSchema {
     
     private final Map<String, ShardingSphereView> views;
     
+    private final ShardingSphereLazyTables lazyTables;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTables = null;
     }
     
     public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
+        this(tables, views, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views, final ShardingSphereLazyTables lazyTables) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1F);
         this.views = new ConcurrentHashMap<>(views.size(), 1F);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
+        this.lazyTables = lazyTables;
     }
     
     /**
@@ -55,7 +65,26 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyTables) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTables.getTableNames());
+        return result;
+    }
+    
+    /**
+     * Get tables to be persisted, lazy tables are persisted as placeholders.
+     *
+     * @return tables to be persisted
+     */
+    public Map<String, ShardingSphereTable> getPersistedTables() {
+        if (null == lazyTables) {
+            return tables;
+        }
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tables);
+        lazyTables.getTableNames().forEach(each -> result.putIfAbsent(each, ShardingSphereLazyTables.createPlaceholder(each)));
+        return result;
     }
     
     /**
@@ -74,7 +103,8 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        ShardingSphereTable result = tables.get(tableName.toLowerCase());
+        return null == result && null != lazyTables ? lazyTables.getTable(tableName) : result;
     }
     
     /**
@@ -94,7 +124,15 @@ public final class ShardingSphereSchema {
      * @param table table
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
+        if (null != lazyTables && table.isPlaceholder()) {
+            tables.remove(tableName.toLowerCase());
+            lazyTables.addTable(tableName);
+            return;
+        }
         tables.put(tableName.toLowerCase(), table);
+        if (null != lazyTables) {
+            lazyTables.removeTable(tableName);
+        }
     }
     
     /**
@@ -125,6 +163,9 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTables) {
+            lazyTables.removeTable(tableName);
+        }
     }
     
     /**
@@ -143,7 +184,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || null != lazyTables && lazyTables.containsTable(tableName);
     }
     
     /**
@@ -154,7 +195,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && getTable(tableName).containsColumn(columnName);
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.containsColumn(columnName);
     }
     
     /**
@@ -165,7 +207,8 @@ public final class ShardingSphereSchema {
      * @return whether contains index name or not
      */
     public boolean containsIndex(final String tableName, final String indexName) {
-        return containsTable(tableName) && getTable(tableName).containsIndex(indexName);
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.containsIndex(indexName);
     }
     
     /**
@@ -185,7 +228,8 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getColumnNames() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getColumnNames();
     }
     
     /**
@@ -195,6 +239,7 @@ public final class ShardingSphereSchema {
      * @return visible column names
      */
     public List<String> getVisibleColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getVisibleColumns();
     }
 }
@@ -50,16 +50,24 @@ public final class ShardingSphereTable {
     
     private final List<String> primaryKeyColumns = new ArrayList<>();
     
+    private final boolean placeholder;
+    
     public ShardingSphereTable() {
         this("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
     }
     
     public ShardingSphereTable(final String name, final Collection<ShardingSphereColumn> columns,
                                final Collection<ShardingSphereIndex> indexes, final Collection<ShardingSphereConstraint> constraints) {
+        this(name, columns, indexes, constraints, false);
+    }
+    
+    ShardingSphereTable(final String name, final Collection<ShardingSphereColumn> columns,
+                        final Collection<ShardingSphereIndex> indexes, final Collection<ShardingSphereConstraint> constraints, final boolean placeholder) {
         this.name = name;
         this.columns = createColumns(columns);
         this.indexes = createIndexes(indexes);
         this.constraints = createConstraints(constraints);
+        this.placeholder = placeholder;
     }
     
     private Map<String, ShardingSphereColumn> createColumns(final Collection<ShardingSphereColumn> columns) {
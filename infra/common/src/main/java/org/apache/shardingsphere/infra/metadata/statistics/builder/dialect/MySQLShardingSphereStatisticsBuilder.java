@@ -30,7 +30,6 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 
 import java.util.Optional;
 import java.util.Collections;
-import java.util.Map.Entry;
 
 /**
  * ShardingSphere statistics builder for MySQL.
@@ -50,12 +49,12 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
             return result;
         }
         ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
-        for (Entry<String, ShardingSphereTable> entry : shardingSphereSchema.get().getTables().entrySet()) {
-            ShardingSphereTableData tableData = new ShardingSphereTableData(entry.getValue().getName());
-            if (CLUSTER_INFORMATION.equals(entry.getKey())) {
+        for (String each : shardingSphereSchema.get().getAllTableNames()) {
+            ShardingSphereTableData tableData = new ShardingSphereTableData(getTableName(shardingSphereSchema.get(), each));
+            if (CLUSTER_INFORMATION.equals(each)) {
                 tableData.getRows().add(new ShardingSphereRowData(Collections.singletonList(ShardingSphereVersion.VERSION)));
             }
-            schemaData.getTableData().put(entry.getKey(), tableData);
+            schemaData.getTableData().put(each, tableData);
         }
         ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
         databaseData.getSchemaData().put(SHARDING_SPHERE, schemaData);
@@ -63,6 +62,10 @@ public final class MySQLShardingSphereStatisticsBuilder implements ShardingSpher
         return result;
     }
     
+    private String getTableName(final ShardingSphereSchema schema, final String tableName) {
+        return Optional.ofNullable(schema.getTables().get(tableName)).map(ShardingSphereTable::getName).orElse(tableName);
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * ShardingSphere statistics builder for PostgreSQL.
@@ -82,18 +83,22 @@ public final class PostgreSQLShardingSphereStatisticsBuilder implements Sharding
     }
     
     private void appendTableData(final Entry<String, ShardingSphereSchema> schemaEntry, final ShardingSphereSchemaData schemaData) {
-        for (Entry<String, ShardingSphereTable> entry : schemaEntry.getValue().getTables().entrySet()) {
-            ShardingSphereTableData tableData = new ShardingSphereTableData(entry.getValue().getName());
-            if (null != COLLECTED_SCHEMA_TABLES.get(schemaEntry.getKey()) && COLLECTED_SCHEMA_TABLES.get(schemaEntry.getKey()).contains(entry.getKey())) {
-                schemaData.getTableData().put(entry.getKey(), tableData);
+        for (String each : schemaEntry.getValue().getAllTableNames()) {
+            ShardingSphereTableData tableData = new ShardingSphereTableData(getTableName(schemaEntry.getValue(), each));
+            if (null != COLLECTED_SCHEMA_TABLES.get(schemaEntry.getKey()) && COLLECTED_SCHEMA_TABLES.get(schemaEntry.getKey()).contains(each)) {
+                schemaData.getTableData().put(each, tableData);
             }
-            if (null != INIT_DATA_SCHEMA_TABLES.get(schemaEntry.getKey()) && INIT_DATA_SCHEMA_TABLES.get(schemaEntry.getKey()).contains(entry.getKey())) {
+            if (null != INIT_DATA_SCHEMA_TABLES.get(schemaEntry.getKey()) && INIT_DATA_SCHEMA_TABLES.get(schemaEntry.getKey()).contains(each)) {
                 tableData.getRows().add(new ShardingSphereRowData(Collections.singletonList(ShardingSphereVersion.VERSION)));
-                schemaData.getTableData().put(entry.getKey(), tableData);
+                schemaData.getTableData().put(each, tableData);
             }
         }
     }
     
+    private String getTableName(final ShardingSphereSchema schema, final String tableName) {
+        return Optional.ofNullable(schema.getTables().get(tableName)).map(ShardingSphereTable::getName).orElse(tableName);
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
@@ -37,4 +37,6 @@ public final class YamlShardingSphereTable implements YamlConfiguration {
     private Map<String, YamlShardingSphereIndex> indexes;
     
     private Map<String, YamlShardingSphereConstraint> constraints;
+    
+    private Boolean placeholder;
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.yaml.schema.swapper;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereLazyTables;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
@@ -45,11 +46,17 @@ public final class YamlTableSwapper implements YamlConfigurationSwapper<YamlShar
         result.setIndexes(swapYamlIndexes(table.getIndexValues()));
         result.setConstraints(swapYamlConstraints(table.getConstraintValues()));
         result.setName(table.getName());
+        if (table.isPlaceholder()) {
+            result.setPlaceholder(true);
+        }
         return result;
     }
     
     @Override
     public ShardingSphereTable swapToObject(final YamlShardingSphereTable yamlConfig) {
+        if (Boolean.TRUE.equals(yamlConfig.getPlaceholder())) {
+            return ShardingSphereLazyTables.createPlaceholder(yamlConfig.getName());
+        }
         return new ShardingSphereTable(yamlConfig.getName(), swapColumns(yamlConfig.getColumns()), swapIndexes(yamlConfig.getIndexes()), swapConstraints(yamlConfig.getConstraints()));
     }
     
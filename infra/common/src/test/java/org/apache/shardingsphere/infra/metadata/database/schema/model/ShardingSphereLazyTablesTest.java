@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingSphereLazyTablesTest {
+    
+    @Test
+    void assertGetTableLoadOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Arrays.asList("T_ORDER", "t_order_item"), each -> {
+            loadCount.incrementAndGet();
+            return new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        }, 10);
+        assertThat(lazyTables.getTable("t_order").getName(), is("t_order"));
+        assertThat(lazyTables.getTable("T_ORDER").getName(), is("t_order"));
+        assertThat(loadCount.get(), is(1));
+        assertNull(lazyTables.getTable("t_user"));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetTableNotFoundInStorageUnit() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.singleton("t_order"), each -> null, 10);
+        assertTrue(lazyTables.containsTable("t_order"));
+        assertNull(lazyTables.getTable("t_order"));
+    }
+    
+    @Test
+    void assertRemoveTable() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.singleton("t_order"),
+                each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()), 10);
+        lazyTables.removeTable("T_ORDER");
+        assertFalse(lazyTables.containsTable("t_order"));
+        assertNull(lazyTables.getTable("t_order"));
+    }
+    
+    @Test
+    void assertCopy() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.singleton("t_order"), each -> {
+            loadCount.incrementAndGet();
+            return createTable(each);
+        }, 10);
+        lazyTables.getTable("t_order");
+        ShardingSphereLazyTables actual = lazyTables.copy();
+        actual.removeTable("t_order");
+        actual.addTable("t_user");
+        assertTrue(lazyTables.containsTable("t_order"));
+        assertFalse(lazyTables.containsTable("t_user"));
+        assertThat(lazyTables.getTable("t_order").getName(), is("t_order"));
+        assertThat(lazyTables.copy().getTable("t_order").getName(), is("t_order"));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    void assertSchemaWithLazyTables() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.singleton("t_order"),
+                each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()), 10);
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), lazyTables);
+        assertTrue(schema.containsTable("t_order"));
+        assertTrue(schema.getTables().isEmpty());
+        assertThat(schema.getAllTableNames(), is(Collections.singleton("t_order")));
+        assertThat(schema.getTable("t_order").getName(), is("t_order"));
+        schema.removeTable("t_order");
+        assertFalse(schema.containsTable("t_order"));
+    }
+    
+    @Test
+    void assertGetPersistedTablesWithPlaceholders() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.singleton("t_order"),
+                each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()), 10);
+        ShardingSphereSchema schema = new ShardingSphereSchema(new LinkedHashMap<>(), new LinkedHashMap<>(), lazyTables);
+        schema.putTable("t_user", createTable("t_user"));
+        assertThat(schema.getPersistedTables().size(), is(2));
+        assertFalse(schema.getPersistedTables().get("t_user").isPlaceholder());
+        assertTrue(schema.getPersistedTables().get("t_order").isPlaceholder());
+        assertThat(schema.getTables().size(), is(1));
+    }
+    
+    @Test
+    void assertPutPlaceholderTable() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.emptyList(), this::createTable, 10);
+        ShardingSphereSchema schema = new ShardingSphereSchema(new LinkedHashMap<>(), new LinkedHashMap<>(), lazyTables);
+        schema.putTable("t_order", createTable("t_order"));
+        schema.putTable("T_ORDER", ShardingSphereLazyTables.createPlaceholder("t_order"));
+        assertTrue(schema.getTables().isEmpty());
+        assertTrue(lazyTables.containsTable("t_order"));
+        assertThat(schema.getTable("t_order").getColumnValues().size(), is(1));
+    }
+    
+    @Test
+    void assertPutTableWithoutColumns() {
+        ShardingSphereLazyTables lazyTables = new ShardingSphereLazyTables(Collections.emptyList(), this::createTable, 10);
+        ShardingSphereSchema schema = new ShardingSphereSchema(new LinkedHashMap<>(), new LinkedHashMap<>(), lazyTables);
+        schema.putTable("t_empty", new ShardingSphereTable("t_empty", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertTrue(schema.getTables().containsKey("t_empty"));
+        assertFalse(lazyTables.containsTable("t_empty"));
+    }
+    
+    private ShardingSphereTable createTable(final String tableName) {
+        return new ShardingSphereTable(tableName, Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
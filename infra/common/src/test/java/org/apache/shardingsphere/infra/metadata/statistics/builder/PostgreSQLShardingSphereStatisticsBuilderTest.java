@@ -61,6 +61,7 @@ class PostgreSQLShardingSphereStatisticsBuilderTest {
     private Map<String, ShardingSphereSchema> mockSchemaMap() {
         ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
         Map<String, ShardingSphereTable> tableMap = mockTableMap();
+        when(schema.getAllTableNames()).thenReturn(tableMap.keySet());
         when(schema.getTables()).thenReturn(tableMap);
         return Collections.singletonMap("pg_catalog", schema);
     }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.yaml.schema.swapper;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereLazyTables;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
@@ -110,6 +111,14 @@ class YamlSchemaSwapperTest {
         assertTrue(new YamlSchemaSwapper().swapToObject(yamlSchema).getAllTableNames().isEmpty());
     }
     
+    @Test
+    void assertSwapPlaceholderTable() {
+        String yamlContent = YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(ShardingSphereLazyTables.createPlaceholder("t_order")));
+        assertTrue(new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(yamlContent, YamlShardingSphereTable.class)).isPlaceholder());
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        assertFalse(new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table)), YamlShardingSphereTable.class)).isPlaceholder());
+    }
+    
     @SneakyThrows({URISyntaxException.class, IOException.class})
     private String readYAML(final String yamlFile) {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource(yamlFile).toURI())).stream().map(each -> each + System.lineSeparator()).collect(Collectors.joining());
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -28,10 +29,13 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -40,6 +44,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Meta data loader.
@@ -51,6 +56,8 @@ public final class MetaDataLoader {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final int MIN_TABLES_PER_TASK = 100;
+    
     /**
      * Load meta data.
      *
@@ -59,14 +66,30 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, 1, 0L);
+    }
+    
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @param concurrencyPerStorageUnit max concurrent loading tasks for each storage unit
+     * @param timeoutMillis timeout milliseconds of loading, 0 means no timeout
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int concurrencyPerStorageUnit, final long timeoutMillis) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            for (MetaDataLoaderMaterial split : split(each, concurrencyPerStorageUnit)) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> load(split)));
+            }
         }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+                merge(result, timeoutMillis > 0L ? each.get(Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS) : each.get());
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -75,6 +98,22 @@ public final class MetaDataLoader {
                 throw (SQLException) ex.getCause();
             }
             throw new UnknownSQLException(ex).toSQLException();
+        } catch (final TimeoutException ex) {
+            futures.forEach(each -> each.cancel(true));
+            throw new SQLTimeoutException(String.format("Load meta data timeout after %s milliseconds.", timeoutMillis), ex);
+        }
+        return result;
+    }
+    
+    private static Collection<MetaDataLoaderMaterial> split(final MetaDataLoaderMaterial material, final int concurrency) {
+        int tableCount = material.getActualTableNames().size();
+        if (concurrency <= 1 || tableCount <= MIN_TABLES_PER_TASK) {
+            return Collections.singletonList(material);
+        }
+        int tablesPerTask = Math.max(MIN_TABLES_PER_TASK, (tableCount + concurrency - 1) / concurrency);
+        Collection<MetaDataLoaderMaterial> result = new LinkedList<>();
+        for (List<String> each : Lists.partition(new ArrayList<>(material.getActualTableNames()), tablesPerTask)) {
+            result.add(new MetaDataLoaderMaterial(each, material.getDataSource(), material.getStorageType(), material.getDefaultSchemaName()));
         }
         return result;
     }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetaDataLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "TRUNK");
+    
+    @Test
+    void assertLoadWithConcurrencyPerStorageUnit() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, Answers.RETURNS_DEEP_STUBS);
+        Collection<String> tableNames = IntStream.range(0, 250).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(new MetaDataLoaderMaterial(tableNames, dataSource, databaseType, "foo_db")), 3, 0L);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_db").getTables().size(), is(0));
+        verify(dataSource, times(250)).getConnection();
+    }
+    
+    @Test
+    void assertLoadWithTimeout() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(1000L);
+            return mock(Connection.class);
+        });
+        assertThrows(SQLTimeoutException.class,
+                () -> MetaDataLoader.load(Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton("t_order"), dataSource, databaseType, "foo_db")), 1, 10L));
+    }
+}
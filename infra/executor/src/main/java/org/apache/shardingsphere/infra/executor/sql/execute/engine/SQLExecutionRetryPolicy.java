@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL execution retry policy.
+ * 
+ * <p>Only statements executed in auto commit mode are retried.
+ * Queries are retried on transient exceptions except timeout, writes are retried only when the database has rolled them back.
+ * Rollback is recognized by serialization failure and deadlock SQL states or deadlock codes of the storage database type only,
+ * other states of class 40 such as 40003 (statement completion unknown) are not retried.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLExecutionRetryPolicy {
+    
+    /**
+     * Policy which never retries.
+     */
+    public static final SQLExecutionRetryPolicy NONE = new SQLExecutionRetryPolicy(0, 0L);
+    
+    private static final Collection<String> ROLLED_BACK_SQL_STATES = new HashSet<>(Arrays.asList("40001", "40P01"));
+    
+    private static final Map<String, Collection<Integer>> ROLLED_BACK_VENDOR_CODES = new HashMap<>(3, 1F);
+    
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    
+    static {
+        // MySQL deadlock 1213, SQL Server deadlock victim 1205, Oracle deadlock ORA-00060
+        ROLLED_BACK_VENDOR_CODES.put("MySQL", Collections.singleton(1213));
+        ROLLED_BACK_VENDOR_CODES.put("SQLServer", Collections.singleton(1205));
+        ROLLED_BACK_VENDOR_CODES.put("Oracle", Collections.singleton(60));
+    }
+    
+    private final int maxRetryCount;
+    
+    private final long backoffMillis;
+    
+    /**
+     * Judge whether failed execution is retryable.
+     *
+     * @param sqlStatement SQL statement
+     * @param storageType storage type
+     * @param statement failed statement
+     * @param ex SQL exception
+     * @param retriedCount retried count
+     * @return is retryable or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isRetryable(final SQLStatement sqlStatement, final DatabaseType storageType, final Statement statement, final SQLException ex, final int retriedCount) throws SQLException {
+        if (retriedCount >= maxRetryCount || !isRetryableStatement(sqlStatement, storageType, ex)) {
+            return false;
+        }
+        return !statement.isClosed() && statement.getConnection().getAutoCommit();
+    }
+    
+    private boolean isRetryableStatement(final SQLStatement sqlStatement, final DatabaseType storageType, final SQLException ex) {
+        if (sqlStatement instanceof SelectStatement) {
+            return isRolledBack(storageType, ex) || ex instanceof SQLTransientException && !(ex instanceof SQLTimeoutException);
+        }
+        if (sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement) {
+            return isRolledBack(storageType, ex);
+        }
+        return false;
+    }
+    
+    private boolean isRolledBack(final DatabaseType storageType, final SQLException ex) {
+        return null != ex.getSQLState() && ROLLED_BACK_SQL_STATES.contains(ex.getSQLState()) || getRolledBackVendorCodes(storageType).contains(ex.getErrorCode());
+    }
+    
+    private Collection<Integer> getRolledBackVendorCodes(final DatabaseType storageType) {
+        Collection<Integer> result = ROLLED_BACK_VENDOR_CODES.get(storageType.getType());
+        if (null != result) {
+            return result;
+        }
+        return storageType.getTrunkDatabaseType().map(optional -> ROLLED_BACK_VENDOR_CODES.get(optional.getType())).orElse(Collections.emptySet());
+    }
+    
+    /**
+     * Back off before retry.
+     *
+     * @param dataSourceName data source name
+     * @param retriedCount retried count
+     * @return whether to retry, false if interrupted
+     */
+    public boolean backoff(final String dataSourceName, final int retriedCount) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(backoffMillis << Math.min(retriedCount, MAX_BACKOFF_SHIFT));
+            return true;
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedged read executor.
+ * 
+ * <p>If a read has not finished after the delay, the same read is sent to the hedged data source with a new connection.
+ * The first result wins and the statement of the other read is cancelled if it is still running.
+ * Every read deposits max hedged percent of a hedge into the budget and every hedge takes one, so hedges are limited to the percent of reads.
+ * Hedges are skipped if all hedge threads are busy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HedgedReadExecutor {
+    
+    private static final HedgedReadExecutor INSTANCE = new HedgedReadExecutor();
+    
+    private static final long MAX_BUDGET_PERCENT = 1000L;
+    
+    private static final int MAX_HEDGE_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private final ScheduledThreadPoolExecutor scheduler = createScheduler();
+    
+    private final ExecutorService executor = new ThreadPoolExecutor(0, MAX_HEDGE_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("hedged-read-%d"));
+    
+    private final Map<String, LongAdder> hedgedReadCounts = new ConcurrentHashMap<>();
+    
+    private final AtomicLong budgetPercent = new AtomicLong();
+    
+    /**
+     * Get hedged read executor.
+     *
+     * @return got instance
+     */
+    public static HedgedReadExecutor getInstance() {
+        return INSTANCE;
+    }
+    
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, ExecutorThreadFactoryBuilder.build("hedged-read-scheduler-%d"));
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+    
+    /**
+     * Execute read with hedging.
+     *
+     * @param statement statement of read
+     * @param sqlUnit SQL unit of read
+     * @param hedgedDataSource hedged data source
+     * @param delayNanos delay nanoseconds before hedging
+     * @param maxHedgedPercent max percent of hedged reads
+     * @param task task to execute read with statement, whose result must not depend on the statement after returned
+     * @param <T> type of result
+     * @return result of the read which finished first
+     * @throws SQLException SQL exception
+     */
+    public <T> T execute(final Statement statement, final SQLUnit sqlUnit, final DataSource hedgedDataSource, final long delayNanos, final int maxHedgedPercent,
+                         final HedgedReadTask<T> task) throws SQLException {
+        deposit(maxHedgedPercent);
+        HedgedRead<T> hedgedRead = new HedgedRead<>(statement);
+        ScheduledFuture<?> scheduledFuture = scheduler.schedule(() -> submitHedge(hedgedRead, sqlUnit, hedgedDataSource, task), delayNanos, TimeUnit.NANOSECONDS);
+        T result;
+        try {
+            result = task.execute(statement);
+        } catch (final SQLException ex) {
+            hedgedRead.finishPrimaryRead();
+            if (scheduledFuture.cancel(false)) {
+                throw ex;
+            }
+            return hedgedRead.getHedgedResult().join().orElseThrow(() -> ex);
+        }
+        hedgedRead.finishPrimaryRead();
+        if (hedgedRead.getFinished().compareAndSet(false, true)) {
+            scheduledFuture.cancel(false);
+            hedgedRead.cancelHedgedRead();
+        }
+        return result;
+    }
+    
+    private <T> void submitHedge(final HedgedRead<T> hedgedRead, final SQLUnit sqlUnit, final DataSource hedgedDataSource, final HedgedReadTask<T> task) {
+        try {
+            executor.execute(() -> hedge(hedgedRead, sqlUnit, hedgedDataSource, task));
+        } catch (final RejectedExecutionException ignored) {
+            recordHedgedRead("skipped");
+            hedgedRead.getHedgedResult().complete(Optional.empty());
+        }
+    }
+    
+    private <T> void hedge(final HedgedRead<T> hedgedRead, final SQLUnit sqlUnit, final DataSource hedgedDataSource, final HedgedReadTask<T> task) {
+        if (hedgedRead.getFinished().get()) {
+            hedgedRead.getHedgedResult().complete(Optional.empty());
+            return;
+        }
+        if (!withdraw()) {
+            recordHedgedRead("skipped");
+            hedgedRead.getHedgedResult().complete(Optional.empty());
+            return;
+        }
+        try (
+                Connection connection = hedgedDataSource.getConnection();
+                Statement statement = createStatement(connection, hedgedRead.getStatement(), sqlUnit)) {
+            if (!hedgedRead.startHedgedRead(statement)) {
+                hedgedRead.getHedgedResult().complete(Optional.empty());
+                return;
+            }
+            T result;
+            try {
+                result = task.execute(statement);
+            } finally {
+                hedgedRead.finishHedgedRead();
+            }
+            boolean won = hedgedRead.getFinished().compareAndSet(false, true);
+            recordHedgedRead(won ? "won" : "lost");
+            hedgedRead.getHedgedResult().complete(won ? Optional.of(result) : Optional.empty());
+            if (won) {
+                hedgedRead.cancelPrimaryRead();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+            hedgedRead.getHedgedResult().complete(Optional.empty());
+        }
+    }
+    
+    private Statement createStatement(final Connection connection, final Statement statement, final SQLUnit sqlUnit) throws SQLException {
+        if (!(statement instanceof PreparedStatement)) {
+            return connection.createStatement();
+        }
+        PreparedStatement result = connection.prepareStatement(sqlUnit.getSql());
+        for (int i = 0; i < sqlUnit.getParameters().size(); i++) {
+            result.setObject(i + 1, sqlUnit.getParameters().get(i));
+        }
+        return result;
+    }
+    
+    private static void cancelQuietly(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private void deposit(final int maxHedgedPercent) {
+        budgetPercent.updateAndGet(each -> Math.min(each + maxHedgedPercent, MAX_BUDGET_PERCENT));
+    }
+    
+    private boolean withdraw() {
+        return budgetPercent.getAndUpdate(each -> each >= 100L ? each - 100L : each) >= 100L;
+    }
+    
+    private void recordHedgedRead(final String result) {
+        hedgedReadCounts.computeIfAbsent(result, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get hedged read count.
+     *
+     * @param result result of hedged read, which is won, lost or skipped
+     * @return hedged read count
+     */
+    public long getHedgedReadCount(final String result) {
+        LongAdder count = hedgedReadCounts.get(result);
+        return null == count ? 0L : count.sum();
+    }
+    
+    /**
+     * Hedged read task.
+     *
+     * @param <T> type of result
+     */
+    public interface HedgedReadTask<T> {
+        
+        /**
+         * Execute read.
+         *
+         * @param statement statement
+         * @return result
+         * @throws SQLException SQL exception
+         */
+        T execute(Statement statement) throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class HedgedRead<T> {
+        
+        private final Statement statement;
+        
+        private final AtomicBoolean finished = new AtomicBoolean();
+        
+        private final CompletableFuture<Optional<T>> hedgedResult = new CompletableFuture<>();
+        
+        @Getter(AccessLevel.NONE)
+        private boolean primaryRunning = true;
+        
+        @Getter(AccessLevel.NONE)
+        private Statement hedgedStatement;
+        
+        synchronized void finishPrimaryRead() {
+            primaryRunning = false;
+        }
+        
+        synchronized boolean startHedgedRead(final Statement hedgedStatement) {
+            if (finished.get()) {
+                return false;
+            }
+            this.hedgedStatement = hedgedStatement;
+            return true;
+        }
+        
+        synchronized void finishHedgedRead() {
+            hedgedStatement = null;
+        }
+        
+        // Statements are only cancelled while running, because finished statements may be reused or closed by their owner
+        synchronized void cancelPrimaryRead() {
+            if (primaryRunning) {
+                cancelQuietly(statement);
+            }
+        }
+        
+        synchronized void cancelHedgedRead() {
+            if (null != hedgedStatement) {
+                cancelQuietly(hedgedStatement);
+            }
+        }
+    }
+}
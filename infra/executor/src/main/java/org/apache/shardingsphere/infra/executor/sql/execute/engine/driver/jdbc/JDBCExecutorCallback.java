@@ -18,16 +18,20 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionRetryPolicy;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -54,6 +58,12 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    @Setter
+    private HedgedReadRouteStageContext hedgedReadRouteStageContext;
+    
+    @Setter
+    private String databaseName;
+    
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
@@ -79,8 +89,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            sqlExecutionHook.start(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            T result = executeSQLWithRetry(jdbcExecutionUnit, storageType);
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution();
             return result;
@@ -88,6 +98,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!storageType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishSuccess();
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
@@ -97,6 +108,56 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeSQLWithRetry(final JDBCExecutionUnit jdbcExecutionUnit, final DatabaseType storageType) throws SQLException {
+        SQLExecutionRetryPolicy retryPolicy = null;
+        int retriedCount = 0;
+        while (true) {
+            try {
+                return executeSQL(jdbcExecutionUnit, storageType);
+            } catch (final SQLException ex) {
+                if (null == retryPolicy) {
+                    retryPolicy = getRetryPolicy();
+                }
+                if (!retryPolicy.isRetryable(sqlStatement, storageType, jdbcExecutionUnit.getStorageResource(), ex, retriedCount)
+                        || !retryPolicy.backoff(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), retriedCount)) {
+                    throw ex;
+                }
+                retriedCount++;
+            }
+        }
+    }
+    
+    private T executeSQL(final JDBCExecutionUnit jdbcExecutionUnit, final DatabaseType storageType) throws SQLException {
+        String sql = jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        Optional<HedgedReadRoute> hedgedReadRoute = findHedgedReadRoute(jdbcExecutionUnit);
+        if (!hedgedReadRoute.isPresent()) {
+            return executeSQL(sql, jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+        }
+        // Results of hedged reads are loaded into memory, so statement of the read which lost can be cancelled and closed
+        return HedgedReadExecutor.getInstance().execute(jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getExecutionUnit().getSqlUnit(),
+                resourceMetaData.getStorageUnits().get(hedgedReadRoute.get().getDataSourceName()).getDataSource(), hedgedReadRoute.get().getDelayNanos(),
+                hedgedReadRouteStageContext.getMaxHedgedPercent(), statement -> executeSQL(sql, statement, ConnectionMode.CONNECTION_STRICTLY, storageType));
+    }
+    
+    private Optional<HedgedReadRoute> findHedgedReadRoute(final JDBCExecutionUnit jdbcExecutionUnit) {
+        if (null == hedgedReadRouteStageContext) {
+            return Optional.empty();
+        }
+        return hedgedReadRouteStageContext.find(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
+                .filter(each -> resourceMetaData.getStorageUnits().containsKey(each.getDataSourceName()));
+    }
+    
+    /**
+     * Get retry policy of failed execution.
+     *
+     * <p>Only proxy backend overrides it, executions of JDBC driver are never retried.</p>
+     *
+     * @return retry policy
+     */
+    protected SQLExecutionRetryPolicy getRetryPolicy() {
+        return SQLExecutionRetryPolicy.NONE;
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
@@ -68,7 +68,8 @@ public final class ProcessEngine {
         if (isMySQLDDLOrDMLStatement(queryContext.getSqlStatementContext().getSqlStatement())) {
             String processId = executionGroupContext.getReportContext().getProcessId();
             // TODO remove heldByConnection when jdbc connection support generate processId and call connect and disconnect
-            boolean heldByConnection = null != ProcessRegistry.getInstance().get(processId) && ProcessRegistry.getInstance().get(processId).isHeldByConnection();
+            Process existedProcess = ProcessRegistry.getInstance().get(processId);
+            boolean heldByConnection = null != existedProcess && existedProcess.isHeldByConnection();
             ProcessIdContext.set(processId);
             ProcessRegistry.getInstance().add(new Process(queryContext.getSql(), executionGroupContext, heldByConnection));
         }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLExecutionRetryPolicyTest {
+    
+    private final SQLExecutionRetryPolicy retryPolicy = new SQLExecutionRetryPolicy(2, 0L);
+    
+    private final DatabaseType storageType = mockDatabaseType("Oracle");
+    
+    @Test
+    void assertIsRetryableForQuery() throws SQLException {
+        Statement statement = mockStatement(true);
+        assertThat(retryPolicy.isRetryable(mock(SelectStatement.class), storageType, statement, new SQLTransientConnectionException(), 0), is(true));
+        assertThat(retryPolicy.isRetryable(mock(SelectStatement.class), storageType, statement, new SQLTimeoutException(), 0), is(false));
+        assertThat(retryPolicy.isRetryable(mock(SelectStatement.class), storageType, statement, new SQLException(), 0), is(false));
+    }
+    
+    @Test
+    void assertIsRetryableForWrite() throws SQLException {
+        Statement statement = mockStatement(true);
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), storageType, statement, new SQLException("Deadlock found", "40001"), 0), is(true));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), storageType, statement, new SQLTransactionRollbackException("deadlock detected", "40P01"), 1), is(true));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), storageType, statement, new SQLException("ORA-00060: deadlock detected", "61000", 60), 0), is(true));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), storageType, statement, new SQLTransactionRollbackException("Statement completion unknown", "40003"), 0), is(false));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), storageType, statement, new SQLTransientConnectionException(), 0), is(false));
+        assertThat(retryPolicy.isRetryable(mock(CreateTableStatement.class), storageType, statement, new SQLTransactionRollbackException(), 0), is(false));
+    }
+    
+    @Test
+    void assertIsRetryableForWriteWithVendorCodeOfStorageType() throws SQLException {
+        Statement statement = mockStatement(true);
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), mockDatabaseType("MySQL"), statement, new SQLException("Deadlock found", "HY000", 1213), 0), is(true));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), mockDatabaseType("MySQL"), statement, new SQLException("Transaction was deadlocked", "HY000", 1205), 0), is(false));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), mockDatabaseType("PostgreSQL"), statement, new SQLException("Deadlock found", "HY000", 1213), 0), is(false));
+        DatabaseType trunkStorageType = mockDatabaseType("MariaDB");
+        DatabaseType mySQLDatabaseType = mockDatabaseType("MySQL");
+        when(trunkStorageType.getTrunkDatabaseType()).thenReturn(Optional.of(mySQLDatabaseType));
+        assertThat(retryPolicy.isRetryable(mock(UpdateStatement.class), trunkStorageType, statement, new SQLException("Deadlock found", "HY000", 1213), 0), is(true));
+    }
+    
+    @Test
+    void assertIsNotRetryableWhenRetriedCountExceeded() throws SQLException {
+        assertThat(retryPolicy.isRetryable(mock(SelectStatement.class), storageType, mockStatement(true), new SQLTransientConnectionException(), 2), is(false));
+        assertThat(SQLExecutionRetryPolicy.NONE.isRetryable(mock(SelectStatement.class), storageType, mockStatement(true), new SQLTransientConnectionException(), 0), is(false));
+    }
+    
+    @Test
+    void assertIsNotRetryableInTransaction() throws SQLException {
+        assertThat(retryPolicy.isRetryable(mock(SelectStatement.class), storageType, mockStatement(false), new SQLTransientConnectionException(), 0), is(false));
+    }
+    
+    @Test
+    void assertBackoff() {
+        assertThat(retryPolicy.backoff("foo_ds", 1), is(true));
+    }
+    
+    private DatabaseType mockDatabaseType(final String type) {
+        DatabaseType result = mock(DatabaseType.class);
+        when(result.getType()).thenReturn(type);
+        return result;
+    }
+    
+    private Statement mockStatement(final boolean autoCommit) throws SQLException {
+        Statement result = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getAutoCommit()).thenReturn(autoCommit);
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgedReadExecutorTest {
+    
+    private final SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order WHERE order_id = 1", Collections.emptyList());
+    
+    @Test
+    void assertExecuteWithoutHedgeWhenReadFinishedBeforeDelay() throws SQLException {
+        DataSource hedgedDataSource = mock(DataSource.class);
+        Statement statement = mock(Statement.class);
+        String actual = HedgedReadExecutor.getInstance().execute(statement, sqlUnit, hedgedDataSource, TimeUnit.SECONDS.toNanos(10L), 100, each -> "routed");
+        assertThat(actual, is("routed"));
+        verify(hedgedDataSource, never()).getConnection();
+    }
+    
+    @Test
+    void assertExecuteWithHedgeFinishedFirst() throws SQLException {
+        Statement statement = mock(Statement.class);
+        CountDownLatch cancelledLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelledLatch.countDown();
+            return null;
+        }).when(statement).cancel();
+        Statement hedgedStatement = mock(Statement.class);
+        Connection hedgedConnection = mock(Connection.class);
+        when(hedgedConnection.createStatement()).thenReturn(hedgedStatement);
+        DataSource hedgedDataSource = mock(DataSource.class);
+        when(hedgedDataSource.getConnection()).thenReturn(hedgedConnection);
+        String actual = HedgedReadExecutor.getInstance().execute(statement, sqlUnit, hedgedDataSource, 0L, 100, each -> {
+            if (each == hedgedStatement) {
+                return "hedged";
+            }
+            awaitCancelled(cancelledLatch);
+            throw new SQLException("Query execution was interrupted");
+        });
+        assertThat(actual, is("hedged"));
+        verify(statement).cancel();
+        verify(hedgedStatement, timeout(1000L)).close();
+        verify(hedgedConnection, timeout(1000L)).close();
+    }
+    
+    private void awaitCancelled(final CountDownLatch cancelledLatch) {
+        try {
+            cancelledLatch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hedged read route stage context.
+ * 
+ * <p>Reads routed to a data source can be sent again to its hedged read route if they have not finished after the delay.</p>
+ */
+@RequiredArgsConstructor
+public final class HedgedReadRouteStageContext implements RouteStageContext {
+    
+    private final Map<String, HedgedReadRoute> routes = new LinkedHashMap<>();
+    
+    @Getter
+    private final int maxHedgedPercent;
+    
+    /**
+     * Add hedged read route.
+     *
+     * @param routedDataSourceName routed data source name
+     * @param route hedged read route
+     */
+    public void add(final String routedDataSourceName, final HedgedReadRoute route) {
+        routes.put(routedDataSourceName, route);
+    }
+    
+    /**
+     * Find hedged read route.
+     *
+     * @param routedDataSourceName routed data source name
+     * @return found hedged read route
+     */
+    public Optional<HedgedReadRoute> find(final String routedDataSourceName) {
+        return Optional.ofNullable(routes.get(routedDataSourceName));
+    }
+    
+    /**
+     * Judge whether hedged read routes are empty.
+     *
+     * @return empty or not
+     */
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+}
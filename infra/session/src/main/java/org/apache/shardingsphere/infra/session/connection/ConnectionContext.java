@@ -49,6 +49,9 @@ public final class ConnectionContext implements AutoCloseable {
     @Setter
     private String trafficInstanceId;
     
+    @Setter
+    private volatile long readWriteSplitLastWriteMillis;
+    
     public ConnectionContext() {
         this(Collections::emptySet);
     }
@@ -112,6 +115,7 @@ public final class ConnectionContext implements AutoCloseable {
     @Override
     public void close() {
         trafficInstanceId = null;
+        readWriteSplitLastWriteMillis = 0L;
         clearCursorConnectionContext();
         clearTransactionConnectionContext();
     }
@@ -62,6 +62,8 @@ public class DumperConfiguration {
     
     private boolean decodeWithTX;
     
+    private int decodeConcurrency = 1;
+    
     /**
      * Get logic table name.
      *
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Write set dependency scheduler.
+ *
+ * <p>
+ * Splits data records into source transactions and arranges them into apply rounds.
+ * Transactions in the same round have disjoint write sets and could be applied concurrently,
+ * a transaction which conflicts with an earlier one is always put into a later round, so commit order of conflicting transactions is kept.
+ * </p>
+ */
+public final class WriteSetDependencyScheduler {
+    
+    /**
+     * Schedule data records into apply rounds.
+     *
+     * @param dataRecords data records in source commit order
+     * @return apply rounds, transactions inside one round are independent of each other
+     */
+    public List<List<DataRecordTransaction>> schedule(final List<DataRecord> dataRecords) {
+        List<List<DataRecordTransaction>> result = new ArrayList<>();
+        Map<Key, Integer> keyRounds = new HashMap<>();
+        Map<String, Integer> tableRounds = new HashMap<>();
+        Map<String, Integer> tableBarrierRounds = new HashMap<>();
+        for (DataRecordTransaction each : splitTransactions(dataRecords)) {
+            int round = getRound(each, keyRounds, tableRounds, tableBarrierRounds);
+            if (round == result.size()) {
+                result.add(new LinkedList<>());
+            }
+            result.get(round).add(each);
+            markWriteSet(each, round, keyRounds, tableRounds, tableBarrierRounds);
+        }
+        return result;
+    }
+    
+    private List<DataRecordTransaction> splitTransactions(final List<DataRecord> dataRecords) {
+        List<DataRecordTransaction> result = new LinkedList<>();
+        List<DataRecord> current = new LinkedList<>();
+        for (DataRecord each : dataRecords) {
+            if (!current.isEmpty() && !isSameTransaction(current.get(current.size() - 1), each)) {
+                result.add(new DataRecordTransaction(current));
+                current = new LinkedList<>();
+            }
+            current.add(each);
+        }
+        if (!current.isEmpty()) {
+            result.add(new DataRecordTransaction(current));
+        }
+        return result;
+    }
+    
+    private boolean isSameTransaction(final DataRecord previous, final DataRecord current) {
+        return null != previous.getCsn() && Objects.equals(previous.getCsn(), current.getCsn());
+    }
+    
+    private int getRound(final DataRecordTransaction transaction, final Map<Key, Integer> keyRounds, final Map<String, Integer> tableRounds, final Map<String, Integer> tableBarrierRounds) {
+        int result = 0;
+        for (DataRecord each : transaction.getDataRecords()) {
+            String tableName = each.getTableName();
+            Collection<Key> writeSet = getWriteSet(each);
+            if (writeSet.isEmpty()) {
+                result = Math.max(result, tableRounds.getOrDefault(tableName, -1) + 1);
+                continue;
+            }
+            result = Math.max(result, tableBarrierRounds.getOrDefault(tableName, -1) + 1);
+            for (Key key : writeSet) {
+                result = Math.max(result, keyRounds.getOrDefault(key, -1) + 1);
+            }
+        }
+        return result;
+    }
+    
+    private void markWriteSet(final DataRecordTransaction transaction, final int round, final Map<Key, Integer> keyRounds, final Map<String, Integer> tableRounds,
+                              final Map<String, Integer> tableBarrierRounds) {
+        for (DataRecord each : transaction.getDataRecords()) {
+            String tableName = each.getTableName();
+            tableRounds.merge(tableName, round, Math::max);
+            Collection<Key> writeSet = getWriteSet(each);
+            if (writeSet.isEmpty()) {
+                tableBarrierRounds.merge(tableName, round, Math::max);
+                continue;
+            }
+            for (Key key : writeSet) {
+                keyRounds.put(key, round);
+            }
+        }
+    }
+    
+    private Collection<Key> getWriteSet(final DataRecord dataRecord) {
+        Collection<Key> result = new LinkedHashSet<>(2, 1F);
+        if (dataRecord.getUniqueKeyValue().isEmpty()) {
+            return result;
+        }
+        if (!IngestDataChangeType.DELETE.equals(dataRecord.getType()) && !dataRecord.getUniqueKeyValue().contains(null)) {
+            result.add(dataRecord.getKey());
+        }
+        if (!dataRecord.getOldUniqueKeyValues().contains(null)) {
+            result.add(dataRecord.getOldKey());
+        }
+        return result;
+    }
+}
@@ -36,6 +36,8 @@ import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineImportS
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordMerger;
+import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordTransaction;
+import org.apache.shardingsphere.data.pipeline.core.importer.WriteSetDependencyScheduler;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 
 import javax.sql.DataSource;
@@ -43,10 +45,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +65,8 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final WriteSetDependencyScheduler SCHEDULER = new WriteSetDependencyScheduler();
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -66,17 +76,29 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final PipelineImportSQLBuilder importSQLBuilder;
     
-    private final AtomicReference<Statement> batchInsertStatement = new AtomicReference<>();
-    
-    private final AtomicReference<Statement> updateStatement = new AtomicReference<>();
+    private final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
     
-    private final AtomicReference<Statement> batchDeleteStatement = new AtomicReference<>();
+    private final ExecutorService applyExecutor;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, null);
+    }
+    
+    /**
+     * Create pipeline data source sink.
+     *
+     * <p>Apply executor is owned by job process context and shared by all sinks of the job, it is not shut down on sink closing.</p>
+     *
+     * @param importerConfig importer configuration
+     * @param dataSourceManager data source manager
+     * @param applyExecutor apply executor for independent transactions, null means apply sequentially
+     */
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final ExecutorService applyExecutor) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
         rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        this.applyExecutor = 1 < importerConfig.getConcurrency() ? applyExecutor : null;
     }
     
     @Override
@@ -100,6 +122,10 @@ public final class PipelineDataSourceSink implements PipelineSink {
                 insertRecordNumber++;
             }
         }
+        if (null != applyExecutor && 1 < dataRecords.size() && insertRecordNumber != dataRecords.size()) {
+            parallelFlush(dataSource, dataRecords);
+            return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
+        }
         List<GroupedDataRecord> result = MERGER.group(dataRecords);
         for (GroupedDataRecord each : result) {
             flushInternal(dataSource, each.getBatchDeleteDataRecords());
@@ -110,18 +136,60 @@ public final class PipelineDataSourceSink implements PipelineSink {
         return new PipelineJobProgressUpdatedParameter(insertRecordNumber);
     }
     
+    private void parallelFlush(final DataSource dataSource, final List<DataRecord> dataRecords) {
+        for (List<DataRecordTransaction> each : SCHEDULER.schedule(dataRecords)) {
+            Collection<Future<?>> futures = new LinkedList<>();
+            for (List<DataRecord> partition : partitionTransactions(each)) {
+                futures.add(applyExecutor.submit(() -> tryFlush(dataSource, partition, true)));
+            }
+            waitFlushed(futures);
+        }
+    }
+    
+    private Collection<List<DataRecord>> partitionTransactions(final List<DataRecordTransaction> transactions) {
+        int partitionCount = Math.min(importerConfig.getConcurrency(), transactions.size());
+        List<List<DataRecord>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new LinkedList<>());
+        }
+        int index = 0;
+        for (DataRecordTransaction each : transactions) {
+            result.get(index++ % partitionCount).addAll(each.getDataRecords());
+        }
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitFlushed(final Collection<Future<?>> futures) {
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof PipelineImporterJobWriteException) {
+                    throw (PipelineImporterJobWriteException) cause;
+                }
+                throw new PipelineImporterJobWriteException(ex);
+            }
+        }
+    }
+    
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
         if (null == buffer || buffer.isEmpty()) {
             return;
         }
-        tryFlush(dataSource, buffer);
+        tryFlush(dataSource, buffer, false);
     }
     
     @SneakyThrows(InterruptedException.class)
-    private void tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private void tryFlush(final DataSource dataSource, final List<DataRecord> buffer, final boolean independentRecords) {
         for (int i = 0; !Thread.interrupted() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                if (independentRecords) {
+                    doGroupedFlush(dataSource, buffer);
+                } else {
+                    doFlush(dataSource, buffer);
+                }
                 return;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -162,6 +230,36 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void doGroupedFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            for (GroupedDataRecord each : MERGER.group(buffer)) {
+                if (!each.getBatchDeleteDataRecords().isEmpty()) {
+                    if (null != rateLimitAlgorithm) {
+                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
+                    }
+                    executeBatchDelete(connection, each.getBatchDeleteDataRecords());
+                }
+                if (!each.getBatchInsertDataRecords().isEmpty()) {
+                    if (null != rateLimitAlgorithm) {
+                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
+                    }
+                    executeBatchInsert(connection, each.getBatchInsertDataRecords());
+                }
+                if (!each.getBatchUpdateDataRecords().isEmpty()) {
+                    if (null != rateLimitAlgorithm) {
+                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
+                    }
+                    executeUpdate(connection, each.getBatchUpdateDataRecords());
+                }
+                for (DataRecord nonBatchRecord : each.getNonBatchRecords()) {
+                    doFlush(connection, nonBatchRecord);
+                }
+            }
+            connection.commit();
+        }
+    }
+    
     private void doFlush(final Connection connection, final List<DataRecord> buffer) {
         // TODO it's better use transaction, but execute delete maybe not effect when open transaction of PostgreSQL sometimes
         for (DataRecord each : buffer) {
@@ -201,17 +299,19 @@ public final class PipelineDataSourceSink implements PipelineSink {
         DataRecord dataRecord = dataRecords.get(0);
         String insertSql = importSQLBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
-            batchInsertStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    for (int i = 0; i < each.getColumnCount(); i++) {
+                        preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    }
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
+                preparedStatement.executeBatch();
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-            preparedStatement.executeBatch();
-        } finally {
-            batchInsertStatement.set(null);
         }
     }
     
@@ -231,26 +331,28 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
         String updateSql = importSQLBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
+            runningStatements.add(preparedStatement);
+            try {
+                for (int i = 0; i < setColumns.size(); i++) {
+                    preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
                 }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
-            // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, setColumns, conditionColumns);
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+                    if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                        preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                        continue;
+                    }
+                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+                }
+                // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
+                int updateCount = preparedStatement.executeUpdate();
+                if (1 != updateCount) {
+                    log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, setColumns, conditionColumns);
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-        } finally {
-            updateStatement.set(null);
         }
     }
     
@@ -259,22 +361,24 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            batchDeleteStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record={}", each);
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
+                    for (int i = 0; i < conditionColumns.size(); i++) {
+                        Object oldValue = conditionColumns.get(i).getOldValue();
+                        if (null == oldValue) {
+                            log.warn("Record old value is null, record={}", each);
+                        }
+                        preparedStatement.setObject(i + 1, oldValue);
                     }
-                    preparedStatement.setObject(i + 1, oldValue);
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
+                preparedStatement.executeBatch();
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-            preparedStatement.executeBatch();
-        } finally {
-            batchDeleteStatement.set(null);
         }
     }
     
@@ -291,8 +395,8 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public void close() {
-        PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
-        PipelineJdbcUtils.cancelStatement(updateStatement.get());
-        PipelineJdbcUtils.cancelStatement(batchDeleteStatement.get());
+        for (Statement each : runningStatements) {
+            PipelineJdbcUtils.cancelStatement(each);
+        }
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class WriteSetDependencySchedulerTest {
+    
+    private final WriteSetDependencyScheduler scheduler = new WriteSetDependencyScheduler();
+    
+    @Test
+    void assertScheduleIndependentRecords() {
+        List<List<DataRecordTransaction>> actual = scheduler.schedule(Arrays.asList(mockDataRecord(IngestDataChangeType.UPDATE, 1), mockDataRecord(IngestDataChangeType.UPDATE, 2),
+                mockDataRecord(IngestDataChangeType.DELETE, 3)));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).size(), is(3));
+    }
+    
+    @Test
+    void assertScheduleConflictedRecords() {
+        DataRecord insertRecord = mockDataRecord(IngestDataChangeType.INSERT, 1);
+        DataRecord deleteRecord = mockDataRecord(IngestDataChangeType.DELETE, 1);
+        List<List<DataRecordTransaction>> actual = scheduler.schedule(Arrays.asList(insertRecord, mockDataRecord(IngestDataChangeType.INSERT, 2), deleteRecord));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(2));
+        assertThat(actual.get(0).get(0).getDataRecords().get(0), sameInstance(insertRecord));
+        assertThat(actual.get(1).size(), is(1));
+        assertThat(actual.get(1).get(0).getDataRecords().get(0), sameInstance(deleteRecord));
+    }
+    
+    @Test
+    void assertScheduleUpdatePrimaryKey() {
+        DataRecord updateRecord = new DataRecord(IngestDataChangeType.UPDATE, "t_order", new PlaceholderPosition(), 2);
+        updateRecord.addColumn(new Column("id", 1, 2, true, true));
+        updateRecord.addColumn(new Column("status", "ok", true, false));
+        List<List<DataRecordTransaction>> actual = scheduler.schedule(Arrays.asList(updateRecord, mockDataRecord(IngestDataChangeType.UPDATE, 1), mockDataRecord(IngestDataChangeType.UPDATE, 2)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1).size(), is(2));
+    }
+    
+    @Test
+    void assertScheduleSameTransactionRecords() {
+        DataRecord firstRecord = mockDataRecord(IngestDataChangeType.UPDATE, 1);
+        firstRecord.setCsn(10L);
+        DataRecord secondRecord = mockDataRecord(IngestDataChangeType.UPDATE, 2);
+        secondRecord.setCsn(10L);
+        DataRecord thirdRecord = mockDataRecord(IngestDataChangeType.UPDATE, 2);
+        thirdRecord.setCsn(11L);
+        List<List<DataRecordTransaction>> actual = scheduler.schedule(Arrays.asList(firstRecord, secondRecord, thirdRecord, mockDataRecord(IngestDataChangeType.UPDATE, 3)));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(2));
+        assertThat(actual.get(0).get(0).getDataRecords().size(), is(2));
+        assertThat(actual.get(1).get(0).getDataRecords().get(0), sameInstance(thirdRecord));
+    }
+    
+    @Test
+    void assertScheduleRecordWithoutUniqueKey() {
+        DataRecord dataRecord = new DataRecord(IngestDataChangeType.UPDATE, "t_order", new PlaceholderPosition(), 1);
+        dataRecord.addColumn(new Column("status", "ok", true, false));
+        List<List<DataRecordTransaction>> actual = scheduler.schedule(Arrays.asList(mockDataRecord(IngestDataChangeType.UPDATE, 1), dataRecord, mockDataRecord(IngestDataChangeType.UPDATE, 2)));
+        assertThat(actual.size(), is(3));
+    }
+    
+    private DataRecord mockDataRecord(final String type, final int id) {
+        DataRecord result = new DataRecord(type, "t_order", new PlaceholderPosition(), 2);
+        if (IngestDataChangeType.DELETE.equals(type)) {
+            result.addColumn(new Column("id", id, null, true, true));
+        } else {
+            result.addColumn(new Column("id", id, true, true));
+        }
+        result.addColumn(new Column("status", "ok", true, false));
+        return result;
+    }
+}
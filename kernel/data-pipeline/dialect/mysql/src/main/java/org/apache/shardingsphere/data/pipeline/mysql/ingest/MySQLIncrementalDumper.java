@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.mysql.ingest;
 
 import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
@@ -46,11 +47,13 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRo
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.ConnectInfo;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandler;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropertiesParser;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
@@ -58,9 +61,16 @@ import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
@@ -80,6 +90,12 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new ConcurrentHashMap<>();
+    
+    private final ExecutorService decodeExecutor;
+    
+    private final Queue<Future<List<Record>>> decodingRecords = new LinkedList<>();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -92,8 +108,15 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         ConnectionProperties connectionProps = parser.parse(jdbcConfig.getUrl(), null, null);
         ConnectInfo connectInfo = new ConnectInfo(generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", jdbcConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLClient(connectInfo, dumperConfig.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLClient(connectInfo, dumperConfig.isDecodeWithTX(), this::isSubscribedTable);
+        decodeExecutor = 1 < dumperConfig.getDecodeConcurrency()
+                ? Executors.newFixedThreadPool(dumperConfig.getDecodeConcurrency(), ExecutorThreadFactoryBuilder.build("pipeline-mysql-decode-" + dumperConfig.getDataSourceName() + "-%d"))
+                : null;
+    }
+    
+    private boolean isSubscribedTable(final MySQLBinlogTableMapEventPacket tableMapEventPacket) {
+        return Objects.equals(catalog, tableMapEventPacket.getSchemaName()) && dumperConfig.containsTable(tableMapEventPacket.getTableName());
     }
     
     private int generateServerId() {
@@ -107,26 +130,44 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
         while (isRunning()) {
             List<AbstractBinlogEvent> events = client.poll();
-            if (events.isEmpty()) {
+            if (null == decodeExecutor) {
+                if (!events.isEmpty()) {
+                    pushRecords(convertEvents(events));
+                }
                 continue;
             }
-            handleEvents(events);
+            if (!events.isEmpty()) {
+                decodingRecords.add(decodeExecutor.submit(() -> convertEvents(events)));
+            }
+            pushDecodedRecords(decodingRecords.size() > dumperConfig.getDecodeConcurrency() * 2);
         }
     }
     
-    private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+    private List<Record> convertEvents(final List<AbstractBinlogEvent> events) {
+        List<Record> result = new LinkedList<>();
         for (AbstractBinlogEvent each : events) {
             if (!(each instanceof AbstractRowsEvent)) {
-                dataRecords.add(createPlaceholderRecord(each));
+                result.add(createPlaceholderRecord(each));
                 continue;
             }
-            dataRecords.addAll(handleEvent(each));
+            result.addAll(handleEvent(each));
         }
-        if (dataRecords.isEmpty()) {
-            return;
+        return result;
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    private void pushDecodedRecords(final boolean waitFirst) {
+        boolean wait = waitFirst;
+        while (!decodingRecords.isEmpty() && (wait || decodingRecords.peek().isDone())) {
+            pushRecords(decodingRecords.poll().get());
+            wait = false;
+        }
+    }
+    
+    private void pushRecords(final List<Record> records) {
+        if (!records.isEmpty()) {
+            channel.pushRecords(records);
         }
-        channel.pushRecords(dataRecords);
     }
     
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
@@ -161,13 +202,16 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     }
     
     private List<DataRecord> handleWriteRowsEvent(final WriteRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        Set<ColumnName> columnNameSet = dumperConfig.getColumnNameSet(event.getTableName()).orElse(null);
         List<DataRecord> result = new LinkedList<>();
+        PipelineColumnMetaData[] neededColumns = null;
         for (Serializable[] each : event.getAfterRows()) {
+            if (null == neededColumns) {
+                neededColumns = getNeededColumns(event.getTableName(), tableMetaData, each.length);
+            }
             DataRecord dataRecord = createDataRecord(IngestDataChangeType.INSERT, event, each.length);
             for (int i = 0; i < each.length; i++) {
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                if (isColumnUnneeded(columnNameSet, columnMetaData.getName())) {
+                PipelineColumnMetaData columnMetaData = neededColumns[i];
+                if (null == columnMetaData) {
                     continue;
                 }
                 dataRecord.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
@@ -177,25 +221,38 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         return result;
     }
     
+    private PipelineColumnMetaData[] getNeededColumns(final String actualTableName, final PipelineTableMetaData tableMetaData, final int columnCount) {
+        Set<ColumnName> columnNameSet = dumperConfig.getColumnNameSet(actualTableName).orElse(null);
+        PipelineColumnMetaData[] result = new PipelineColumnMetaData[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
+            result[i] = isColumnUnneeded(columnNameSet, columnMetaData.getName()) ? null : columnMetaData;
+        }
+        return result;
+    }
+    
     private boolean isColumnUnneeded(final Set<ColumnName> columnNameSet, final String columnName) {
         return null != columnNameSet && !columnNameSet.contains(new ColumnName(columnName));
     }
     
     private List<DataRecord> handleUpdateRowsEvent(final UpdateRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        Set<ColumnName> columnNameSet = dumperConfig.getColumnNameSet(event.getTableName()).orElse(null);
         List<DataRecord> result = new LinkedList<>();
+        PipelineColumnMetaData[] neededColumns = null;
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
+            if (null == neededColumns) {
+                neededColumns = getNeededColumns(event.getTableName(), tableMetaData, beforeValues.length);
+            }
             DataRecord dataRecord = createDataRecord(IngestDataChangeType.UPDATE, event, beforeValues.length);
             for (int j = 0; j < beforeValues.length; j++) {
+                PipelineColumnMetaData columnMetaData = neededColumns[j];
+                if (null == columnMetaData) {
+                    continue;
+                }
                 Serializable oldValue = beforeValues[j];
                 Serializable newValue = afterValues[j];
                 boolean updated = !Objects.equals(newValue, oldValue);
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j + 1);
-                if (isColumnUnneeded(columnNameSet, columnMetaData.getName())) {
-                    continue;
-                }
                 dataRecord.addColumn(new Column(columnMetaData.getName(),
                         handleValue(columnMetaData, oldValue),
                         handleValue(columnMetaData, newValue), updated, columnMetaData.isUniqueKey()));
@@ -206,13 +263,16 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     }
     
     private List<DataRecord> handleDeleteRowsEvent(final DeleteRowsEvent event, final PipelineTableMetaData tableMetaData) {
-        Set<ColumnName> columnNameSet = dumperConfig.getColumnNameSet(event.getTableName()).orElse(null);
         List<DataRecord> result = new LinkedList<>();
+        PipelineColumnMetaData[] neededColumns = null;
         for (Serializable[] each : event.getBeforeRows()) {
+            if (null == neededColumns) {
+                neededColumns = getNeededColumns(event.getTableName(), tableMetaData, each.length);
+            }
             DataRecord dataRecord = createDataRecord(IngestDataChangeType.DELETE, event, each.length);
             for (int i = 0, length = each.length; i < length; i++) {
-                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                if (isColumnUnneeded(columnNameSet, columnMetaData.getName())) {
+                PipelineColumnMetaData columnMetaData = neededColumns[i];
+                if (null == columnMetaData) {
                     continue;
                 }
                 dataRecord.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), null, true, columnMetaData.isUniqueKey()));
@@ -229,7 +289,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -247,5 +307,8 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         if (null != client) {
             client.closeChannel();
         }
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdownNow();
+        }
     }
 }
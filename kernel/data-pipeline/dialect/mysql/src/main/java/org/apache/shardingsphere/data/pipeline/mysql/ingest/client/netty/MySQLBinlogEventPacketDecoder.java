@@ -45,6 +45,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -58,10 +59,18 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final Predicate<MySQLBinlogTableMapEventPacket> rowsEventTableFilter;
+    
     private List<AbstractBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, tableMapEventPacket -> true);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX,
+                                         final Predicate<MySQLBinlogTableMapEventPacket> rowsEventTableFilter) {
         this.decodeWithTX = decodeWithTX;
+        this.rowsEventTableFilter = rowsEventTableFilter;
         binlogContext = new BinlogContext(checksumLength, tableMap);
     }
     
@@ -157,13 +166,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return decodeRowsEvent(binlogEventHeader, payload);
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader.getChecksumLength(), payload));
             case XID_EVENT:
@@ -195,18 +202,34 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(packet.getTableId(), packet);
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<AbstractBinlogEvent> decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
+        if (!rowsEventTableFilter.test(tableMapEventPacket)) {
+            skipRemainData(binlogEventHeader, payload);
+            return Optional.empty();
+        }
+        packet.readRows(tableMapEventPacket, payload);
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case WRITE_ROWS_EVENT_V1:
+            case WRITE_ROWS_EVENT_V2:
+                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, packet));
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, packet));
+            default:
+                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, packet));
+        }
+    }
+    
+    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet) {
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
         result.setAfterRows(packet.getRows());
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet) {
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
         result.setBeforeRows(packet.getRows());
@@ -214,9 +237,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
+    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket packet) {
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
         result.setBeforeRows(packet.getRows());
@@ -234,11 +255,15 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private PlaceholderEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         PlaceholderEvent result = createPlaceholderEvent(binlogEventHeader);
+        skipRemainData(binlogEventHeader, payload);
+        return result;
+    }
+    
+    private void skipRemainData(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         int remainDataLength = binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength() - payload.getByteBuf().readerIndex();
         if (remainDataLength > 0) {
             payload.skipReserved(remainDataLength);
         }
-        return result;
     }
     
     private QueryEvent decodeQueryEvent(final int checksumLength, final MySQLPacketPayload payload) {
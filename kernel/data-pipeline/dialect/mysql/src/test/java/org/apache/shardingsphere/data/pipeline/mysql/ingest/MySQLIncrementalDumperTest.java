@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteR
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -55,19 +57,31 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -222,4 +236,92 @@ class MySQLIncrementalDumperTest {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
+    
+    @Test
+    void assertPushRecordsInBinlogOrderWithDecodeConcurrency() throws ReflectiveOperationException, InterruptedException {
+        dumperConfig.setDecodeConcurrency(4);
+        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+        when(metaDataLoader.getTableMetaData(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(200L);
+            return pipelineTableMetaData;
+        });
+        PipelineChannel channel = mock(PipelineChannel.class);
+        List<Record> pushedRecords = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> pushedRecords.addAll(invocation.getArgument(0))).when(channel).pushRecords(anyList());
+        MySQLIncrementalDumper dumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
+        mockClient(dumper, Arrays.asList(createWriteRowsEvent(1L), createPlaceholderEvent(2L), createPlaceholderEvent(3L)));
+        Thread dumperThread = new Thread(dumper);
+        dumperThread.start();
+        verify(channel, timeout(5000L).times(3)).pushRecords(anyList());
+        dumper.stop();
+        dumperThread.join(5000L);
+        assertThat(pushedRecords.stream().map(each -> ((BinlogPosition) each.getPosition()).getPosition()).collect(Collectors.toList()), is(Arrays.asList(1L, 2L, 3L)));
+    }
+    
+    @Test
+    void assertPollBlockedWhenDecodeWindowIsFull() throws ReflectiveOperationException, InterruptedException {
+        dumperConfig.setDecodeConcurrency(2);
+        CountDownLatch decodeLatch = new CountDownLatch(1);
+        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+        when(metaDataLoader.getTableMetaData(any(), any())).thenAnswer(invocation -> {
+            decodeLatch.await();
+            return pipelineTableMetaData;
+        });
+        PipelineChannel channel = mock(PipelineChannel.class);
+        MySQLIncrementalDumper dumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
+        List<AbstractBinlogEvent> events = new LinkedList<>();
+        events.add(createWriteRowsEvent(1L));
+        for (long i = 2L; i <= 7L; i++) {
+            events.add(createPlaceholderEvent(i));
+        }
+        MySQLClient client = mockClient(dumper, events);
+        Thread dumperThread = new Thread(dumper);
+        dumperThread.start();
+        verify(client, timeout(5000L).times(5)).poll();
+        verify(client, after(200L).times(5)).poll();
+        verify(channel, never()).pushRecords(anyList());
+        decodeLatch.countDown();
+        verify(channel, timeout(5000L).times(7)).pushRecords(anyList());
+        dumper.stop();
+        dumperThread.join(5000L);
+    }
+    
+    @Test
+    void assertDecodeExecutorShutdownWhenStop() throws ReflectiveOperationException, InterruptedException {
+        dumperConfig.setDecodeConcurrency(2);
+        MySQLIncrementalDumper dumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L, 0L), mock(PipelineChannel.class), mock(PipelineTableMetaDataLoader.class));
+        MySQLClient client = mockClient(dumper, Collections.emptyList());
+        Thread dumperThread = new Thread(dumper);
+        dumperThread.start();
+        verify(client, timeout(5000L).atLeastOnce()).poll();
+        dumper.stop();
+        dumperThread.join(5000L);
+        verify(client).closeChannel();
+        assertTrue(((ExecutorService) Plugins.getMemberAccessor().get(MySQLIncrementalDumper.class.getDeclaredField("decodeExecutor"), dumper)).isShutdown());
+    }
+    
+    private MySQLClient mockClient(final MySQLIncrementalDumper dumper, final List<AbstractBinlogEvent> events) throws ReflectiveOperationException {
+        MySQLClient result = mock(MySQLClient.class);
+        Iterator<AbstractBinlogEvent> iterator = events.iterator();
+        when(result.poll()).thenAnswer(invocation -> iterator.hasNext() ? Collections.singletonList(iterator.next()) : Collections.emptyList());
+        Plugins.getMemberAccessor().set(MySQLIncrementalDumper.class.getDeclaredField("client"), dumper, result);
+        return result;
+    }
+    
+    private WriteRowsEvent createWriteRowsEvent(final long position) {
+        WriteRowsEvent result = new WriteRowsEvent();
+        result.setDatabaseName("test");
+        result.setTableName("t_order");
+        result.setAfterRows(Collections.singletonList(new Serializable[]{101, 1, "OK"}));
+        result.setFileName("binlog-000001");
+        result.setPosition(position);
+        return result;
+    }
+    
+    private PlaceholderEvent createPlaceholderEvent(final long position) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        result.setFileName("binlog-000001");
+        result.setPosition(position);
+        return result;
+    }
 }
@@ -174,6 +174,22 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeRowEventOfUnsubscribedTable() {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, binlogContext.getTableMap(), true, tableMapEventPacket -> false);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        binlogContext.getTableMap().put(116L, tableMapEventPacket);
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(1));
+        assertThat(actualEventList.get(0), instanceOf(XidEvent.class));
+    }
+    
     @Test
     void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -33,14 +33,23 @@ import java.sql.SQLException;
 
 /**
  * PostgreSQL WAL position initializer.
+ *
+ * <p>The replication slot is created with pgoutput plugin if publication {@value #PUBLICATION_NAME} is created by user, otherwise with test_decoding plugin.</p>
  */
 @Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
+    /**
+     * Publication name of pgoutput plugin.
+     */
+    public static final String PUBLICATION_NAME = "shardingsphere_pipeline";
+    
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final String PG_OUTPUT_PLUGIN = "pgoutput";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
@@ -61,7 +70,7 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, getDecodePlugin(connection));
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -71,11 +80,22 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private String getDecodePlugin(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return DECODE_PLUGIN;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? PG_OUTPUT_PLUGIN : DECODE_PLUGIN;
+            }
+        }
+    }
+    
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -72,6 +73,8 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     
     private final boolean decodeWithTX;
     
+    private static final String PG_OUTPUT_PLUGIN = "pgoutput";
+    
     private List<AbstractRowEvent> rowEvents = new LinkedList<>();
     
     public PostgreSQLWALDumper(final DumperConfiguration dumperConfig, final IngestPosition position,
@@ -110,25 +113,29 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.get().getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            boolean pgOutput = PG_OUTPUT_PLUGIN.equals(logicalReplication.getSlotPlugin(connection, slotName).orElse(null));
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
+            DecodingPlugin decodingPlugin = pgOutput ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+            try (
+                    PGReplicationStream stream = pgOutput
+                            ? logicalReplication.createPgOutputReplicationStream(connection, slotName, PostgreSQLPositionInitializer.PUBLICATION_NAME, walPosition.get().getLogSequenceNumber())
+                            : logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber())) {
+                while (isRunning()) {
+                    ByteBuffer message = stream.readPending();
+                    if (null == message) {
+                        Thread.sleep(10L);
+                        continue;
+                    }
+                    AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                    if (decodeWithTX) {
+                        processEventWithTX(event);
+                    } else {
+                        processEventIgnoreTX(event);
+                    }
+                    walPosition.set(new WALPosition(event.getLogSequenceNumber()));
                 }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
             }
         }
     }
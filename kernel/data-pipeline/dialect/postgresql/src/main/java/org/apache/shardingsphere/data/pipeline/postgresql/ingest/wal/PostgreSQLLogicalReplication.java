@@ -27,7 +27,10 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -72,4 +75,43 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Create PostgreSQL replication stream of pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection connection, final String slotName, final String publicationName,
+                                                               final BaseLogSequenceNumber startPosition) throws SQLException {
+        return connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationName)
+                .start();
+    }
+    
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return output plugin name, empty if slot not exists
+     * @throws SQLException SQL exception
+     */
+    public Optional<String> getSlotPlugin(final Connection connection, final String slotName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+            }
+        }
+    }
 }
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for pgoutput, the binary logical replication protocol of PostgreSQL.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/protocol-logicalrep-message-formats.html">Logical Replication Message Formats</a>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                result = decodeBegin(data);
+                break;
+            case 'C':
+                result = new CommitTXEvent(currentXid, null);
+                break;
+            case 'R':
+                decodeRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = decodeInsert(data);
+                break;
+            case 'U':
+                result = decodeUpdate(data);
+                break;
+            case 'D':
+                result = decodeDelete(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private BeginTXEvent decodeBegin(final ByteBuffer data) {
+        // skip final LSN and commit timestamp
+        data.position(data.position() + 16);
+        currentXid = Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid);
+    }
+    
+    private void decodeRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        // skip replica identity setting
+        data.get();
+        int columnCount = data.getShort();
+        List<String> columnNames = new ArrayList<>(columnCount);
+        List<Integer> columnTypeOids = new ArrayList<>(columnCount);
+        List<Boolean> keyColumns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns.add(1 == (data.get() & 1));
+            columnNames.add(readString(data));
+            columnTypeOids.add(data.getInt());
+            // skip type modifier
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName.isEmpty() ? "pg_catalog" : schemaName, tableName, columnNames, columnTypeOids, keyColumns));
+    }
+    
+    private AbstractRowEvent decodeInsert(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        checkTupleType(data, 'N');
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent decodeUpdate(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            readTupleData(data, relation);
+            tupleType = (char) data.get();
+        }
+        if ('N' != tupleType) {
+            throw new IngestException("Unknown pgoutput tuple type: " + tupleType);
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent decodeDelete(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        if ('K' != tupleType && 'O' != tupleType) {
+            throw new IngestException("Unknown pgoutput tuple type: " + tupleType);
+        }
+        List<Object> values = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (relation.getKeyColumns().get(i)) {
+                primaryKeys.add(values.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown pgoutput relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private void checkTupleType(final ByteBuffer data, final char expectedTupleType) {
+        char tupleType = (char) data.get();
+        if (expectedTupleType != tupleType) {
+            throw new IngestException("Unknown pgoutput tuple type: " + tupleType);
+        }
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char columnDataType = (char) data.get();
+            switch (columnDataType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(UnchangedToastedValue.INSTANCE);
+                    break;
+                case 't':
+                    result.add(readTextValue(readBytes(data), relation.getColumnTypeOids().get(i)));
+                    break;
+                case 'b':
+                    result.add(readBinaryValue(ByteBuffer.wrap(readBytes(data)), relation.getColumnTypeOids().get(i)));
+                    break;
+                default:
+                    throw new IngestException("Unknown pgoutput column data type: " + columnDataType);
+            }
+        }
+        return result;
+    }
+    
+    private byte[] readBytes(final ByteBuffer data) {
+        byte[] result = new byte[data.getInt()];
+        data.get(result);
+        return result;
+    }
+    
+    private Object readTextValue(final byte[] value, final int typeOid) {
+        String text = new String(value, StandardCharsets.UTF_8);
+        switch (typeOid) {
+            case BOOL_OID:
+                return "t".equals(text);
+            case INT2_OID:
+                return Short.parseShort(text);
+            case INT4_OID:
+                return Integer.parseInt(text);
+            case INT8_OID:
+                return Long.parseLong(text);
+            case FLOAT4_OID:
+                return Float.parseFloat(text);
+            case FLOAT8_OID:
+                return Double.parseDouble(text);
+            case NUMERIC_OID:
+                return new BigDecimal(text);
+            case DATE_OID:
+                return Date.valueOf(text);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                return decodeHex(text.substring(2));
+            default:
+                return text;
+        }
+    }
+    
+    private Object readBinaryValue(final ByteBuffer value, final int typeOid) {
+        switch (typeOid) {
+            case BOOL_OID:
+                return 0 != value.get();
+            case INT2_OID:
+                return value.getShort();
+            case INT4_OID:
+                return value.getInt();
+            case INT8_OID:
+                return value.getLong();
+            case FLOAT4_OID:
+                return value.getFloat();
+            case FLOAT8_OID:
+                return value.getDouble();
+            default:
+                byte[] result = new byte[value.remaining()];
+                value.get(result);
+                return result;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        byte[] result = new byte[length];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private byte[] decodeHex(final String hexString) {
+        byte[] result = new byte[hexString.length() >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((Character.digit(hexString.charAt(i << 1), 16) << 4) + Character.digit(hexString.charAt((i << 1) + 1), 16));
+        }
+        return result;
+    }
+}
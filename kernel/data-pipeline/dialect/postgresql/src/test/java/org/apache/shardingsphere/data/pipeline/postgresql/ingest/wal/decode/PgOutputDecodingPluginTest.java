@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        ByteBuffer relation = ByteBuffer.allocate(128);
+        relation.put((byte) 'R').putInt(16384);
+        putString(relation, "public");
+        putString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 3);
+        relation.put((byte) 1);
+        putString(relation, "order_id");
+        relation.putInt(23).putInt(-1);
+        relation.put((byte) 0);
+        putString(relation, "status");
+        relation.putInt(1043).putInt(-1);
+        relation.put((byte) 0);
+        putString(relation, "amount");
+        relation.putInt(1700).putInt(-1);
+        relation.flip();
+        assertThat(decodingPlugin.decode(relation, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    void assertDecodeBeginAndCommit() {
+        ByteBuffer begin = ByteBuffer.allocate(21);
+        begin.put((byte) 'B').putLong(1L).putLong(2L).putInt(123);
+        begin.flip();
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(begin, logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(123L));
+        ByteBuffer commit = ByteBuffer.allocate(26);
+        commit.put((byte) 'C').put((byte) 0).putLong(1L).putLong(2L).putLong(3L);
+        commit.flip();
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(commit, logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(123L));
+        assertThat(actualCommit.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'I').putInt(16384).put((byte) 'N');
+        putTuple(data, "1", "ok", null);
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("ok"));
+        assertNull(actual.getAfterRow().get(2));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithOldKey() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'U').putInt(16384).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.put((byte) 'N');
+        putTuple(data, "2", "paid", "10.50");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(2, "paid", new BigDecimal("10.50"))));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'U').putInt(16384).put((byte) 'N');
+        data.putShort((short) 3);
+        data.put((byte) 't').putInt(1).put((byte) '1');
+        data.put((byte) 't').putInt(4).put("paid".getBytes(StandardCharsets.UTF_8));
+        data.put((byte) 'u');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, "paid", UnchangedToastedValue.INSTANCE)));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'D').putInt(16384).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getPrimaryKeys(), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(16);
+        data.put((byte) 'I').putInt(1).put((byte) 'N');
+        data.flip();
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(data, logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUnsupportedMessage() {
+        ByteBuffer data = ByteBuffer.wrap(new byte[]{'Y'});
+        assertThat(decodingPlugin.decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private void putString(final ByteBuffer buffer, final String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTuple(final ByteBuffer buffer, final String... values) {
+        buffer.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                buffer.put((byte) 'n');
+                continue;
+            }
+            byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+            buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+        }
+    }
+}
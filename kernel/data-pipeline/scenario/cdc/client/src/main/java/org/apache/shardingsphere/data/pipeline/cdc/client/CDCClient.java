@@ -146,7 +146,7 @@ public final class CDCClient implements AutoCloseable {
      */
     public String startStreaming(final StartStreamingParameter parameter) {
         StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder().setDatabase(parameter.getDatabase()).setFull(parameter.isFull())
-                .addAllSourceSchemaTable(parameter.getSchemaTables()).build();
+                .addAllSourceSchemaTable(parameter.getSchemaTables()).setStreamingOptions(config.getStreamingOptions()).build();
         String requestId = RequestIdUtils.generateRequestId();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
@@ -168,7 +168,7 @@ public final class CDCClient implements AutoCloseable {
             stopStreaming(streamingId);
         }
         String requestId = RequestIdUtils.generateRequestId();
-        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).build();
+        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).setStreamingOptions(config.getStreamingOptions()).build();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.START_STREAMING).setStartStreamingRequestBody(body).build();
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.START_STREAMING);
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
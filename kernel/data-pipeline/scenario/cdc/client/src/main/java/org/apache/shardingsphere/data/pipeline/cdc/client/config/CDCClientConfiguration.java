@@ -19,7 +19,9 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.config;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.handler.ExceptionHandler;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 
 import java.util.List;
@@ -42,6 +44,9 @@ public final class CDCClientConfiguration {
     
     private final int timeoutMills;
     
+    @Setter
+    private StreamingOptions streamingOptions = StreamingOptions.getDefaultInstance();
+    
     public CDCClientConfiguration(final String address, final int port, final Consumer<List<Record>> dataConsumer, final ExceptionHandler exceptionHandler) {
         this.address = address;
         this.port = port;
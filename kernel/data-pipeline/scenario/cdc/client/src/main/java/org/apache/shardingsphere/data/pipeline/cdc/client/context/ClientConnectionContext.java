@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
 
 import java.util.Map;
 import java.util.Set;
@@ -43,4 +44,6 @@ public final class ClientConnectionContext {
     private final Set<String> streamingIds = new CopyOnWriteArraySet<>();
     
     private final Map<String, ResponseFuture> responseFutureMap = new ConcurrentHashMap<>();
+    
+    private final Map<Integer, CompactTableSchema> compactTableSchemas = new ConcurrentHashMap<>();
 }
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.CompactRecordBatchDecoder;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
@@ -30,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
@@ -38,6 +42,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataR
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
 
 /**
  * CDC request handler.
@@ -102,6 +107,8 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             connectionContext.getStreamingIds().add(streamDataResult.getStreamingId());
         } else if (response.hasDataRecordResult()) {
             processDataRecords(ctx, response.getDataRecordResult());
+        } else if (response.hasCompactDataRecordResult()) {
+            processCompactDataRecords(ctx, response.getCompactDataRecordResult(), connectionContext);
         }
         responseFuture.ifPresent(ResponseFuture::countDown);
     }
@@ -111,6 +118,12 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
     }
     
+    @SneakyThrows({InvalidProtocolBufferException.class, DataFormatException.class})
+    private void processCompactDataRecords(final ChannelHandlerContext ctx, final CompactDataRecordResult result, final ClientConnectionContext connectionContext) {
+        consumer.accept(CompactRecordBatchDecoder.decode(result, connectionContext.getCompactTableSchemas()));
+        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         exceptionHandler.handleSocketException(cause);
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Compact record batch decoder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompactRecordBatchDecoder {
+    
+    /**
+     * Decode compact data record result to records.
+     *
+     * @param dataRecordResult compact data record result
+     * @param tableSchemas table schemas received on the current connection, keyed by schema id
+     * @return records
+     * @throws InvalidProtocolBufferException invalid protocol buffer exception
+     * @throws DataFormatException data format exception
+     * @throws IllegalStateException the schema of record is not received
+     */
+    public static List<Record> decode(final CompactDataRecordResult dataRecordResult, final Map<Integer, CompactTableSchema> tableSchemas) throws InvalidProtocolBufferException, DataFormatException {
+        byte[] payload = Compression.DEFLATE == dataRecordResult.getCompression() ? inflate(dataRecordResult.getPayload().toByteArray()) : dataRecordResult.getPayload().toByteArray();
+        CompactRecordBatch batch = CompactRecordBatch.parseFrom(payload);
+        for (CompactTableSchema each : batch.getTableSchemaList()) {
+            tableSchemas.put(each.getSchemaId(), each);
+        }
+        List<Record> result = new ArrayList<>(batch.getRecordCount());
+        for (CompactRecord each : batch.getRecordList()) {
+            CompactTableSchema tableSchema = tableSchemas.get(each.getSchemaId());
+            if (null == tableSchema) {
+                throw new IllegalStateException(String.format("Table schema %d is not received", each.getSchemaId()));
+            }
+            result.add(decodeRecord(tableSchema, each));
+        }
+        return result;
+    }
+    
+    private static Record decodeRecord(final CompactTableSchema tableSchema, final CompactRecord record) {
+        Record.Builder result = Record.newBuilder().setMetaData(tableSchema.getMetaData()).setDataChangeType(record.getDataChangeType())
+                .setTransactionCommitMillis(record.getTransactionCommitMillis());
+        for (int i = 0; i < tableSchema.getColumnNameCount(); i++) {
+            String columnName = tableSchema.getColumnName(i);
+            result.addBefore(TableColumn.newBuilder().setName(columnName).setValue(Any.pack(convertToMessage(record.getBefore(i)))).build());
+            result.addAfter(TableColumn.newBuilder().setName(columnName).setValue(Any.pack(convertToMessage(record.getAfter(i)))).build());
+        }
+        return result.build();
+    }
+    
+    private static Message convertToMessage(final ColumnValue columnValue) {
+        switch (columnValue.getValueCase()) {
+            case INT32_VALUE:
+                return Int32Value.of(columnValue.getInt32Value());
+            case INT64_VALUE:
+                return Int64Value.of(columnValue.getInt64Value());
+            case FLOAT_VALUE:
+                return FloatValue.of(columnValue.getFloatValue());
+            case DOUBLE_VALUE:
+                return DoubleValue.of(columnValue.getDoubleValue());
+            case BOOL_VALUE:
+                return BoolValue.of(columnValue.getBoolValue());
+            case STRING_VALUE:
+                return StringValue.of(columnValue.getStringValue());
+            case BYTES_VALUE:
+                return BytesValue.of(columnValue.getBytesValue());
+            case TIMESTAMP_VALUE:
+                return columnValue.getTimestampValue();
+            default:
+                return Empty.getDefaultInstance();
+        }
+    }
+    
+    private static byte[] inflate(final byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream result = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Incomplete compressed payload");
+                }
+                result.write(buffer, 0, length);
+            }
+            return result.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
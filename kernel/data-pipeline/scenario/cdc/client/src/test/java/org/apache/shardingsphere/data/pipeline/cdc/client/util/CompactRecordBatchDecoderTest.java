@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactRecordBatchDecoderTest {
+    
+    @Test
+    void assertDecode() throws InvalidProtocolBufferException, DataFormatException {
+        Map<Integer, CompactTableSchema> tableSchemas = new HashMap<>();
+        CompactTableSchema tableSchema = CompactTableSchema.newBuilder().setSchemaId(0).setMetaData(MetaData.newBuilder().setDatabase("sharding_db").setTable("t_order").build())
+                .addColumnName("order_id").addColumnName("status").build();
+        CompactRecord record = CompactRecord.newBuilder().setSchemaId(0).setDataChangeType(DataChangeType.UPDATE).setTransactionCommitMillis(1L)
+                .addBefore(ColumnValue.newBuilder().setNullValue(true)).addBefore(ColumnValue.newBuilder().setNullValue(true))
+                .addAfter(ColumnValue.newBuilder().setInt64Value(1L)).addAfter(ColumnValue.newBuilder().setStringValue("OK")).build();
+        List<Record> actual = CompactRecordBatchDecoder.decode(createResult(CompactRecordBatch.newBuilder().addTableSchema(tableSchema).addRecord(record).build()), tableSchemas);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getMetaData().getTable(), is("t_order"));
+        assertThat(actual.get(0).getDataChangeType(), is(DataChangeType.UPDATE));
+        assertThat(actual.get(0).getAfter(1).getName(), is("status"));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(0).getValue()), is(1L));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(1).getValue()), is("OK"));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(0).getBefore(0).getValue()), nullValue());
+        actual = CompactRecordBatchDecoder.decode(createResult(CompactRecordBatch.newBuilder().addRecord(record).build()), tableSchemas);
+        assertThat(actual.get(0).getBefore(0).getName(), is("order_id"));
+    }
+    
+    @Test
+    void assertDecodeWithoutTableSchema() {
+        CompactRecordBatch batch = CompactRecordBatch.newBuilder().addRecord(CompactRecord.newBuilder().setSchemaId(1).build()).build();
+        assertThrows(IllegalStateException.class, () -> CompactRecordBatchDecoder.decode(createResult(batch), new HashMap<>()));
+    }
+    
+    private CompactDataRecordResult createResult(final CompactRecordBatch batch) {
+        return CompactDataRecordResult.newBuilder().setAckId("ack").setCompression(Compression.NONE).setPayload(batch.toByteString()).build();
+    }
+}
@@ -299,6 +299,7 @@ public final class CDCJobAPI extends AbstractInventoryIncrementalJobAPIImpl {
         result.setTableNameMap(tableNameMap);
         result.setTableNameSchemaNameMapping(tableNameSchemaNameMapping);
         result.setDecodeWithTX(jobConfig.isDecodeWithTX());
+        result.setDecodeConcurrency(jobConfig.getConcurrency());
         return result;
     }
     
@@ -23,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions.RecordFormat;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -59,13 +62,16 @@ public final class CDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
-    public CDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+    private final CompactRecordBatchEncoder compactRecordBatchEncoder;
+    
+    public CDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final StreamingOptions streamingOptions) {
         this.channel = channel;
         this.database = database;
         schemaTableNames.stream().filter(each -> each.contains(".")).forEach(each -> {
             String[] split = each.split("\\.");
             tableNameSchemaMap.put(split[1], split[0]);
         });
+        compactRecordBatchEncoder = RecordFormat.COMPACT_BATCH == streamingOptions.getRecordFormat() ? new CompactRecordBatchEncoder(database.getName(), tableNameSchemaMap, streamingOptions) : null;
     }
     
     @Override
@@ -84,6 +90,9 @@ public final class CDCSocketSink implements PipelineSink {
         if (!channel.isActive()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
+        if (null != compactRecordBatchEncoder) {
+            return writeCompactBatch(ackId, records);
+        }
         List<DataRecordResult.Record> resultRecords = new LinkedList<>();
         for (Record each : records) {
             if (!(each instanceof DataRecord)) {
@@ -97,6 +106,20 @@ public final class CDCSocketSink implements PipelineSink {
         return new PipelineJobProgressUpdatedParameter(resultRecords.size());
     }
     
+    private PipelineJobProgressUpdatedParameter writeCompactBatch(final String ackId, final List<Record> records) {
+        List<DataRecord> dataRecords = new ArrayList<>(records.size());
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                dataRecords.add((DataRecord) each);
+            }
+        }
+        // schema of the table is sent only once, so encoding and writing must keep the same order
+        synchronized (compactRecordBatchEncoder) {
+            channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.COMPACT_DATA_RECORD_RESULT, compactRecordBatchEncoder.encode(ackId, dataRecords)));
+        }
+        return new PipelineJobProgressUpdatedParameter(dataRecords.size());
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void doAwait() {
         lock.lock();
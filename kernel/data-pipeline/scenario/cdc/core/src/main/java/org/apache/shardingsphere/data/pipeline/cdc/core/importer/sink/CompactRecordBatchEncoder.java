@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.ByteString;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactTableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.util.ColumnValueConvertUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Compact record batch encoder.
+ *
+ * <p>Table name and column names are sent only once per streaming, the following records refer to them by schema id.</p>
+ */
+@RequiredArgsConstructor
+public final class CompactRecordBatchEncoder {
+    
+    private static final int DEFAULT_COMPRESSION_THRESHOLD_BYTES = 1024;
+    
+    private final String databaseName;
+    
+    private final Map<String, String> tableNameSchemaMap;
+    
+    private final StreamingOptions streamingOptions;
+    
+    private final Map<String, Integer> schemaIds = new HashMap<>();
+    
+    /**
+     * Encode data records.
+     *
+     * @param ackId ack id
+     * @param dataRecords data records
+     * @return compact data record result
+     */
+    public CompactDataRecordResult encode(final String ackId, final List<DataRecord> dataRecords) {
+        CompactRecordBatch.Builder batch = CompactRecordBatch.newBuilder();
+        for (DataRecord each : dataRecords) {
+            batch.addRecord(encodeRecord(each, batch));
+        }
+        byte[] payload = batch.build().toByteArray();
+        CompactDataRecordResult.Builder result = CompactDataRecordResult.newBuilder().setAckId(ackId);
+        if (StreamingOptions.Compression.DEFLATE == streamingOptions.getCompression() && payload.length >= getCompressionThresholdBytes()) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                return result.setCompression(Compression.DEFLATE).setPayload(ByteString.copyFrom(compressed)).build();
+            }
+        }
+        return result.setCompression(Compression.NONE).setPayload(ByteString.copyFrom(payload)).build();
+    }
+    
+    private CompactRecord encodeRecord(final DataRecord dataRecord, final CompactRecordBatch.Builder batch) {
+        List<String> columnNames = new ArrayList<>(dataRecord.getColumnCount());
+        CompactRecord.Builder result = CompactRecord.newBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnNames.add(each.getName());
+            result.addBefore(ColumnValueConvertUtils.convertToColumnValue(each.getOldValue()));
+            result.addAfter(ColumnValueConvertUtils.convertToColumnValue(each.getValue()));
+        }
+        return result.setSchemaId(getSchemaId(dataRecord.getTableName(), columnNames, batch)).setDataChangeType(DataRecordResultConvertUtils.convertDataChangeType(dataRecord.getType()))
+                .setTransactionCommitMillis(dataRecord.getCommitTime()).build();
+    }
+    
+    private int getSchemaId(final String tableName, final List<String> columnNames, final CompactRecordBatch.Builder batch) {
+        String key = tableName + ":" + String.join(",", columnNames);
+        Integer result = schemaIds.get(key);
+        if (null != result) {
+            return result;
+        }
+        result = schemaIds.size();
+        schemaIds.put(key, result);
+        MetaData metaData = MetaData.newBuilder().setDatabase(databaseName).setSchema(Strings.nullToEmpty(tableNameSchemaMap.get(tableName))).setTable(tableName).build();
+        batch.addTableSchema(CompactTableSchema.newBuilder().setSchemaId(result).setMetaData(metaData).addAllColumnName(columnNames).build());
+        return result;
+    }
+    
+    private int getCompressionThresholdBytes() {
+        return streamingOptions.getCompressionThresholdBytes() > 0 ? streamingOptions.getCompressionThresholdBytes() : DEFAULT_COMPRESSION_THRESHOLD_BYTES;
+    }
+    
+    private byte[] deflate(final byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream result = new ByteArrayOutputStream(data.length);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                result.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -31,6 +31,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnValue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -146,6 +147,42 @@ public final class ColumnValueConvertUtils {
         return StringValue.newBuilder().setValue(object.toString()).build();
     }
     
+    /**
+     * Convert java object to compact column value.
+     *
+     * @param object object
+     * @return column value
+     */
+    public static ColumnValue convertToColumnValue(final Object object) {
+        Message message = convertToProtobufMessage(object);
+        ColumnValue.Builder result = ColumnValue.newBuilder();
+        if (message instanceof Int32Value) {
+            return result.setInt32Value(((Int32Value) message).getValue()).build();
+        }
+        if (message instanceof Int64Value) {
+            return result.setInt64Value(((Int64Value) message).getValue()).build();
+        }
+        if (message instanceof FloatValue) {
+            return result.setFloatValue(((FloatValue) message).getValue()).build();
+        }
+        if (message instanceof DoubleValue) {
+            return result.setDoubleValue(((DoubleValue) message).getValue()).build();
+        }
+        if (message instanceof BoolValue) {
+            return result.setBoolValue(((BoolValue) message).getValue()).build();
+        }
+        if (message instanceof StringValue) {
+            return result.setStringValue(((StringValue) message).getValue()).build();
+        }
+        if (message instanceof BytesValue) {
+            return result.setBytesValue(((BytesValue) message).getValue()).build();
+        }
+        if (message instanceof com.google.protobuf.Timestamp) {
+            return result.setTimestampValue((com.google.protobuf.Timestamp) message).build();
+        }
+        return result.setNullValue(true).build();
+    }
+    
     private static com.google.protobuf.Timestamp converToProtobufTimestamp(final Date timestamp) {
         if (timestamp instanceof Timestamp) {
             Timestamp value = (Timestamp) timestamp;
@@ -55,15 +55,26 @@ public final class DataRecordResultConvertUtils {
             after.add(TableColumn.newBuilder().setName(column.getName()).setValue(Any.pack(ColumnValueConvertUtils.convertToProtobufMessage(column.getValue()))).build());
         }
         MetaData metaData = MetaData.newBuilder().setDatabase(database).setSchema(Strings.nullToEmpty(schema)).setTable(dataRecord.getTableName()).build();
-        DataChangeType dataChangeType = DataChangeType.UNKNOWN;
-        if (IngestDataChangeType.INSERT.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.INSERT;
-        } else if (IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.UPDATE;
-        } else if (IngestDataChangeType.DELETE.equals(dataRecord.getType())) {
-            dataChangeType = DataChangeType.DELETE;
-        }
         return DataRecordResult.Record.newBuilder().setMetaData(metaData).addAllBefore(before).addAllAfter(after).setTransactionCommitMillis(dataRecord.getCommitTime())
-                .setDataChangeType(dataChangeType).build();
+                .setDataChangeType(convertDataChangeType(dataRecord.getType())).build();
+    }
+    
+    /**
+     * Convert ingest data change type to data change type.
+     *
+     * @param type ingest data change type
+     * @return data change type
+     */
+    public static DataChangeType convertDataChangeType(final String type) {
+        if (IngestDataChangeType.INSERT.equals(type)) {
+            return DataChangeType.INSERT;
+        }
+        if (IngestDataChangeType.UPDATE.equals(type)) {
+            return DataChangeType.UPDATE;
+        }
+        if (IngestDataChangeType.DELETE.equals(type)) {
+            return DataChangeType.DELETE;
+        }
+        return DataChangeType.UNKNOWN;
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamingOptions.RecordFormat;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactDataRecordResult.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CompactRecordBatch;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CompactRecordBatchEncoderTest {
+    
+    @Test
+    void assertEncodeTableSchemaOnlyOnce() throws InvalidProtocolBufferException {
+        CompactRecordBatchEncoder encoder = new CompactRecordBatchEncoder("sharding_db", Collections.singletonMap("t_order", "public"),
+                StreamingOptions.newBuilder().setRecordFormat(RecordFormat.COMPACT_BATCH).build());
+        CompactDataRecordResult actualFirst = encoder.encode("ack_1", Arrays.asList(createDataRecord(1), createDataRecord(2)));
+        assertThat(actualFirst.getAckId(), is("ack_1"));
+        assertThat(actualFirst.getCompression(), is(Compression.NONE));
+        CompactRecordBatch actualFirstBatch = CompactRecordBatch.parseFrom(actualFirst.getPayload());
+        assertThat(actualFirstBatch.getTableSchemaCount(), is(1));
+        assertThat(actualFirstBatch.getTableSchema(0).getMetaData().getSchema(), is("public"));
+        assertThat(actualFirstBatch.getTableSchema(0).getColumnNameList(), is(Arrays.asList("order_id", "status")));
+        assertThat(actualFirstBatch.getRecordCount(), is(2));
+        assertThat(actualFirstBatch.getRecord(1).getDataChangeType(), is(DataChangeType.INSERT));
+        assertThat(actualFirstBatch.getRecord(1).getAfter(0).getInt32Value(), is(2));
+        assertThat(actualFirstBatch.getRecord(1).getBefore(0).getNullValue(), is(true));
+        CompactRecordBatch actualSecondBatch = CompactRecordBatch.parseFrom(encoder.encode("ack_2", Collections.singletonList(createDataRecord(3))).getPayload());
+        assertThat(actualSecondBatch.getTableSchemaCount(), is(0));
+        assertThat(actualSecondBatch.getRecord(0).getSchemaId(), is(actualFirstBatch.getTableSchema(0).getSchemaId()));
+    }
+    
+    @Test
+    void assertEncodeWithDeflateCompression() throws InvalidProtocolBufferException, DataFormatException {
+        CompactRecordBatchEncoder encoder = new CompactRecordBatchEncoder("sharding_db", Collections.emptyMap(),
+                StreamingOptions.newBuilder().setRecordFormat(RecordFormat.COMPACT_BATCH).setCompression(StreamingOptions.Compression.DEFLATE).setCompressionThresholdBytes(1).build());
+        List<DataRecord> dataRecords = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            dataRecords.add(createDataRecord(i));
+        }
+        CompactDataRecordResult actual = encoder.encode("ack_1", dataRecords);
+        assertThat(actual.getCompression(), is(Compression.DEFLATE));
+        CompactRecordBatch actualBatch = CompactRecordBatch.parseFrom(inflate(actual.getPayload().toByteArray()));
+        assertThat(actualBatch.getRecordCount(), is(100));
+        assertThat(actualBatch.getRecord(99).getAfter(1).getStringValue(), is("OK"));
+    }
+    
+    private DataRecord createDataRecord(final int orderId) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new PlaceholderPosition(), 2);
+        result.addColumn(new Column("order_id", orderId, false, true));
+        result.addColumn(new Column("status", "OK", false, false));
+        return result;
+    }
+    
+    private byte[] inflate(final byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        inflater.setInput(data);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        while (!inflater.finished()) {
+            result.write(buffer, 0, inflater.inflate(buffer));
+        }
+        inflater.end();
+        return result.toByteArray();
+    }
+}
@@ -54,6 +54,7 @@ public final class MigrationIncrementalDumperConfigurationCreator implements Inc
         result.setDataSourceConfig(sourceDataSource);
         result.setTableNameMap(tableNameMap);
         result.setTableNameSchemaNameMapping(tableNameSchemaNameMapping);
+        result.setDecodeConcurrency(jobConfig.getConcurrency());
         return result;
     }
 }
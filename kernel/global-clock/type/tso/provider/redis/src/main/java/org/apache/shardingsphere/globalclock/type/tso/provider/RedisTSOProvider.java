@@ -44,6 +44,8 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private Properties props;
     
+    private CoalescedTimestampReader coalescedTimestampReader;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -51,6 +53,9 @@ public final class RedisTSOProvider implements TSOProvider {
             createJedisPool();
             checkJedisPool();
             initCSN();
+            if (Boolean.parseBoolean(getValue(props, RedisTSOPropertyKey.COALESCED_READ_ENABLED))) {
+                coalescedTimestampReader = new CoalescedTimestampReader(this::readCurrentTimestamp);
+            }
         }
     }
     
@@ -84,6 +89,10 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getCurrentTimestamp() {
+        return null == coalescedTimestampReader ? readCurrentTimestamp() : coalescedTimestampReader.read();
+    }
+    
+    private long readCurrentTimestamp() {
         try (Jedis jedis = jedisPool.getResource()) {
             return Long.parseLong(jedis.get(CSN_KEY));
         }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Timestamp reader which lets concurrent callers share one read of timestamp oracle.
+ * 
+ * <p>Callers arriving while a read is in flight wait for the next read, so every caller gets a timestamp which is read after it arrived.</p>
+ */
+@RequiredArgsConstructor
+public final class CoalescedTimestampReader {
+    
+    private final LongSupplier reader;
+    
+    private final Object lock = new Object();
+    
+    private CompletableFuture<Long> pendingRead;
+    
+    private boolean reading;
+    
+    private long lastTimestamp = Long.MIN_VALUE;
+    
+    /**
+     * Read timestamp.
+     *
+     * @return timestamp
+     */
+    public long read() {
+        CompletableFuture<Long> read;
+        boolean leader = false;
+        synchronized (lock) {
+            if (null == pendingRead) {
+                pendingRead = new CompletableFuture<>();
+                leader = true;
+            }
+            read = pendingRead;
+        }
+        if (leader) {
+            doRead(read);
+        }
+        try {
+            return read.join();
+        } catch (final CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+        }
+    }
+    
+    private void doRead(final CompletableFuture<Long> read) {
+        synchronized (lock) {
+            try {
+                while (reading) {
+                    lock.wait();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                pendingRead = null;
+                read.completeExceptionally(ex);
+                return;
+            }
+            reading = true;
+            pendingRead = null;
+        }
+        try {
+            long result = reader.getAsLong();
+            synchronized (lock) {
+                Preconditions.checkState(result >= lastTimestamp, "Timestamp `%s` is less than last read timestamp `%s`.", result, lastTimestamp);
+                lastTimestamp = result;
+            }
+            read.complete(result);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            read.completeExceptionally(ex);
+        } finally {
+            synchronized (lock) {
+                reading = false;
+                lock.notifyAll();
+            }
+        }
+    }
+}
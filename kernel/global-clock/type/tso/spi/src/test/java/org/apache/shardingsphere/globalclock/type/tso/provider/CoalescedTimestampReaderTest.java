@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescedTimestampReaderTest {
+    
+    @Test
+    void assertRead() {
+        AtomicLong timestamp = new AtomicLong(10L);
+        CoalescedTimestampReader reader = new CoalescedTimestampReader(timestamp::incrementAndGet);
+        assertThat(reader.read(), is(11L));
+        assertThat(reader.read(), is(12L));
+    }
+    
+    @Test
+    void assertConcurrentRead() throws InterruptedException, ExecutionException {
+        AtomicLong timestamp = new AtomicLong();
+        CoalescedTimestampReader reader = new CoalescedTimestampReader(() -> {
+            sleep();
+            return timestamp.incrementAndGet();
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<Long>> futures = new ArrayList<>(64);
+            for (int i = 0; i < 64; i++) {
+                futures.add(executorService.submit(reader::read));
+            }
+            for (Future<Long> each : futures) {
+                long actual = each.get();
+                assertTrue(actual > 0L && actual <= timestamp.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(timestamp.get() <= 64L);
+    }
+    
+    @Test
+    void assertReadWithTimestampGoingBackwards() {
+        AtomicLong timestamp = new AtomicLong(10L);
+        CoalescedTimestampReader reader = new CoalescedTimestampReader(timestamp::decrementAndGet);
+        assertThat(reader.read(), is(9L));
+        assertThrows(IllegalStateException.class, reader::read);
+    }
+    
+    @Test
+    void assertReadWithException() {
+        CoalescedTimestampReader reader = new CoalescedTimestampReader(() -> {
+            throw new IllegalArgumentException("");
+        });
+        assertThrows(IllegalArgumentException.class, reader::read);
+    }
+    
+    private void sleep() {
+        try {
+            Thread.sleep(1L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
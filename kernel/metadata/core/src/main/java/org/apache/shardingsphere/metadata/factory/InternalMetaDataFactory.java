@@ -23,11 +23,18 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
 
+import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,11 +54,16 @@ public final class InternalMetaDataFactory {
      * @param props configuration properties
      * @param instanceContext instance context
      * @return database meta data
+     * @throws SQLException SQL exception
      */
     public static ShardingSphereDatabase create(final String databaseName, final MetaDataBasedPersistService persistService, final DatabaseConfiguration databaseConfig,
-                                                final ConfigurationProperties props, final InstanceContext instanceContext) {
-        return ShardingSphereDatabase.create(databaseName, DatabaseTypeEngine.getProtocolType(databaseName, databaseConfig, props), databaseConfig,
-                DatabaseRulesBuilder.build(databaseName, databaseConfig, instanceContext), persistService.getDatabaseMetaDataService().loadSchemas(databaseName));
+                                                final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseName, databaseConfig, props);
+        Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(databaseName, databaseConfig, instanceContext);
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(protocolType, databaseConfig.getStorageUnits(), rules, props,
+                new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(databaseName));
+        Map<String, ShardingSphereSchema> schemas = GenericSchemaBuilder.build(persistService.getDatabaseMetaDataService().loadSchemas(databaseName), material);
+        return ShardingSphereDatabase.create(databaseName, protocolType, databaseConfig, rules, schemas);
     }
     
     /**
@@ -62,14 +74,16 @@ public final class InternalMetaDataFactory {
      * @param props properties
      * @param instanceContext instance context
      * @return databases
+     * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereDatabase> create(final MetaDataBasedPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigMap,
-                                                             final ConfigurationProperties props, final InstanceContext instanceContext) {
+                                                             final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         return createDatabases(persistService, databaseConfigMap, DatabaseTypeEngine.getProtocolType(databaseConfigMap, props), props, instanceContext);
     }
     
     private static Map<String, ShardingSphereDatabase> createDatabases(final MetaDataBasedPersistService persistService, final Map<String, DatabaseConfiguration> databaseConfigMap,
-                                                                       final DatabaseType protocolType, final ConfigurationProperties props, final InstanceContext instanceContext) {
+                                                                       final DatabaseType protocolType, final ConfigurationProperties props,
+                                                                       final InstanceContext instanceContext) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databaseConfigMap.size(), 1F);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
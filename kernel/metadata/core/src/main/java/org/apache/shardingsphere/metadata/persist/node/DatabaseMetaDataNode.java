@@ -46,6 +46,10 @@ public final class DatabaseMetaDataNode {
     
     private static final String VIEWS_NODE = "views";
     
+    private static final String SNAPSHOT_NODE = "snapshot";
+    
+    private static final String TABLES_VERSION_NODE = "tables_version";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -135,6 +139,40 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataSchemasPath(databaseName), schemaName);
     }
     
+    /**
+     * Get meta data schema snapshot path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return schema snapshot path
+     */
+    public static String getMetaDataSchemaSnapshotPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), SNAPSHOT_NODE);
+    }
+    
+    /**
+     * Get meta data schema tables version path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return schema tables version path
+     */
+    public static String getMetaDataSchemaTablesVersionPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), TABLES_VERSION_NODE);
+    }
+    
+    /**
+     * Get meta data schema snapshot chunk path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param chunkIndex chunk index
+     * @return schema snapshot chunk path
+     */
+    public static String getMetaDataSchemaSnapshotChunkPath(final String databaseName, final String schemaName, final int chunkIndex) {
+        return String.join("/", getMetaDataSchemaSnapshotPath(databaseName, schemaName), String.valueOf(chunkIndex));
+    }
+    
     /**
      * Get meta data schemas path.
      *
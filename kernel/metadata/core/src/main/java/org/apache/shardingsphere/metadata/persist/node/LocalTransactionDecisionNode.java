@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Local transaction commit decision node.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocalTransactionDecisionNode {
+    
+    private static final String ROOT_NODE = "local_transaction_decisions";
+    
+    /**
+     * Get root path of commit decisions.
+     *
+     * @return root path
+     */
+    public static String getRootPath() {
+        return String.join("/", "", ROOT_NODE);
+    }
+    
+    /**
+     * Get commit decision path.
+     *
+     * @param transactionId transaction ID
+     * @return commit decision path
+     */
+    public static String getDecisionPath(final String transactionId) {
+        return String.join("/", "", ROOT_NODE, transactionId);
+    }
+}
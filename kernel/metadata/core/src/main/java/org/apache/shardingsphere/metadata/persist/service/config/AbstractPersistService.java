@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,15 +48,27 @@ public abstract class AbstractPersistService {
      * @return yaml data nodes
      */
     public Collection<YamlDataNode> getDataNodes(final String rootPath) {
-        Collection<YamlDataNode> result = new LinkedList<>();
+        Collection<String> activeVersionKeys = new LinkedList<>();
         for (String each : getNodes(rootPath)) {
             Pattern pattern = Pattern.compile(ACTIVE_VERSION_PATTERN, Pattern.CASE_INSENSITIVE);
             Matcher matcher = pattern.matcher(each);
             if (matcher.find()) {
-                String activeRuleKey = each.replace(ACTIVE_VERSION_PATH, VERSIONS_PATH) + "/" + getActiveVersion(each);
-                result.add(new YamlDataNode(activeRuleKey, repository.getDirectly(activeRuleKey)));
+                activeVersionKeys.add(each);
             }
         }
+        if (activeVersionKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, String> activeVersions = repository.batchGetDirectly(activeVersionKeys);
+        Collection<String> activeRuleKeys = new LinkedList<>();
+        for (String each : activeVersionKeys) {
+            activeRuleKeys.add(each.replace(ACTIVE_VERSION_PATH, VERSIONS_PATH) + "/" + activeVersions.get(each));
+        }
+        Map<String, String> activeRules = repository.batchGetDirectly(activeRuleKeys);
+        Collection<YamlDataNode> result = new LinkedList<>();
+        for (String each : activeRuleKeys) {
+            result.add(new YamlDataNode(each, activeRules.get(each)));
+        }
         return result;
     }
     
@@ -109,12 +109,12 @@ public final class DatabaseMetaDataPersistService implements DatabaseMetaDataBas
      */
     @Override
     public void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getPersistedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
         Map<String, ShardingSphereTable> currentTables = tableMetaDataPersistService.load(databaseName, schemaName);
-        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getTables(), currentTables));
-        SchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getPersistedTables(), currentTables));
+        SchemaManager.getToBeDeletedTables(schema.getPersistedTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
@@ -126,10 +126,10 @@ public final class DatabaseMetaDataPersistService implements DatabaseMetaDataBas
      */
     @Override
     public void persist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getPersistedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
-        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getTables());
+        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getPersistedTables());
     }
     
     /**
@@ -141,7 +141,7 @@ public final class DatabaseMetaDataPersistService implements DatabaseMetaDataBas
      */
     @Override
     public void delete(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        schema.getTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        schema.getPersistedTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
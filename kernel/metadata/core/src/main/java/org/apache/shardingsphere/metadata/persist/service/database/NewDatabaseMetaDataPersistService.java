@@ -113,13 +113,13 @@ public final class NewDatabaseMetaDataPersistService implements DatabaseMetaData
      */
     @Override
     public void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getPersistedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
         Map<String, ShardingSphereTable> currentTables = tableMetaDataPersistService.load(databaseName, schemaName);
         metaDataVersionPersistService.switchActiveVersion(tableMetaDataPersistService
-                .persistSchemaMetaData(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getTables(), currentTables)));
-        SchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+                .persistSchemaMetaData(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getPersistedTables(), currentTables)));
+        SchemaManager.getToBeDeletedTables(schema.getPersistedTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
@@ -131,10 +131,10 @@ public final class NewDatabaseMetaDataPersistService implements DatabaseMetaData
      */
     @Override
     public void persist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getPersistedTables().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
-        metaDataVersionPersistService.switchActiveVersion(tableMetaDataPersistService.persistSchemaMetaData(databaseName, schemaName, schema.getTables()));
+        metaDataVersionPersistService.switchActiveVersion(tableMetaDataPersistService.persistSchemaMetaData(databaseName, schemaName, schema.getPersistedTables()));
     }
     
     /**
@@ -146,7 +146,7 @@ public final class NewDatabaseMetaDataPersistService implements DatabaseMetaData
      */
     @Override
     public void delete(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        schema.getTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        schema.getPersistedTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
     }
     
     /**
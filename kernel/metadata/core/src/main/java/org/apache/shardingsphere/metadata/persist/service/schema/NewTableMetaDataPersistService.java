@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.metadata.persist.service.schema;
 
 import com.google.common.base.Strings;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
@@ -40,15 +39,22 @@ import java.util.Map.Entry;
  * TODO Rename TableMetaDataPersistService when metadata structure adjustment completed. #25485
  * Table meta data persist service.
  */
-@RequiredArgsConstructor
 public final class NewTableMetaDataPersistService implements SchemaMetaDataPersistService<Map<String, ShardingSphereTable>> {
     
     private static final String DEFAULT_VERSION = "0";
     
     private final PersistRepository repository;
     
+    private final SchemaMetaDataSnapshotPersistService snapshotPersistService;
+    
+    public NewTableMetaDataPersistService(final PersistRepository repository) {
+        this.repository = repository;
+        snapshotPersistService = new SchemaMetaDataSnapshotPersistService(repository);
+    }
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        invalidateSnapshot(databaseName, schemaName, tables);
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
             String tableName = entry.getKey().toLowerCase();
             List<String> versions = repository.getChildrenKeys(NewDatabaseMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
@@ -59,10 +65,12 @@ public final class NewTableMetaDataPersistService implements SchemaMetaDataPersi
                 repository.persist(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
             }
         }
+        changeTablesVersion(databaseName, schemaName, tables);
     }
     
     @Override
     public Collection<MetaDataVersion> persistSchemaMetaData(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        invalidateSnapshot(databaseName, schemaName, tables);
         Collection<MetaDataVersion> result = new LinkedList<>();
         for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
             String tableName = entry.getKey().toLowerCase();
@@ -76,9 +84,22 @@ public final class NewTableMetaDataPersistService implements SchemaMetaDataPersi
             result.add(new MetaDataVersion(NewDatabaseMetaDataNode.getTableNode(databaseName, schemaName, tableName),
                     getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
         }
+        changeTablesVersion(databaseName, schemaName, tables);
         return result;
     }
     
+    private void invalidateSnapshot(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        if (!tables.isEmpty()) {
+            snapshotPersistService.delete(databaseName, schemaName);
+        }
+    }
+    
+    private void changeTablesVersion(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        if (!tables.isEmpty()) {
+            snapshotPersistService.changeTablesVersion(databaseName, schemaName);
+        }
+    }
+    
     private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
         return repository.getDirectly(NewDatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
     }
@@ -108,6 +129,8 @@ public final class NewTableMetaDataPersistService implements SchemaMetaDataPersi
     
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
+        snapshotPersistService.delete(databaseName, schemaName);
         repository.delete(NewDatabaseMetaDataNode.getTableNode(databaseName, schemaName, tableName.toLowerCase()));
+        snapshotPersistService.changeTablesVersion(databaseName, schemaName);
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import com.google.common.base.Strings;
+import com.google.common.primitives.Ints;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Schema meta data snapshot persist service.
+ *
+ * <p>All tables of a schema are stored as gzip compressed chunks, so that tables can be loaded with a few reads instead of one read per table.
+ * The snapshot is bound to the active version of the database and the tables version of the schema, which is changed after any table of the schema is changed.
+ * Table changes only invalidate the snapshot instead of rebuilding it, and the snapshot is rebuilt on startup with the tables version read before the tables,
+ * so that snapshots built from stale tables are never loaded.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaMetaDataSnapshotPersistService {
+    
+    private static final int CHUNK_SIZE = 512 * 1024;
+    
+    private static final String HEADER_SEPARATOR = ":";
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist schema meta data snapshot.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tables tables
+     * @param tablesVersion tables version of schema which is loaded before tables
+     */
+    public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables, final String tablesVersion) {
+        YamlShardingSphereSchema yamlSchema = new YamlShardingSphereSchema();
+        Map<String, YamlShardingSphereTable> yamlTables = new LinkedHashMap<>(tables.size(), 1F);
+        YamlTableSwapper swapper = new YamlTableSwapper();
+        tables.forEach((key, value) -> yamlTables.put(key, swapper.swapToYamlConfiguration(value)));
+        yamlSchema.setTables(yamlTables);
+        String content = Base64.getEncoder().encodeToString(compress(YamlEngine.marshal(yamlSchema).getBytes(StandardCharsets.UTF_8)));
+        int chunkCount = (content.length() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        delete(databaseName, schemaName);
+        Map<String, String> chunks = new LinkedHashMap<>(chunkCount, 1F);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.put(DatabaseMetaDataNode.getMetaDataSchemaSnapshotChunkPath(databaseName, schemaName, i), content.substring(i * CHUNK_SIZE, Math.min(content.length(), (i + 1) * CHUNK_SIZE)));
+        }
+        repository.batchPersist(chunks);
+        repository.persist(DatabaseMetaDataNode.getMetaDataSchemaSnapshotPath(databaseName, schemaName),
+                String.join(HEADER_SEPARATOR, getActiveVersion(databaseName), tablesVersion, String.valueOf(chunkCount)));
+    }
+    
+    /**
+     * Judge whether schema meta data snapshot is current.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return current or not
+     */
+    public boolean isCurrent(final String databaseName, final String schemaName) {
+        return findChunkCount(databaseName, schemaName).isPresent();
+    }
+    
+    private Optional<Integer> findChunkCount(final String databaseName, final String schemaName) {
+        String header = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSchemaSnapshotPath(databaseName, schemaName));
+        if (Strings.isNullOrEmpty(header)) {
+            return Optional.empty();
+        }
+        String[] headerItems = header.split(HEADER_SEPARATOR, -1);
+        if (3 != headerItems.length || !headerItems[0].equals(getActiveVersion(databaseName)) || !headerItems[1].equals(loadTablesVersion(databaseName, schemaName))) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(Ints.tryParse(headerItems[2]));
+    }
+    
+    /**
+     * Load tables from schema meta data snapshot.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return tables, empty if snapshot is absent or stale
+     */
+    public Optional<Map<String, ShardingSphereTable>> load(final String databaseName, final String schemaName) {
+        try {
+            Optional<Integer> chunkCount = findChunkCount(databaseName, schemaName);
+            return chunkCount.isPresent() ? Optional.of(loadTables(databaseName, schemaName, chunkCount.get())) : Optional.empty();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load meta data snapshot of `{}.{}` failed, fallback to load tables one by one.", databaseName, schemaName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Map<String, ShardingSphereTable> loadTables(final String databaseName, final String schemaName, final int chunkCount) {
+        Collection<String> chunkPaths = new LinkedList<>();
+        for (int i = 0; i < chunkCount; i++) {
+            chunkPaths.add(DatabaseMetaDataNode.getMetaDataSchemaSnapshotChunkPath(databaseName, schemaName, i));
+        }
+        Map<String, String> chunks = repository.batchGetDirectly(chunkPaths);
+        StringBuilder content = new StringBuilder();
+        for (String each : chunkPaths) {
+            String chunk = chunks.get(each);
+            if (null == chunk) {
+                throw new IllegalStateException(String.format("Meta data snapshot chunk `%s` is missing", each));
+            }
+            content.append(chunk);
+        }
+        YamlShardingSphereSchema yamlSchema = YamlEngine.unmarshal(new String(decompress(Base64.getDecoder().decode(content.toString())), StandardCharsets.UTF_8), YamlShardingSphereSchema.class);
+        if (null == yamlSchema.getTables()) {
+            return new LinkedHashMap<>();
+        }
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(yamlSchema.getTables().size(), 1F);
+        YamlTableSwapper swapper = new YamlTableSwapper();
+        for (Entry<String, YamlShardingSphereTable> entry : yamlSchema.getTables().entrySet()) {
+            result.put(entry.getKey(), swapper.swapToObject(entry.getValue()));
+        }
+        return result;
+    }
+    
+    /**
+     * Delete schema meta data snapshot.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void delete(final String databaseName, final String schemaName) {
+        repository.delete(DatabaseMetaDataNode.getMetaDataSchemaSnapshotPath(databaseName, schemaName));
+    }
+    
+    /**
+     * Load tables version of schema.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return tables version
+     */
+    public String loadTablesVersion(final String databaseName, final String schemaName) {
+        return Strings.nullToEmpty(repository.getDirectly(DatabaseMetaDataNode.getMetaDataSchemaTablesVersionPath(databaseName, schemaName)));
+    }
+    
+    /**
+     * Change tables version of schema after tables are changed.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void changeTablesVersion(final String databaseName, final String schemaName) {
+        repository.persist(DatabaseMetaDataNode.getMetaDataSchemaTablesVersionPath(databaseName, schemaName), newTablesVersion());
+    }
+    
+    /**
+     * Create new tables version.
+     *
+     * @return new tables version
+     */
+    public String newTablesVersion() {
+        return UUID.randomUUID().toString();
+    }
+    
+    private String getActiveVersion(final String databaseName) {
+        return Strings.nullToEmpty(repository.getDirectly(DatabaseMetaDataNode.getActiveVersionPath(databaseName)));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private byte[] compress(final byte[] data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(result)) {
+            outputStream.write(data);
+        }
+        return result.toByteArray();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private byte[] decompress(final byte[] data) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[8192];
+            int length = inputStream.read(buffer);
+            while (length > 0) {
+                result.write(buffer, 0, length);
+                length = inputStream.read(buffer);
+            }
+        }
+        return result.toByteArray();
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.metadata.persist.service.schema;
 
 import com.google.common.base.Strings;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
@@ -31,19 +30,55 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Table meta data persist service.
  */
-@RequiredArgsConstructor
 public final class TableMetaDataPersistService implements SchemaMetaDataPersistService<Map<String, ShardingSphereTable>> {
     
     private final PersistRepository repository;
     
+    private final SchemaMetaDataSnapshotPersistService snapshotPersistService;
+    
+    public TableMetaDataPersistService(final PersistRepository repository) {
+        this.repository = repository;
+        snapshotPersistService = new SchemaMetaDataSnapshotPersistService(repository);
+    }
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        if (tables.isEmpty()) {
+            return;
+        }
+        snapshotPersistService.delete(databaseName, schemaName);
+        Map<String, String> keyValues = new LinkedHashMap<>(tables.size() + 1, 1F);
+        tables.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        // Tables version is put last, so that it is changed after all tables even if the batch is split
+        keyValues.put(DatabaseMetaDataNode.getMetaDataSchemaTablesVersionPath(databaseName, schemaName), snapshotPersistService.newTablesVersion());
+        repository.batchPersist(keyValues);
+    }
+    
+    /**
+     * Rebuild schema meta data snapshot if it is absent or stale.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void rebuildSnapshotIfNecessary(final String databaseName, final String schemaName) {
+        String tablesVersion = snapshotPersistService.loadTablesVersion(databaseName, schemaName);
+        if (snapshotPersistService.isCurrent(databaseName, schemaName)) {
+            return;
+        }
+        Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        Map<String, ShardingSphereTable> tables = getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        if (tables.size() == tableNames.size()) {
+            snapshotPersistService.persist(databaseName, schemaName, tables, tablesVersion);
+        }
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -55,7 +90,18 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
         Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
-        return tableNames.isEmpty() ? Collections.emptyMap() : getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Optional<Map<String, ShardingSphereTable>> snapshot = snapshotPersistService.load(databaseName, schemaName);
+        if (snapshot.isPresent() && isSnapshotMatched(snapshot.get(), tableNames)) {
+            return snapshot.get();
+        }
+        return getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+    }
+    
+    private boolean isSnapshotMatched(final Map<String, ShardingSphereTable> snapshot, final Collection<String> tableNames) {
+        return snapshot.size() == tableNames.size() && tableNames.stream().allMatch(each -> snapshot.containsKey(each.toLowerCase()));
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -66,13 +112,18 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
+        snapshotPersistService.delete(databaseName, schemaName);
         repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName.toLowerCase()));
+        snapshotPersistService.changeTablesVersion(databaseName, schemaName);
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        Map<String, String> tablePaths = new LinkedHashMap<>(tableNames.size(), 1F);
+        tableNames.forEach(each -> tablePaths.put(each, DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each)));
+        Map<String, String> tableContents = repository.batchGetDirectly(tablePaths.values());
         Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
+        tablePaths.forEach((each, path) -> {
+            String table = tableContents.get(path);
             if (!Strings.isNullOrEmpty(table)) {
                 result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
             }
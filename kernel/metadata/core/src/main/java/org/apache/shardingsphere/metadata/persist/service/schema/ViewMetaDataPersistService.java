@@ -42,8 +42,10 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereView> views) {
-        views.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
+        Map<String, String> keyValues = new LinkedHashMap<>(views.size(), 1F);
+        views.forEach((key, value) -> keyValues.put(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlViewSwapper().swapToYamlConfiguration(value))));
+        repository.batchPersist(keyValues);
     }
     
     // TODO Remove this when metadata structure adjustment completed. #25485
@@ -70,9 +72,12 @@ public final class ViewMetaDataPersistService implements SchemaMetaDataPersistSe
     }
     
     private Map<String, ShardingSphereView> getViewMetaDataByViewNames(final String databaseName, final String schemaName, final Collection<String> viewNames) {
+        Map<String, String> viewPaths = new LinkedHashMap<>(viewNames.size(), 1F);
+        viewNames.forEach(each -> viewPaths.put(each, DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, each)));
+        Map<String, String> viewContents = repository.batchGetDirectly(viewPaths.values());
         Map<String, ShardingSphereView> result = new LinkedHashMap<>(viewNames.size(), 1F);
-        viewNames.forEach(each -> {
-            String view = repository.getDirectly(DatabaseMetaDataNode.getViewMetaDataPath(databaseName, schemaName, each));
+        viewPaths.forEach((each, path) -> {
+            String view = viewContents.get(path);
             if (!Strings.isNullOrEmpty(view)) {
                 result.put(each.toLowerCase(), new YamlViewSwapper().swapToObject(YamlEngine.unmarshal(view, YamlShardingSphereView.class)));
             }
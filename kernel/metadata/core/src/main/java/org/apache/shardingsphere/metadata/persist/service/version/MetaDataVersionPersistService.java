@@ -23,6 +23,9 @@ import org.apache.shardingsphere.metadata.persist.node.NewDatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Meta data version persist service.
@@ -36,15 +39,28 @@ public final class MetaDataVersionPersistService implements MetaDataVersionBased
     
     private final PersistRepository repository;
     
-    // TODO Need to use transaction operation
     @Override
     public void switchActiveVersion(final Collection<MetaDataVersion> metaDataVersions) {
+        Map<String, String> activeVersions = new LinkedHashMap<>(metaDataVersions.size(), 1F);
+        Map<String, String> staleVersionKeys = new LinkedHashMap<>(metaDataVersions.size(), 1F);
         for (MetaDataVersion each : metaDataVersions) {
             if (each.getNextActiveVersion().equals(each.getCurrentActiveVersion())) {
                 continue;
             }
-            repository.persist(each.getKey() + "/" + ACTIVE_VERSION, each.getNextActiveVersion());
-            repository.delete(String.join("/", each.getKey(), VERSIONS, each.getCurrentActiveVersion()));
+            String activeVersionKey = each.getKey() + "/" + ACTIVE_VERSION;
+            activeVersions.put(activeVersionKey, each.getNextActiveVersion());
+            staleVersionKeys.put(activeVersionKey, String.join("/", each.getKey(), VERSIONS, each.getCurrentActiveVersion()));
+        }
+        if (activeVersions.isEmpty()) {
+            return;
+        }
+        repository.batchPersist(activeVersions);
+        // Stale versions are deleted only after switching is confirmed, so that active versions never point to deleted versions
+        Map<String, String> persistedActiveVersions = repository.batchGetDirectly(activeVersions.keySet());
+        for (Entry<String, String> entry : activeVersions.entrySet()) {
+            if (entry.getValue().equals(persistedActiveVersions.get(entry.getKey()))) {
+                repository.delete(staleVersionKeys.get(entry.getKey()));
+            }
         }
     }
     
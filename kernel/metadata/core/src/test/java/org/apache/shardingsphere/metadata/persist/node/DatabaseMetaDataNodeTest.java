@@ -62,6 +62,16 @@ class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getMetaDataViewsPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/views"));
     }
     
+    @Test
+    void assertGetMetaDataSchemaSnapshotChunkPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSchemaSnapshotChunkPath("sharding_db", "sharding_schema", 0), is("/metadata/sharding_db/schemas/sharding_schema/snapshot/0"));
+    }
+    
+    @Test
+    void assertGetMetaDataSchemaTablesVersionPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSchemaTablesVersionPath("sharding_db", "sharding_schema"), is("/metadata/sharding_db/schemas/sharding_schema/tables_version"));
+    }
+    
     @Test
     void assertGetDatabaseNameByDatabasePath() {
         Optional<String> actualSchemaName = DatabaseMetaDataNode.getDatabaseNameByDatabasePath("/metadata/logic_db/schemas/logic_schema");
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class MetaDataVersionPersistServiceTest {
     
@@ -42,7 +44,16 @@ class MetaDataVersionPersistServiceTest {
     
     @Test
     void assertSwitchActiveVersion() {
+        when(repository.batchGetDirectly(Collections.singleton("foo_key/active_version"))).thenReturn(Collections.singletonMap("foo_key/active_version", "1"));
         metaDataVersionPersistService.switchActiveVersion(Collections.singletonList(new MetaDataVersion("foo_key", "0", "1")));
-        verify(repository).persist("foo_key/active_version", "1");
+        verify(repository).batchPersist(Collections.singletonMap("foo_key/active_version", "1"));
+        verify(repository).delete("foo_key/versions/0");
+    }
+    
+    @Test
+    void assertSwitchActiveVersionWithoutPersistedActiveVersion() {
+        when(repository.batchGetDirectly(Collections.singleton("foo_key/active_version"))).thenReturn(Collections.singletonMap("foo_key/active_version", "0"));
+        metaDataVersionPersistService.switchActiveVersion(Collections.singletonList(new MetaDataVersion("foo_key", "0", "1")));
+        verify(repository, never()).delete("foo_key/versions/0");
     }
 }
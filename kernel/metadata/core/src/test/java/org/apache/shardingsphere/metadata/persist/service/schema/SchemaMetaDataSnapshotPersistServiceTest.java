@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SchemaMetaDataSnapshotPersistServiceTest {
+    
+    private final Map<String, String> repositoryData = new HashMap<>();
+    
+    private SchemaMetaDataSnapshotPersistService persistService;
+    
+    @BeforeEach
+    void setUp() {
+        PersistRepository repository = mock(PersistRepository.class, Answers.CALLS_REAL_METHODS);
+        when(repository.getDirectly(anyString())).thenAnswer(invocation -> repositoryData.get(invocation.getArgument(0, String.class)));
+        doAnswer(invocation -> repositoryData.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        doAnswer(invocation -> repositoryData.keySet().removeIf(each -> each.startsWith(invocation.getArgument(0, String.class)))).when(repository).delete(anyString());
+        repositoryData.put("/metadata/foo_db/active_version", "0");
+        repositoryData.put("/metadata/foo_db/schemas/foo_schema/tables_version", "foo_version");
+        persistService = new SchemaMetaDataSnapshotPersistService(repository);
+    }
+    
+    @Test
+    void assertPersistAndLoad() {
+        persistService.persist("foo_db", "foo_schema", createTables(), "foo_version");
+        assertThat(repositoryData.get("/metadata/foo_db/schemas/foo_schema/snapshot"), is("0:foo_version:1"));
+        assertTrue(persistService.isCurrent("foo_db", "foo_schema"));
+        Optional<Map<String, ShardingSphereTable>> actual = persistService.load("foo_db", "foo_schema");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+        assertThat(actual.get().get("t_order").getColumn("order_id").getDataType(), is(Types.INTEGER));
+        assertTrue(actual.get().get("t_order").getColumn("order_id").isPrimaryKey());
+        assertTrue(actual.get().containsKey("t_order_item"));
+    }
+    
+    @Test
+    void assertLoadWithChangedActiveVersion() {
+        persistService.persist("foo_db", "foo_schema", createTables(), "foo_version");
+        repositoryData.put("/metadata/foo_db/active_version", "1");
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithChangedTablesVersion() {
+        persistService.persist("foo_db", "foo_schema", createTables(), "foo_version");
+        persistService.changeTablesVersion("foo_db", "foo_schema");
+        assertFalse(persistService.isCurrent("foo_db", "foo_schema"));
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithMissingChunk() {
+        persistService.persist("foo_db", "foo_schema", createTables(), "foo_version");
+        repositoryData.remove("/metadata/foo_db/schemas/foo_schema/snapshot/0");
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    @Test
+    void assertDelete() {
+        persistService.persist("foo_db", "foo_schema", createTables(), "foo_version");
+        persistService.delete("foo_db", "foo_schema");
+        assertFalse(persistService.load("foo_db", "foo_schema").isPresent());
+    }
+    
+    private Map<String, ShardingSphereTable> createTables() {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(2, 1F);
+        result.put("t_order", new ShardingSphereTable("t_order",
+                Collections.singletonList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList()));
+        result.put("t_order_item", new ShardingSphereTable("t_order_item",
+                Collections.singletonList(new ShardingSphereColumn("item_id", Types.BIGINT, true, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList()));
+        return result;
+    }
+}
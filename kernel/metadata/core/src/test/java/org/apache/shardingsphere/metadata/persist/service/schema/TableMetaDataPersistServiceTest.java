@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,11 +32,18 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,26 +57,57 @@ class TableMetaDataPersistServiceTest {
     void assertPersist() {
         ShardingSphereTable table = new ShardingSphereTable("foo_table", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
         new TableMetaDataPersistService(repository).persist("foo_db", "foo_schema", Collections.singletonMap("foo_table", table));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_table", "name: foo_table" + System.lineSeparator());
+        ArgumentCaptor<Map<String, String>> keyValuesCaptor = ArgumentCaptor.forClass(Map.class);
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot");
+        inOrder.verify(repository).batchPersist(keyValuesCaptor.capture());
+        assertThat(keyValuesCaptor.getValue().size(), is(2));
+        assertThat(keyValuesCaptor.getValue().get("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), is("name: foo_table" + System.lineSeparator()));
+        assertThat(new LinkedList<>(keyValuesCaptor.getValue().keySet()).getLast(), is("/metadata/foo_db/schemas/foo_schema/tables_version"));
+        verify(repository, never()).getChildrenKeys(anyString());
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertRebuildSnapshotIfNecessary() {
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchGetDirectly(anyCollection()))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
+        new TableMetaDataPersistService(repository).rebuildSnapshotIfNecessary("foo_db", "foo_schema");
+        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/snapshot", ":foo_version:1");
+    }
+    
+    @Test
+    void assertRebuildSnapshotIfNecessaryWithCurrentSnapshot() {
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn(":foo_version:1");
+        new TableMetaDataPersistService(repository).rebuildSnapshotIfNecessary("foo_db", "foo_schema");
+        verify(repository, never()).getChildrenKeys(anyString());
+        verify(repository, never()).persist(anyString(), anyString());
     }
     
     @Test
     void assertLoad() {
         TableMetaDataPersistService tableMetaDataPersistService = new TableMetaDataPersistService(repository);
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
-        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.batchGetDirectly(anyCollection()))
+                .thenReturn(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/t_order", readYAML()));
         Map<String, ShardingSphereTable> tables = tableMetaDataPersistService.load("foo_db", "foo_schema");
         assertThat(tables.size(), is(1));
         assertThat(tables.get("t_order").getIndexValues().size(), is(1));
         assertThat(tables.get("t_order").getIndexValues().iterator().next().getName(), is("PRIMARY"));
         assertThat(tables.get("t_order").getColumnValues().size(), is(1));
         assertThat(tables.get("t_order").getColumnValues().iterator().next().getName(), is("id"));
+        verify(repository, never()).batchPersist(anyMap());
+        verify(repository, never()).persist(anyString(), anyString());
     }
     
     @Test
     void assertDelete() {
         new TableMetaDataPersistService(repository).delete("foo_db", "foo_schema", "foo_table");
         verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_table");
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables_version"), anyString());
     }
     
     @SneakyThrows({IOException.class, URISyntaxException.class})
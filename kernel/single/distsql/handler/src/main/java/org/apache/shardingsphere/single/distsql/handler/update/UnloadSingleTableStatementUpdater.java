@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.single.api.config.SingleRuleConfiguration;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.single.rule.SingleRule;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -77,7 +79,8 @@ public final class UnloadSingleTableStatementUpdater implements RuleDefinitionAl
     
     private Collection<String> getAllTableNames(final ShardingSphereDatabase database) {
         String defaultSchemaName = new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName());
-        return database.getSchema(defaultSchemaName).getTables().values().stream().map(ShardingSphereTable::getName).collect(Collectors.toList());
+        ShardingSphereSchema schema = database.getSchema(defaultSchemaName);
+        return schema.getAllTableNames().stream().map(each -> Optional.ofNullable(schema.getTables().get(each)).map(ShardingSphereTable::getName).orElse(each)).collect(Collectors.toList());
     }
     
     private void checkTableRuleExist(final String databaseName, final DatabaseType databaseType, final SingleRuleConfiguration currentRuleConfig,
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatistic;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -51,8 +52,13 @@ public final class SQLFederationSchema extends AbstractSchema {
     }
     
     private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
-        Map<String, Table> result = new LinkedHashMap<>(schema.getTables().size(), 1F);
-        for (ShardingSphereTable each : schema.getTables().values()) {
+        Collection<String> tableNames = schema.getAllTableNames();
+        Map<String, Table> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String tableName : tableNames) {
+            ShardingSphereTable each = schema.getTable(tableName);
+            if (null == each) {
+                continue;
+            }
             if (schema.containsView(each.getName())) {
                 result.put(each.getName().toLowerCase(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.CoordinatorEnvironmentBean;
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.objectstore.StoreManager;
 import com.arjuna.ats.internal.arjuna.recovery.AtomicActionRecoveryModule;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
@@ -26,6 +28,7 @@ import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
 import com.arjuna.common.util.propertyservice.PropertiesFactory;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.reflection.ReflectionUtils;
 import org.apache.shardingsphere.transaction.exception.CloseTransactionManagerFailedException;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
@@ -34,14 +37,23 @@ import org.apache.shardingsphere.transaction.xa.spi.XATransactionManagerProvider
 import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
+import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Narayana transaction manager provider.
  */
 public final class NarayanaXATransactionManagerProvider implements XATransactionManagerProvider {
     
+    private final Map<Transaction, ParallelCommitXAResourceGroup> parallelCommitGroups = new ConcurrentHashMap<>();
+    
+    private final ExecutorService parallelCommitExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("narayana-parallel-commit-%d"));
+    
     @Getter
     private TransactionManager transactionManager;
     
@@ -51,6 +63,7 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
     
     @Override
     public void init() {
+        initCoordinatorEnvironment();
         transactionManager = jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
         xaRecoveryModule = XARecoveryModule.getRegisteredXARecoveryModule();
         recoveryManagerService = new RecoveryManagerService();
@@ -58,6 +71,12 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
         recoveryManagerService.start();
     }
     
+    private void initCoordinatorEnvironment() {
+        CoordinatorEnvironmentBean coordinatorEnvironmentBean = arjPropertyManager.getCoordinatorEnvironmentBean();
+        coordinatorEnvironmentBean.setCommitOnePhase(true);
+        coordinatorEnvironmentBean.setAsyncPrepare(true);
+    }
+    
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
         if (null != xaRecoveryModule) {
@@ -75,7 +94,18 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
     @SneakyThrows({SystemException.class, RollbackException.class})
     @Override
     public void enlistResource(final SingleXAResource singleXAResource) {
-        transactionManager.getTransaction().enlistResource(singleXAResource.getDelegate());
+        Transaction transaction = transactionManager.getTransaction();
+        transaction.enlistResource(new ParallelCommitXAResource(singleXAResource.getDelegate(), getParallelCommitGroup(transaction)));
+    }
+    
+    private ParallelCommitXAResourceGroup getParallelCommitGroup(final Transaction transaction) throws SystemException, RollbackException {
+        ParallelCommitXAResourceGroup result = parallelCommitGroups.get(transaction);
+        if (null == result) {
+            result = new ParallelCommitXAResourceGroup(parallelCommitExecutor, () -> parallelCommitGroups.remove(transaction));
+            transaction.registerSynchronization(result);
+            parallelCommitGroups.put(transaction, result);
+        }
+        return result;
     }
     
     @Override
@@ -88,6 +118,8 @@ public final class NarayanaXATransactionManagerProvider implements XATransaction
             throw new CloseTransactionManagerFailedException(ex);
         }
         recoveryManagerService.destroy();
+        parallelCommitExecutor.shutdown();
+        parallelCommitGroups.clear();
         cleanPropertiesFactory();
         cleanBeanInstances();
         cleanAtomicActionRecovery();
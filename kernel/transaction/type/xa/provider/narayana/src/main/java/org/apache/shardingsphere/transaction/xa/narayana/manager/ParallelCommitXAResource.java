@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.narayana.manager;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * XA resource whose second phase commit runs in parallel with other prepared XA resources of the same transaction.
+ */
+@RequiredArgsConstructor
+public final class ParallelCommitXAResource implements XAResource {
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final XAResource delegate;
+    
+    private final ParallelCommitXAResourceGroup group;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile Xid preparedXid;
+    
+    @Override
+    public void commit(final Xid xid, final boolean onePhase) throws XAException {
+        if (onePhase) {
+            delegate.commit(xid, true);
+        } else {
+            group.commit(this, xid);
+        }
+    }
+    
+    @Override
+    public void end(final Xid xid, final int flags) throws XAException {
+        delegate.end(xid, flags);
+    }
+    
+    @Override
+    public void forget(final Xid xid) throws XAException {
+        delegate.forget(xid);
+    }
+    
+    @Override
+    public int getTransactionTimeout() throws XAException {
+        return delegate.getTransactionTimeout();
+    }
+    
+    @Override
+    public boolean isSameRM(final XAResource xaResource) throws XAException {
+        return delegate.isSameRM(xaResource instanceof ParallelCommitXAResource ? ((ParallelCommitXAResource) xaResource).delegate : xaResource);
+    }
+    
+    @Override
+    public int prepare(final Xid xid) throws XAException {
+        int result = delegate.prepare(xid);
+        if (XA_OK == result) {
+            preparedXid = xid;
+            group.prepared(this);
+        }
+        return result;
+    }
+    
+    @Override
+    public Xid[] recover(final int flags) throws XAException {
+        return delegate.recover(flags);
+    }
+    
+    @Override
+    public void rollback(final Xid xid) throws XAException {
+        group.rolledBack(this);
+        delegate.rollback(xid);
+    }
+    
+    @Override
+    public boolean setTransactionTimeout(final int timeout) throws XAException {
+        return delegate.setTransactionTimeout(timeout);
+    }
+    
+    @Override
+    public void start(final Xid xid, final int flags) throws XAException {
+        delegate.start(xid, flags);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.narayana.manager;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.transaction.Synchronization;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.Xid;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Group of XA resources enlisted in one transaction, which commits all prepared XA resources in parallel.
+ * 
+ * <p>The transaction manager commits XA resources one by one after the commit decision is logged.
+ * The first commit of the group commits all prepared XA resources in parallel and waits for all of them,
+ * then each commit reports the outcome of its own XA resource, so heuristic outcomes are still handled by the transaction manager.</p>
+ */
+@RequiredArgsConstructor
+public final class ParallelCommitXAResourceGroup implements Synchronization {
+    
+    private final ExecutorService executorService;
+    
+    private final Runnable completionCallback;
+    
+    private final Collection<ParallelCommitXAResource> preparedResources = new CopyOnWriteArrayList<>();
+    
+    private Map<ParallelCommitXAResource, XAException> commitFailures;
+    
+    void prepared(final ParallelCommitXAResource resource) {
+        preparedResources.add(resource);
+    }
+    
+    void rolledBack(final ParallelCommitXAResource resource) {
+        preparedResources.remove(resource);
+    }
+    
+    synchronized void commit(final ParallelCommitXAResource resource, final Xid xid) throws XAException {
+        if (!preparedResources.contains(resource)) {
+            resource.getDelegate().commit(xid, false);
+            return;
+        }
+        if (null == commitFailures) {
+            commitFailures = commitAll(resource, xid);
+        }
+        preparedResources.remove(resource);
+        XAException failure = commitFailures.remove(resource);
+        if (null != failure) {
+            throw failure;
+        }
+    }
+    
+    private Map<ParallelCommitXAResource, XAException> commitAll(final ParallelCommitXAResource currentResource, final Xid currentXid) {
+        Map<ParallelCommitXAResource, Future<?>> futures = new LinkedHashMap<>(preparedResources.size(), 1F);
+        for (ParallelCommitXAResource each : preparedResources) {
+            if (each != currentResource) {
+                futures.put(each, executorService.submit(() -> {
+                    each.getDelegate().commit(each.getPreparedXid(), false);
+                    return null;
+                }));
+            }
+        }
+        Map<ParallelCommitXAResource, XAException> result = new IdentityHashMap<>(preparedResources.size());
+        try {
+            currentResource.getDelegate().commit(currentXid, false);
+        } catch (final XAException ex) {
+            result.put(currentResource, ex);
+        }
+        for (Entry<ParallelCommitXAResource, Future<?>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result.put(entry.getKey(), createXAException(XAException.XAER_RMFAIL, ex));
+            } catch (final ExecutionException ex) {
+                result.put(entry.getKey(), ex.getCause() instanceof XAException ? (XAException) ex.getCause() : createXAException(XAException.XAER_RMERR, ex.getCause()));
+            }
+        }
+        return result;
+    }
+    
+    private XAException createXAException(final int errorCode, final Throwable cause) {
+        XAException result = new XAException(errorCode);
+        result.initCause(cause);
+        return result;
+    }
+    
+    @Override
+    public void beforeCompletion() {
+    }
+    
+    @Override
+    public void afterCompletion(final int status) {
+        completionCallback.run();
+    }
+}
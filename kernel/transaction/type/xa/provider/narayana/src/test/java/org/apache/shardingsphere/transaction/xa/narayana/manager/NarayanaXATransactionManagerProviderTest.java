@@ -37,6 +37,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,7 +83,9 @@ class NarayanaXATransactionManagerProviderTest {
         Transaction transaction = mock(Transaction.class);
         when(transactionManager.getTransaction()).thenReturn(transaction);
         transactionManagerProvider.enlistResource(singleXAResource);
-        verify(transaction).enlistResource(singleXAResource.getDelegate());
+        transactionManagerProvider.enlistResource(singleXAResource);
+        verify(transaction, times(2)).enlistResource(any(ParallelCommitXAResource.class));
+        verify(transaction).registerSynchronization(any(ParallelCommitXAResourceGroup.class));
     }
     
     @Test
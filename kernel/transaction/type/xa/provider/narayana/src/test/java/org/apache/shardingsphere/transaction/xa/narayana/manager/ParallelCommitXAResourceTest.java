@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.xa.narayana.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelCommitXAResourceTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    private final AtomicBoolean completed = new AtomicBoolean();
+    
+    private final ParallelCommitXAResourceGroup group = new ParallelCommitXAResourceGroup(executorService, () -> completed.set(true));
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertCommitPreparedResourcesInParallel() throws XAException, InterruptedException {
+        XAResource delegate1 = mock(XAResource.class);
+        XAResource delegate2 = mock(XAResource.class);
+        Xid xid1 = mock(Xid.class);
+        Xid xid2 = mock(Xid.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean committedInParallel = new AtomicBoolean();
+        doAnswer(invocation -> {
+            committedInParallel.set(latch.await(5L, TimeUnit.SECONDS));
+            return null;
+        }).when(delegate1).commit(xid1, false);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(delegate2).commit(xid2, false);
+        ParallelCommitXAResource resource1 = new ParallelCommitXAResource(delegate1, group);
+        ParallelCommitXAResource resource2 = new ParallelCommitXAResource(delegate2, group);
+        resource1.prepare(xid1);
+        resource2.prepare(xid2);
+        resource1.commit(xid1, false);
+        assertThat(committedInParallel.get(), is(true));
+        resource2.commit(xid2, false);
+        verify(delegate1, times(1)).commit(xid1, false);
+        verify(delegate2, times(1)).commit(xid2, false);
+    }
+    
+    @Test
+    void assertCommitFailureReportedByOwnResource() throws XAException {
+        XAResource delegate1 = mock(XAResource.class);
+        XAResource delegate2 = mock(XAResource.class);
+        Xid xid1 = mock(Xid.class);
+        Xid xid2 = mock(Xid.class);
+        XAException expected = new XAException(XAException.XA_HEURRB);
+        doThrow(expected).when(delegate2).commit(xid2, false);
+        ParallelCommitXAResource resource1 = new ParallelCommitXAResource(delegate1, group);
+        ParallelCommitXAResource resource2 = new ParallelCommitXAResource(delegate2, group);
+        resource1.prepare(xid1);
+        resource2.prepare(xid2);
+        resource1.commit(xid1, false);
+        assertThat(assertThrows(XAException.class, () -> resource2.commit(xid2, false)), is(expected));
+        assertThrows(XAException.class, () -> resource2.commit(xid2, false));
+        verify(delegate2, times(2)).commit(xid2, false);
+    }
+    
+    @Test
+    void assertCommitOnePhase() throws XAException {
+        XAResource delegate = mock(XAResource.class);
+        Xid xid = mock(Xid.class);
+        new ParallelCommitXAResource(delegate, group).commit(xid, true);
+        verify(delegate).commit(xid, true);
+    }
+    
+    @Test
+    void assertReadOnlyResourceNotCommitted() throws XAException {
+        XAResource delegate1 = mock(XAResource.class);
+        XAResource delegate2 = mock(XAResource.class);
+        Xid xid1 = mock(Xid.class);
+        Xid xid2 = mock(Xid.class);
+        when(delegate2.prepare(xid2)).thenReturn(XAResource.XA_RDONLY);
+        ParallelCommitXAResource resource1 = new ParallelCommitXAResource(delegate1, group);
+        ParallelCommitXAResource resource2 = new ParallelCommitXAResource(delegate2, group);
+        resource1.prepare(xid1);
+        assertThat(resource2.prepare(xid2), is(XAResource.XA_RDONLY));
+        resource1.commit(xid1, false);
+        verify(delegate1).commit(xid1, false);
+        verify(delegate2, never()).commit(xid2, false);
+    }
+    
+    @Test
+    void assertIsSameRM() throws XAException {
+        XAResource delegate1 = mock(XAResource.class);
+        XAResource delegate2 = mock(XAResource.class);
+        when(delegate1.isSameRM(delegate2)).thenReturn(true);
+        assertThat(new ParallelCommitXAResource(delegate1, group).isSameRM(new ParallelCommitXAResource(delegate2, group)), is(true));
+    }
+    
+    @Test
+    void assertAfterCompletion() {
+        group.afterCompletion(0);
+        assertThat(completed.get(), is(true));
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -39,6 +42,23 @@ public interface PersistRepository extends TypedSPI {
      */
     String getDirectly(String key);
     
+    /**
+     * Get values of keys from registry center directly in batch.
+     *
+     * @param keys keys
+     * @return key and value map, keys without value are absent
+     */
+    default Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            String value = getDirectly(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -63,6 +83,18 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Repositories which support transaction persist data atomically only if they fit in one transaction.
+     * Larger batches are split into several transactions and are not atomic, data may be persisted partially if failed.</p>
+     *
+     * @param keyValues key and value map
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Update data.
      *
@@ -78,6 +110,15 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Judge whether persisted data survive restart of repository.
+     *
+     * @return durable or not
+     */
+    default boolean isDurable() {
+        return true;
+    }
+    
     /**
      * Close.
      */
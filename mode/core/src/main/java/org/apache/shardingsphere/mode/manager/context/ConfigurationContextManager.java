@@ -23,7 +23,9 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.rule.function.EnhancedRuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -34,6 +36,9 @@ import org.apache.shardingsphere.infra.metadata.database.resource.node.StorageNo
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.SchemaManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereLazyTables;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
@@ -57,6 +62,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -171,13 +177,11 @@ public final class ConfigurationContextManager {
     public synchronized void alterRuleConfiguration(final String databaseName, final RuleConfiguration ruleConfig) {
         try {
             ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+            Map<String, DataSource> dataSources = getDataSources(database);
             Collection<ShardingSphereRule> rules = new LinkedList<>(database.getRuleMetaData().getRules());
             rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
-            rules.addAll(DatabaseRulesBuilder.build(databaseName,
-                    database.getResourceMetaData().getStorageUnits().entrySet().stream()
-                            .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getDataSource(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)),
-                    database.getRuleMetaData().getRules(), ruleConfig, instanceContext));
-            refreshMetadata(databaseName, database, rules);
+            rules.addAll(DatabaseRulesBuilder.build(databaseName, dataSources, database.getRuleMetaData().getRules(), ruleConfig, instanceContext));
+            refreshMetadata(databaseName, database, rebuildEnhancedRules(databaseName, dataSources, rules, ruleConfig));
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
@@ -192,15 +196,13 @@ public final class ConfigurationContextManager {
     public synchronized void dropRuleConfiguration(final String databaseName, final RuleConfiguration ruleConfig) {
         try {
             ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
+            Map<String, DataSource> dataSources = getDataSources(database);
             Collection<ShardingSphereRule> rules = new LinkedList<>(database.getRuleMetaData().getRules());
             rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
             if (isNotEmptyConfig(ruleConfig)) {
-                rules.addAll(DatabaseRulesBuilder.build(databaseName,
-                        database.getResourceMetaData().getStorageUnits().entrySet().stream()
-                                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getDataSource(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new)),
-                        database.getRuleMetaData().getRules(), ruleConfig, instanceContext));
+                rules.addAll(DatabaseRulesBuilder.build(databaseName, dataSources, database.getRuleMetaData().getRules(), ruleConfig, instanceContext));
             }
-            refreshMetadata(databaseName, database, rules);
+            refreshMetadata(databaseName, database, rebuildEnhancedRules(databaseName, dataSources, rules, ruleConfig));
         } catch (final SQLException ex) {
             log.error("Drop database: {} rule configurations failed", databaseName, ex);
         }
@@ -210,19 +212,57 @@ public final class ConfigurationContextManager {
         return !((DatabaseRuleConfiguration) ruleConfig).isEmpty();
     }
     
+    private Map<String, DataSource> getDataSources(final ShardingSphereDatabase database) {
+        return database.getResourceMetaData().getStorageUnits().entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getDataSource(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    }
+    
+    private Collection<ShardingSphereRule> rebuildEnhancedRules(final String databaseName, final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> rules,
+                                                                final RuleConfiguration changedRuleConfig) {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        Collection<RuleConfiguration> enhancedRuleConfigs = new LinkedList<>();
+        for (ShardingSphereRule each : rules) {
+            if (each.getConfiguration() instanceof EnhancedRuleConfiguration && !each.getConfiguration().getClass().isAssignableFrom(changedRuleConfig.getClass())) {
+                enhancedRuleConfigs.add(each.getConfiguration());
+            } else {
+                result.add(each);
+            }
+        }
+        for (RuleConfiguration each : enhancedRuleConfigs) {
+            result.addAll(DatabaseRulesBuilder.build(databaseName, dataSources, result, each, instanceContext));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
-        database.getRuleMetaData().getRules().clear();
-        database.getRuleMetaData().getRules().addAll(rules);
-        MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getConfigurations());
-        alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
-        metaDataContexts.set(reloadMetaDataContexts);
-        metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+        Collection<String> alteredTableNames = RuleAlteredTableDetector.getAlteredTableNames(database.getRuleMetaData().getRules(), rules);
+        ShardingSphereDatabase changedDatabase = new ShardingSphereDatabase(database.getName(), database.getProtocolType(), database.getResourceMetaData(),
+                new RuleMetaData(rules), createChangedSchemas(database, rules, alteredTableNames));
+        alterSchemaMetaData(databaseName, changedDatabase, database);
+        Map<String, ShardingSphereDatabase> changedDatabases = new LinkedHashMap<>(metaDataContexts.get().getMetaData().getDatabases());
+        changedDatabases.put(databaseName.toLowerCase(), changedDatabase);
+        ConfigurationProperties props = metaDataContexts.get().getMetaData().getProps();
+        metaDataContexts.get().getMetaData().getGlobalRuleMetaData().findRules(ResourceHeldRule.class).forEach(ResourceHeldRule::closeStaleResource);
+        RuleMetaData changedGlobalRuleMetaData = new RuleMetaData(
+                GlobalRulesBuilder.buildRules(metaDataContexts.get().getMetaData().getGlobalRuleMetaData().getConfigurations(), changedDatabases, props));
+        metaDataContexts.set(newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(), changedGlobalRuleMetaData, props)));
     }
     
-    private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        Map<String, ShardingSphereDatabase> changedDatabases = createChangedDatabases(databaseName, false, null, ruleConfigs);
-        return newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
-                metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps()));
+    private Map<String, ShardingSphereSchema> createChangedSchemas(final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules,
+                                                                   final Collection<String> alteredTableNames) throws SQLException {
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(database.getSchemas().size(), 1F);
+        database.getSchemas().forEach((key, value) -> result.put(key, alteredTableNames.isEmpty() ? value : new ShardingSphereSchema(value.getTables(), value.getViews(), copyLazyTables(value))));
+        if (alteredTableNames.isEmpty()) {
+            return result;
+        }
+        result.values().forEach(each -> alteredTableNames.forEach(each::removeTable));
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageUnits(), rules,
+                metaDataContexts.get().getMetaData().getProps(), new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(alteredTableNames, material).entrySet()) {
+            result.computeIfAbsent(entry.getKey(), key -> new ShardingSphereSchema()).putAll(entry.getValue().getTables());
+        }
+        return result;
     }
     
     /**
@@ -389,10 +429,14 @@ public final class ConfigurationContextManager {
     private Map<String, ShardingSphereSchema> newShardingSphereSchemas(final ShardingSphereDatabase database) {
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(database.getSchemas().size(), 1F);
         database.getSchemas().forEach((key, value) -> result.put(key, new ShardingSphereSchema(value.getTables(),
-                metaDataContexts.get().getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key))));
+                metaDataContexts.get().getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key), copyLazyTables(value))));
         return result;
     }
     
+    private ShardingSphereLazyTables copyLazyTables(final ShardingSphereSchema schema) {
+        return null == schema.getLazyTables() ? null : schema.getLazyTables().copy();
+    }
+    
     /**
      * Create new ShardingSphere database.
      *
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.context;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rule altered table detector.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RuleAlteredTableDetector {
+    
+    /**
+     * Get altered table names, which are added, removed or routed to different data nodes by to be changed rules.
+     *
+     * @param currentRules current rules
+     * @param toBeChangedRules to be changed rules
+     * @return altered table names in lower case
+     */
+    public static Collection<String> getAlteredTableNames(final Collection<ShardingSphereRule> currentRules, final Collection<ShardingSphereRule> toBeChangedRules) {
+        Map<String, Collection<DataNode>> currentTableDataNodes = getTableDataNodes(currentRules);
+        Map<String, Collection<DataNode>> toBeChangedTableDataNodes = getTableDataNodes(toBeChangedRules);
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : currentTableDataNodes.keySet()) {
+            if (!Objects.equals(currentTableDataNodes.get(each), toBeChangedTableDataNodes.get(each))) {
+                result.add(each);
+            }
+        }
+        for (String each : toBeChangedTableDataNodes.keySet()) {
+            if (!currentTableDataNodes.containsKey(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<DataNode>> getTableDataNodes(final Collection<ShardingSphereRule> rules) {
+        Map<String, Collection<DataNode>> result = new HashMap<>();
+        for (ShardingSphereRule each : rules) {
+            if (!(each instanceof TableContainedRule)) {
+                continue;
+            }
+            for (String tableName : ((TableContainedRule) each).getLogicTableMapper().getTableNames()) {
+                Collection<DataNode> dataNodes = result.computeIfAbsent(tableName.toLowerCase(), key -> new LinkedHashSet<>());
+                if (each instanceof DataNodeContainedRule) {
+                    dataNodes.addAll(((DataNodeContainedRule) each).getDataNodesByTableName(tableName));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.factory.InternalMetaDataFactory;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 
@@ -102,6 +103,7 @@ public final class MetaDataContextsFactory {
             persistDatabaseConfigurations(result, param);
             persistMetaData(result);
         }
+        rebuildMetaDataSnapshots(result);
         return result;
     }
     
@@ -153,6 +155,12 @@ public final class MetaDataContextsFactory {
         }
     }
     
+    private static void rebuildMetaDataSnapshots(final MetaDataContexts metaDataContexts) {
+        TableMetaDataPersistService tableMetaDataPersistService = metaDataContexts.getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService();
+        metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas().keySet()
+                .forEach(schemaName -> tableMetaDataPersistService.rebuildSnapshotIfNecessary(each.getName(), schemaName)));
+    }
+    
     private static void persistMetaData(final MetaDataContexts metaDataContexts) {
         metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas()
                 .forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(each.getName(), schemaName, schema)));
@@ -21,14 +21,23 @@ import com.google.common.eventbus.Subscribe;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.event.rule.RuleItemChangedEvent;
 import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterRuleItemEvent;
 import org.apache.shardingsphere.infra.rule.event.rule.drop.DropRuleItemEvent;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.event.config.AlterDatabaseRuleConfigurationEvent;
 import org.apache.shardingsphere.mode.event.config.DropDatabaseRuleConfigurationEvent;
+import org.apache.shardingsphere.mode.event.config.RuleItemChangedBatchEvent;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.spi.RuleItemConfigurationChangedProcessor;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Rule item changed subscriber.
  */
@@ -42,20 +51,11 @@ public final class RuleItemChangedSubscriber {
      *
      * @param event alter rule item event
      */
-    @SuppressWarnings({"UnstableApiUsage", "rawtypes", "unchecked"})
+    @SuppressWarnings("UnstableApiUsage")
     @Subscribe
     public void renew(final AlterRuleItemEvent event) {
-        if (!event.getActiveVersion().equals(contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().getActiveVersionByFullPath(event.getActiveVersionKey()))) {
-            return;
-        }
-        RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
-        String yamlContent =
-                contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().getVersionPathByActiveVersion(event.getActiveVersionKey(), event.getActiveVersion());
-        ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabases().get(event.getDatabaseName());
-        RuleConfiguration currentRuleConfig = processor.findRuleConfiguration(database);
         synchronized (this) {
-            processor.changeRuleItemConfiguration(event, currentRuleConfig, processor.swapRuleItemConfiguration(event, yamlContent));
-            contextManager.getInstanceContext().getEventBusContext().post(new AlterDatabaseRuleConfigurationEvent(event.getDatabaseName(), currentRuleConfig));
+            changeRuleItem(event, new HashMap<>()).ifPresent(optional -> contextManager.getInstanceContext().getEventBusContext().post(new AlterDatabaseRuleConfigurationEvent(event.getDatabaseName(), optional)));
         }
     }
     
@@ -64,18 +64,76 @@ public final class RuleItemChangedSubscriber {
      *
      * @param event drop rule item event
      */
-    @SuppressWarnings({"UnstableApiUsage", "rawtypes", "unchecked"})
+    @SuppressWarnings("UnstableApiUsage")
     @Subscribe
     public void renew(final DropRuleItemEvent event) {
-        if (!contextManager.getMetaDataContexts().getMetaData().containsDatabase(event.getDatabaseName())) {
-            return;
+        synchronized (this) {
+            dropRuleItem(event, new HashMap<>()).ifPresent(optional -> contextManager.getInstanceContext().getEventBusContext().post(new DropDatabaseRuleConfigurationEvent(event.getDatabaseName(), optional)));
+        }
+    }
+    
+    /**
+     * Renew with rule item changed batch, each changed rule configuration is rebuilt only once.
+     * 
+     * <p>All items of the same rule configuration type are applied on one current rule configuration, because the processor may create a new one when the rule is absent.</p>
+     *
+     * @param event rule item changed batch event
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    @Subscribe
+    public void renew(final RuleItemChangedBatchEvent event) {
+        synchronized (this) {
+            Map<RuleConfiguration, Boolean> droppedRuleConfigs = new IdentityHashMap<>();
+            Collection<RuleConfiguration> changedRuleConfigs = new LinkedList<>();
+            Map<Class<?>, RuleConfiguration> currentRuleConfigs = new HashMap<>();
+            for (RuleItemChangedEvent each : event.getEvents()) {
+                boolean isDropped = each instanceof DropRuleItemEvent;
+                Optional<RuleConfiguration> ruleConfig = isDropped ? dropRuleItem((DropRuleItemEvent) each, currentRuleConfigs) : changeRuleItem((AlterRuleItemEvent) each, currentRuleConfigs);
+                ruleConfig.ifPresent(optional -> {
+                    if (!droppedRuleConfigs.containsKey(optional)) {
+                        changedRuleConfigs.add(optional);
+                    }
+                    droppedRuleConfigs.put(optional, isDropped);
+                });
+            }
+            for (RuleConfiguration each : changedRuleConfigs) {
+                contextManager.getInstanceContext().getEventBusContext().post(droppedRuleConfigs.get(each)
+                        ? new DropDatabaseRuleConfigurationEvent(event.getDatabaseName(), each)
+                        : new AlterDatabaseRuleConfigurationEvent(event.getDatabaseName(), each));
+            }
+        }
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Optional<RuleConfiguration> changeRuleItem(final AlterRuleItemEvent event, final Map<Class<?>, RuleConfiguration> currentRuleConfigs) {
+        if (!event.getActiveVersion().equals(contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().getActiveVersionByFullPath(event.getActiveVersionKey()))) {
+            return Optional.empty();
         }
         RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
+        String yamlContent =
+                contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().getVersionPathByActiveVersion(event.getActiveVersionKey(), event.getActiveVersion());
         ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabases().get(event.getDatabaseName());
-        RuleConfiguration currentRuleConfig = processor.findRuleConfiguration(database);
-        synchronized (this) {
-            processor.dropRuleItemConfiguration(event, currentRuleConfig);
-            contextManager.getInstanceContext().getEventBusContext().post(new DropDatabaseRuleConfigurationEvent(event.getDatabaseName(), currentRuleConfig));
+        RuleConfiguration result = findCurrentRuleConfiguration(processor, database, currentRuleConfigs);
+        processor.changeRuleItemConfiguration(event, result, processor.swapRuleItemConfiguration(event, yamlContent));
+        return Optional.of(result);
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Optional<RuleConfiguration> dropRuleItem(final DropRuleItemEvent event, final Map<Class<?>, RuleConfiguration> currentRuleConfigs) {
+        if (!contextManager.getMetaDataContexts().getMetaData().containsDatabase(event.getDatabaseName())) {
+            return Optional.empty();
         }
+        RuleItemConfigurationChangedProcessor processor = TypedSPILoader.getService(RuleItemConfigurationChangedProcessor.class, event.getType());
+        ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabases().get(event.getDatabaseName());
+        RuleConfiguration result = findCurrentRuleConfiguration(processor, database, currentRuleConfigs);
+        processor.dropRuleItemConfiguration(event, result);
+        return Optional.of(result);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private RuleConfiguration findCurrentRuleConfiguration(final RuleItemConfigurationChangedProcessor processor, final ShardingSphereDatabase database,
+                                                           final Map<Class<?>, RuleConfiguration> currentRuleConfigs) {
+        RuleConfiguration result = processor.findRuleConfiguration(database);
+        return currentRuleConfigs.computeIfAbsent(result.getClass(), key -> result);
     }
 }
@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.mode.fixture;
 
+import lombok.Getter;
 import org.apache.shardingsphere.infra.config.rule.function.DistributedRuleConfiguration;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
+@Getter
 public final class ModeRuleConfigurationFixture implements DistributedRuleConfiguration {
+    
+    private final Collection<String> items = new LinkedList<>();
 }
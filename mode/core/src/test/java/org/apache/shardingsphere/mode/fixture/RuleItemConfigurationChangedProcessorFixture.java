@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.fixture;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterNamedRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropNamedRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropRuleItemEvent;
+import org.apache.shardingsphere.mode.spi.RuleItemConfigurationChangedProcessor;
+
+public final class RuleItemConfigurationChangedProcessorFixture implements RuleItemConfigurationChangedProcessor<ModeRuleConfigurationFixture, String> {
+    
+    @Override
+    public String swapRuleItemConfiguration(final AlterRuleItemEvent event, final String yamlContent) {
+        return ((AlterNamedRuleItemEvent) event).getItemName();
+    }
+    
+    @Override
+    public ModeRuleConfigurationFixture findRuleConfiguration(final ShardingSphereDatabase database) {
+        return new ModeRuleConfigurationFixture();
+    }
+    
+    @Override
+    public void changeRuleItemConfiguration(final AlterRuleItemEvent event, final ModeRuleConfigurationFixture currentRuleConfig, final String toBeChangedItemConfig) {
+        currentRuleConfig.getItems().add(toBeChangedItemConfig);
+    }
+    
+    @Override
+    public void dropRuleItemConfiguration(final DropRuleItemEvent event, final ModeRuleConfigurationFixture currentRuleConfig) {
+        currentRuleConfig.getItems().remove(((DropNamedRuleItemEvent) event).getItemName());
+    }
+    
+    @Override
+    public String getType() {
+        return "FIXTURE";
+    }
+}
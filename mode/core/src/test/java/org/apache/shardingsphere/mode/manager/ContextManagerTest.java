@@ -39,8 +39,10 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.mode.event.manager.ContextManagerClosedEvent;
 import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
@@ -93,6 +95,7 @@ class ContextManagerTest {
         when(metaDataContexts.getMetaData().getDatabases().values()).thenReturn(Collections.singleton(database));
         InstanceContext instanceContext = mock(InstanceContext.class);
         when(instanceContext.getModeContextManager()).thenReturn(mock(ModeContextManager.class));
+        when(instanceContext.getEventBusContext()).thenReturn(mock(EventBusContext.class));
         contextManager = new ContextManager(metaDataContexts, instanceContext);
     }
     
@@ -332,6 +335,7 @@ class ContextManagerTest {
     @Test
     void assertClose() {
         contextManager.close();
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(any(ContextManagerClosedEvent.class));
         verify(metaDataContexts).close();
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableNamesMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class RuleAlteredTableDetectorTest {
+    
+    @Test
+    void assertGetAlteredTableNamesWithoutChange() {
+        ShardingSphereRule rule = mockRule(Collections.singletonMap("t_order", Collections.singletonList(new DataNode("ds_0.t_order_0"))));
+        assertTrue(RuleAlteredTableDetector.getAlteredTableNames(Collections.singleton(rule), Collections.singleton(rule)).isEmpty());
+    }
+    
+    @Test
+    void assertGetAlteredTableNamesWithChangedDataNodes() {
+        ShardingSphereRule currentRule = mockRule(Collections.singletonMap("t_order", Collections.singletonList(new DataNode("ds_0.t_order_0"))));
+        ShardingSphereRule toBeChangedRule = mockRule(Collections.singletonMap("t_order", Arrays.asList(new DataNode("ds_0.t_order_0"), new DataNode("ds_1.t_order_0"))));
+        assertThat(RuleAlteredTableDetector.getAlteredTableNames(Collections.singleton(currentRule), Collections.singleton(toBeChangedRule)), is(Collections.singleton("t_order")));
+    }
+    
+    @Test
+    void assertGetAlteredTableNamesWithAddedAndRemovedTables() {
+        ShardingSphereRule currentRule = mockRule(Collections.singletonMap("t_order", Collections.singletonList(new DataNode("ds_0.t_order_0"))));
+        ShardingSphereRule toBeChangedRule = mockRule(Collections.singletonMap("T_USER", Collections.singletonList(new DataNode("ds_0.t_user"))));
+        Collection<String> actual = RuleAlteredTableDetector.getAlteredTableNames(Collections.singleton(currentRule), Collections.singleton(toBeChangedRule));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order"));
+        assertTrue(actual.contains("t_user"));
+    }
+    
+    private ShardingSphereRule mockRule(final Map<String, Collection<DataNode>> tableDataNodes) {
+        DataNodeContainedRule result = mock(DataNodeContainedRule.class, withSettings().extraInterfaces(TableContainedRule.class));
+        TableNamesMapper tableNamesMapper = new TableNamesMapper();
+        tableDataNodes.keySet().forEach(tableNamesMapper::put);
+        when(((TableContainedRule) result).getLogicTableMapper()).thenReturn(tableNamesMapper);
+        tableDataNodes.forEach((key, value) -> when(result.getDataNodesByTableName(key)).thenReturn(value));
+        return result;
+    }
+}
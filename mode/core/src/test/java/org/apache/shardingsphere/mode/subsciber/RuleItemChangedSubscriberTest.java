@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.subsciber;
+
+import org.apache.shardingsphere.infra.rule.event.rule.RuleItemChangedEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterNamedRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropNamedRuleItemEvent;
+import org.apache.shardingsphere.mode.event.config.AlterDatabaseRuleConfigurationEvent;
+import org.apache.shardingsphere.mode.event.config.RuleItemChangedBatchEvent;
+import org.apache.shardingsphere.mode.fixture.ModeRuleConfigurationFixture;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RuleItemChangedSubscriberTest {
+    
+    private final ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+    
+    @BeforeEach
+    void setUp() {
+        when(contextManager.getMetaDataContexts().getPersistService().getMetaDataVersionPersistService().getActiveVersionByFullPath(anyString())).thenReturn("0");
+        when(contextManager.getMetaDataContexts().getMetaData().containsDatabase("foo_db")).thenReturn(true);
+    }
+    
+    @Test
+    void assertRenewWithBatchEventAgainstAbsentRule() {
+        Collection<RuleItemChangedEvent> events = new LinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(new AlterNamedRuleItemEvent("foo_db", "foo_item_" + i, "foo_key_" + i, "0", "FIXTURE"));
+        }
+        new RuleItemChangedSubscriber(contextManager).renew(new RuleItemChangedBatchEvent("foo_db", events));
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(eventCaptor.capture());
+        assertThat(eventCaptor.getValue(), instanceOf(AlterDatabaseRuleConfigurationEvent.class));
+        ModeRuleConfigurationFixture actual = (ModeRuleConfigurationFixture) ((AlterDatabaseRuleConfigurationEvent) eventCaptor.getValue()).getRuleConfig();
+        assertThat(actual.getItems(), is(Arrays.asList("foo_item_0", "foo_item_1", "foo_item_2")));
+    }
+    
+    @Test
+    void assertRenewWithBatchEventOfAlterAndDropAgainstAbsentRule() {
+        Collection<RuleItemChangedEvent> events = Arrays.asList(new AlterNamedRuleItemEvent("foo_db", "foo_item", "foo_key", "0", "FIXTURE"),
+                new AlterNamedRuleItemEvent("foo_db", "bar_item", "bar_key", "0", "FIXTURE"), new DropNamedRuleItemEvent("foo_db", "foo_item", "FIXTURE"),
+                new AlterNamedRuleItemEvent("foo_db", "baz_item", "baz_key", "0", "FIXTURE"));
+        new RuleItemChangedSubscriber(contextManager).renew(new RuleItemChangedBatchEvent("foo_db", events));
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(contextManager.getInstanceContext().getEventBusContext()).post(eventCaptor.capture());
+        ModeRuleConfigurationFixture actual = (ModeRuleConfigurationFixture) ((AlterDatabaseRuleConfigurationEvent) eventCaptor.getValue()).getRuleConfig();
+        assertThat(actual.getItems(), is(Arrays.asList("bar_item", "baz_item")));
+    }
+}
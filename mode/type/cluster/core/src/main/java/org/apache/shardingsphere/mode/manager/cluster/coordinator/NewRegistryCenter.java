@@ -100,7 +100,7 @@ public final class NewRegistryCenter {
         new NewComputeNodeStatusSubscriber(this, repository);
         new ClusterStatusSubscriber(repository, eventBusContext);
         new StorageNodeStatusSubscriber(repository, eventBusContext);
-        new ClusterProcessSubscriber(repository, eventBusContext);
+        new ClusterProcessSubscriber(repository, eventBusContext, instanceMetaData.getId());
         new ShardingSphereSchemaDataRegistrySubscriber(repository, globalLockPersistService, eventBusContext);
     }
     
@@ -99,7 +99,7 @@ public final class RegistryCenter {
         new ComputeNodeStatusSubscriber(this, repository);
         new ClusterStatusSubscriber(repository, eventBusContext);
         new StorageNodeStatusSubscriber(repository, eventBusContext);
-        new ClusterProcessSubscriber(repository, eventBusContext);
+        new ClusterProcessSubscriber(repository, eventBusContext, instanceMetaData.getId());
         new ShardingSphereSchemaDataRegistrySubscriber(repository, globalLockPersistService, eventBusContext);
     }
     
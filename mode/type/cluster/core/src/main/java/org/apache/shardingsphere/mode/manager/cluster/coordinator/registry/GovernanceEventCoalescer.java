@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.rule.event.GovernanceEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.RuleItemChangedEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropRuleItemEvent;
+import org.apache.shardingsphere.mode.event.config.RuleItemChangedBatchEvent;
+import org.apache.shardingsphere.mode.event.schema.table.AlterTableEvent;
+import org.apache.shardingsphere.mode.event.schema.view.AlterViewEvent;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+
+/**
+ * Governance event coalescer.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GovernanceEventCoalescer {
+    
+    /**
+     * Coalesce governance events.
+     * 
+     * <p>Only the last event of the same active version key is retained, because former versions are overwritten by the last one.
+     * Consecutive rule item changed events of the same database are merged into one rule item changed batch event.
+     * The order of remained events is kept.</p>
+     *
+     * @param events governance events in received order
+     * @return coalesced governance events
+     */
+    public static List<GovernanceEvent> coalesce(final List<GovernanceEvent> events) {
+        return mergeRuleItemChangedEvents(removeSupersededEvents(events));
+    }
+    
+    private static List<GovernanceEvent> removeSupersededEvents(final List<GovernanceEvent> events) {
+        LinkedList<GovernanceEvent> result = new LinkedList<>();
+        Collection<String> activeVersionKeys = new HashSet<>();
+        ListIterator<GovernanceEvent> iterator = events.listIterator(events.size());
+        while (iterator.hasPrevious()) {
+            GovernanceEvent each = iterator.previous();
+            Optional<String> activeVersionKey = findActiveVersionKey(each);
+            if (!activeVersionKey.isPresent() || activeVersionKeys.add(activeVersionKey.get())) {
+                result.addFirst(each);
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<String> findActiveVersionKey(final GovernanceEvent event) {
+        if (event instanceof AlterRuleItemEvent) {
+            return Optional.ofNullable(((AlterRuleItemEvent) event).getActiveVersionKey());
+        }
+        if (event instanceof AlterTableEvent) {
+            return Optional.ofNullable(((AlterTableEvent) event).getActiveVersionKey());
+        }
+        if (event instanceof AlterViewEvent) {
+            return Optional.ofNullable(((AlterViewEvent) event).getActiveVersionKey());
+        }
+        return Optional.empty();
+    }
+    
+    private static List<GovernanceEvent> mergeRuleItemChangedEvents(final List<GovernanceEvent> events) {
+        List<GovernanceEvent> result = new LinkedList<>();
+        String currentDatabaseName = null;
+        List<RuleItemChangedEvent> ruleItemChangedEvents = new LinkedList<>();
+        for (GovernanceEvent each : events) {
+            Optional<String> databaseName = findRuleItemDatabaseName(each);
+            if (!databaseName.isPresent() || !databaseName.get().equals(currentDatabaseName)) {
+                addRuleItemChangedEvents(result, currentDatabaseName, ruleItemChangedEvents);
+                ruleItemChangedEvents = new LinkedList<>();
+                currentDatabaseName = databaseName.orElse(null);
+            }
+            if (databaseName.isPresent()) {
+                ruleItemChangedEvents.add((RuleItemChangedEvent) each);
+            } else {
+                result.add(each);
+            }
+        }
+        addRuleItemChangedEvents(result, currentDatabaseName, ruleItemChangedEvents);
+        return result;
+    }
+    
+    private static Optional<String> findRuleItemDatabaseName(final GovernanceEvent event) {
+        if (event instanceof AlterRuleItemEvent) {
+            return Optional.of(((AlterRuleItemEvent) event).getDatabaseName());
+        }
+        if (event instanceof DropRuleItemEvent) {
+            return Optional.of(((DropRuleItemEvent) event).getDatabaseName());
+        }
+        return Optional.empty();
+    }
+    
+    private static void addRuleItemChangedEvents(final Collection<GovernanceEvent> result, final String databaseName, final List<RuleItemChangedEvent> ruleItemChangedEvents) {
+        if (1 == ruleItemChangedEvents.size()) {
+            result.add(ruleItemChangedEvents.get(0));
+        } else if (ruleItemChangedEvents.size() > 1) {
+            result.add(new RuleItemChangedBatchEvent(databaseName, ruleItemChangedEvents));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
+
+import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rule.event.GovernanceEvent;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.event.manager.ContextManagerClosedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Governance event dispatcher.
+ *
+ * <p>Governance events with the same batch key are collected within a short window, coalesced, and then posted in received order.
+ * Pending batches are flushed before an unbatched event is posted, so that no event overtakes the events received before it.</p>
+ */
+public final class GovernanceEventDispatcher {
+    
+    private static final long DEFAULT_WINDOW_MILLIS = 100L;
+    
+    private final EventBusContext eventBusContext;
+    
+    private final long windowMillis;
+    
+    private final ScheduledExecutorService executorService;
+    
+    private final Map<String, Collection<PendingGovernanceEvent>> pendingEvents = new LinkedHashMap<>();
+    
+    private final Object postLock = new Object();
+    
+    public GovernanceEventDispatcher(final EventBusContext eventBusContext) {
+        this(eventBusContext, DEFAULT_WINDOW_MILLIS);
+    }
+    
+    public GovernanceEventDispatcher(final EventBusContext eventBusContext, final long windowMillis) {
+        this.eventBusContext = eventBusContext;
+        this.windowMillis = windowMillis;
+        executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-GovernanceEventDispatcher-%d").build());
+        eventBusContext.register(this);
+    }
+    
+    /**
+     * Dispatch governance event.
+     *
+     * @param batchKey batch key
+     * @param event governance event
+     */
+    public void dispatch(final String batchKey, final GovernanceEvent event) {
+        if (executorService.isShutdown()) {
+            dispatchImmediately(event);
+            return;
+        }
+        synchronized (pendingEvents) {
+            Collection<PendingGovernanceEvent> events = pendingEvents.get(batchKey);
+            if (null == events) {
+                events = new LinkedList<>();
+                pendingEvents.put(batchKey, events);
+                executorService.schedule(() -> flush(batchKey), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            events.add(new PendingGovernanceEvent(event, System.currentTimeMillis()));
+        }
+    }
+    
+    /**
+     * Dispatch unbatched event after all pending governance events posted.
+     *
+     * @param event unbatched event
+     */
+    public void dispatchImmediately(final Object event) {
+        synchronized (postLock) {
+            flushAll();
+            eventBusContext.post(event);
+        }
+    }
+    
+    /**
+     * Close dispatcher after all pending governance events posted.
+     *
+     * @param event context manager closed event
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    @Subscribe
+    public void close(final ContextManagerClosedEvent event) {
+        synchronized (postLock) {
+            flushAll();
+            executorService.shutdownNow();
+        }
+    }
+    
+    private void flushAll() {
+        Collection<String> batchKeys;
+        synchronized (pendingEvents) {
+            batchKeys = new ArrayList<>(pendingEvents.keySet());
+        }
+        batchKeys.forEach(this::flush);
+    }
+    
+    private void flush(final String batchKey) {
+        synchronized (postLock) {
+            Collection<PendingGovernanceEvent> events;
+            synchronized (pendingEvents) {
+                events = pendingEvents.remove(batchKey);
+            }
+            if (null == events || events.isEmpty()) {
+                return;
+            }
+            List<GovernanceEvent> receivedEvents = new ArrayList<>(events.size());
+            events.forEach(each -> receivedEvents.add(each.getEvent()));
+            post(batchKey, GovernanceEventCoalescer.coalesce(receivedEvents), System.currentTimeMillis() - events.iterator().next().getReceivedMillis());
+        }
+    }
+    
+    /**
+     * Post coalesced governance events.
+     *
+     * @param batchKey batch key
+     * @param events coalesced governance events
+     * @param lagMillis lag millis between first event received and posted
+     */
+    public void post(final String batchKey, final Collection<GovernanceEvent> events, final long lagMillis) {
+        events.forEach(eventBusContext::post);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingGovernanceEvent {
+        
+        private final GovernanceEvent event;
+        
+        private final long receivedMillis;
+    }
+}
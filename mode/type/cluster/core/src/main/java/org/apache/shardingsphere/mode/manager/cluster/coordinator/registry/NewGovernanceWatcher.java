@@ -55,4 +55,15 @@ public interface NewGovernanceWatcher<T> {
      * @return governance event
      */
     Optional<T> createGovernanceEvent(DataChangedEvent event);
+    
+    /**
+     * Get batch key of registry center data changed event.
+     * Governance events with the same batch key are coalesced and dispatched in batch.
+     *
+     * @param event registry center data changed event
+     * @return batch key, empty means governance event should be dispatched immediately
+     */
+    default Optional<String> getBatchKey(final DataChangedEvent event) {
+        return Optional.empty();
+    }
 }
@@ -17,24 +17,31 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
 
-import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.rule.event.GovernanceEvent;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 
+import java.util.Optional;
+
 /**
  * TODO replace the old GovernanceWatcherFactory after meta data refactor completed
  * New governance watcher factory.
  */
-@RequiredArgsConstructor
 public final class NewGovernanceWatcherFactory {
     
     private final ClusterPersistRepository repository;
     
-    private final EventBusContext eventBusContext;
-    
     private final String databaseName;
     
+    private final GovernanceEventDispatcher eventDispatcher;
+    
+    public NewGovernanceWatcherFactory(final ClusterPersistRepository repository, final EventBusContext eventBusContext, final String databaseName) {
+        this.repository = repository;
+        this.databaseName = databaseName;
+        eventDispatcher = new GovernanceEventDispatcher(eventBusContext);
+    }
+    
     /**
      * Watch listeners.
      */
@@ -52,8 +59,18 @@ public final class NewGovernanceWatcherFactory {
     
     private void watch(final String watchingKey, final NewGovernanceWatcher<?> listener) {
         repository.watch(watchingKey, dataChangedEventListener -> {
-            if (listener.getWatchingTypes().contains(dataChangedEventListener.getType())) {
-                listener.createGovernanceEvent(dataChangedEventListener).ifPresent(eventBusContext::post);
+            if (!listener.getWatchingTypes().contains(dataChangedEventListener.getType())) {
+                return;
+            }
+            Optional<?> event = listener.createGovernanceEvent(dataChangedEventListener);
+            if (!event.isPresent()) {
+                return;
+            }
+            Optional<String> batchKey = listener.getBatchKey(dataChangedEventListener);
+            if (batchKey.isPresent() && event.get() instanceof GovernanceEvent) {
+                eventDispatcher.dispatch(batchKey.get(), (GovernanceEvent) event.get());
+            } else {
+                eventDispatcher.dispatchImmediately(event.get());
             }
         });
     }
@@ -63,6 +63,11 @@ public final class NewMetaDataChangedWatcher implements NewGovernanceWatcher<Gov
         return Arrays.asList(Type.ADDED, Type.UPDATED, Type.DELETED);
     }
     
+    @Override
+    public Optional<String> getBatchKey(final DataChangedEvent event) {
+        return event.getKey().startsWith(DatabaseMetaDataNode.getMetaDataNodePath() + "/") ? NewDatabaseMetaDataNode.getDatabaseNameBySchemaNode(event.getKey()) : Optional.empty();
+    }
+    
     @Override
     public Optional<GovernanceEvent> createGovernanceEvent(final DataChangedEvent event) {
         String key = event.getKey();
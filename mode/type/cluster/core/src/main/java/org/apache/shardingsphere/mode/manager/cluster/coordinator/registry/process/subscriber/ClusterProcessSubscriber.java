@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
 
 import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.lock.ProcessOperationLockRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.yaml.YamlProcessList;
 import org.apache.shardingsphere.infra.executor.sql.process.yaml.swapper.YamlProcessListSwapper;
@@ -32,7 +34,12 @@ import org.apache.shardingsphere.mode.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.mode.process.event.ShowProcessListResponseEvent;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
@@ -40,6 +47,8 @@ import java.util.stream.Stream;
 
 /**
  * Cluster process subscriber.
+ * 
+ * <p>Processes of current instance are served from local process registry directly, only processes of remote instances go through registry center.</p>
  */
 @SuppressWarnings("UnstableApiUsage")
 public final class ClusterProcessSubscriber implements ProcessSubscriber {
@@ -48,11 +57,14 @@ public final class ClusterProcessSubscriber implements ProcessSubscriber {
     
     private final EventBusContext eventBusContext;
     
+    private final String instanceId;
+    
     private final YamlProcessListSwapper swapper;
     
-    public ClusterProcessSubscriber(final PersistRepository repository, final EventBusContext eventBusContext) {
+    public ClusterProcessSubscriber(final PersistRepository repository, final EventBusContext eventBusContext, final String instanceId) {
         this.repository = repository;
         this.eventBusContext = eventBusContext;
+        this.instanceId = instanceId;
         swapper = new YamlProcessListSwapper();
         eventBusContext.register(this);
     }
@@ -60,13 +72,19 @@ public final class ClusterProcessSubscriber implements ProcessSubscriber {
     @Override
     @Subscribe
     public void postShowProcessListData(final ShowProcessListRequestEvent event) {
+        Collection<Process> result = new LinkedList<>(ProcessRegistry.getInstance().listAll());
         String taskId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Collection<String> triggerPaths = getShowProcessListTriggerPaths(taskId);
+        if (triggerPaths.isEmpty()) {
+            eventBusContext.post(new ShowProcessListResponseEvent(result));
+            return;
+        }
         boolean isCompleted = false;
         try {
-            triggerPaths.forEach(each -> repository.persist(each, ""));
+            repository.batchPersist(createEmptyValues(triggerPaths));
             isCompleted = ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(taskId, () -> isReady(triggerPaths));
-            postShowProcessListData(taskId);
+            result.addAll(loadRemoteProcesses(taskId));
+            eventBusContext.post(new ShowProcessListResponseEvent(result));
         } finally {
             repository.delete(ProcessNode.getProcessIdPath(taskId));
             if (!isCompleted) {
@@ -75,33 +93,55 @@ public final class ClusterProcessSubscriber implements ProcessSubscriber {
         }
     }
     
-    private void postShowProcessListData(final String taskId) {
+    private Collection<Process> loadRemoteProcesses(final String taskId) {
+        Collection<String> instancePaths = repository.getChildrenKeys(ProcessNode.getProcessIdPath(taskId)).stream()
+                .filter(each -> !instanceId.equals(each)).map(each -> ProcessNode.getProcessListInstancePath(taskId, each)).collect(Collectors.toList());
+        if (instancePaths.isEmpty()) {
+            return new LinkedList<>();
+        }
         YamlProcessList yamlProcessList = new YamlProcessList();
-        for (String each : repository.getChildrenKeys(ProcessNode.getProcessIdPath(taskId)).stream()
-                .map(each -> repository.getDirectly(ProcessNode.getProcessListInstancePath(taskId, each))).collect(Collectors.toList())) {
-            yamlProcessList.getProcesses().addAll(YamlEngine.unmarshal(each, YamlProcessList.class).getProcesses());
+        for (String each : repository.batchGetDirectly(instancePaths).values()) {
+            if (null != each && !each.isEmpty()) {
+                yamlProcessList.getProcesses().addAll(YamlEngine.unmarshal(each, YamlProcessList.class).getProcesses());
+            }
         }
-        eventBusContext.post(new ShowProcessListResponseEvent(swapper.swapToObject(yamlProcessList)));
+        return swapper.swapToObject(yamlProcessList);
     }
     
     private Collection<String> getShowProcessListTriggerPaths(final String taskId) {
-        return Stream.of(InstanceType.values())
-                .flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream().map(onlinePath -> ComputeNode.getProcessTriggerInstanceNodePath(onlinePath, taskId)))
-                .collect(Collectors.toList());
+        return getRemoteInstanceIds().map(each -> ComputeNode.getProcessTriggerInstanceNodePath(each, taskId)).collect(Collectors.toList());
+    }
+    
+    private Stream<String> getRemoteInstanceIds() {
+        return Stream.of(InstanceType.values()).flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream()).filter(each -> !instanceId.equals(each));
+    }
+    
+    private Map<String, String> createEmptyValues(final Collection<String> paths) {
+        Map<String, String> result = new LinkedHashMap<>(paths.size(), 1F);
+        for (String each : paths) {
+            result.put(each, "");
+        }
+        return result;
     }
     
     private boolean isReady(final Collection<String> paths) {
-        return paths.stream().noneMatch(each -> null != repository.getDirectly(each));
+        return repository.batchGetDirectly(paths).isEmpty();
     }
     
     @Override
     @Subscribe
-    public void killProcess(final KillProcessRequestEvent event) {
+    public void killProcess(final KillProcessRequestEvent event) throws SQLException {
         String processId = event.getId();
+        if (killLocalProcess(processId)) {
+            return;
+        }
         Collection<String> triggerPaths = getKillProcessTriggerPaths(processId);
+        if (triggerPaths.isEmpty()) {
+            return;
+        }
         boolean isCompleted = false;
         try {
-            triggerPaths.forEach(each -> repository.persist(each, ""));
+            repository.batchPersist(createEmptyValues(triggerPaths));
             isCompleted = ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(processId, () -> isReady(triggerPaths));
         } finally {
             if (!isCompleted) {
@@ -110,9 +150,18 @@ public final class ClusterProcessSubscriber implements ProcessSubscriber {
         }
     }
     
+    private boolean killLocalProcess(final String processId) throws SQLException {
+        Process process = ProcessRegistry.getInstance().get(processId);
+        if (null == process) {
+            return false;
+        }
+        for (Statement each : process.getProcessStatements()) {
+            each.cancel();
+        }
+        return true;
+    }
+    
     private Collection<String> getKillProcessTriggerPaths(final String processId) {
-        return Stream.of(InstanceType.values())
-                .flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream().map(onlinePath -> ComputeNode.getProcessKillInstanceIdNodePath(onlinePath, processId)))
-                .collect(Collectors.toList());
+        return getRemoteInstanceIds().map(each -> ComputeNode.getProcessKillInstanceIdNodePath(each, processId)).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
+
+import org.apache.shardingsphere.infra.rule.event.GovernanceEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.alter.AlterNamedRuleItemEvent;
+import org.apache.shardingsphere.infra.rule.event.rule.drop.DropNamedRuleItemEvent;
+import org.apache.shardingsphere.mode.event.config.RuleItemChangedBatchEvent;
+import org.apache.shardingsphere.mode.event.schema.table.AlterTableEvent;
+import org.apache.shardingsphere.mode.event.schema.table.DropTableEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GovernanceEventCoalescerTest {
+    
+    @Test
+    void assertCoalesceSupersededTableEvents() {
+        AlterTableEvent firstEvent = new AlterTableEvent("foo_db", "foo_schema", "t_order", "/metadata/foo_db/schemas/foo_schema/tables/t_order/active_version", "0");
+        DropTableEvent dropEvent = new DropTableEvent("foo_db", "foo_schema", "t_user");
+        AlterTableEvent lastEvent = new AlterTableEvent("foo_db", "foo_schema", "t_order", "/metadata/foo_db/schemas/foo_schema/tables/t_order/active_version", "1");
+        List<GovernanceEvent> actual = GovernanceEventCoalescer.coalesce(Arrays.asList(firstEvent, dropEvent, lastEvent));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(dropEvent));
+        assertThat(actual.get(1), is(lastEvent));
+    }
+    
+    @Test
+    void assertCoalesceRuleItemChangedEvents() {
+        AlterNamedRuleItemEvent firstEvent = new AlterNamedRuleItemEvent("foo_db", "t_order", "/metadata/foo_db/rules/sharding/tables/t_order/active_version", "0", "sharding.tables");
+        AlterNamedRuleItemEvent secondEvent = new AlterNamedRuleItemEvent("foo_db", "t_order", "/metadata/foo_db/rules/sharding/tables/t_order/active_version", "1", "sharding.tables");
+        DropNamedRuleItemEvent dropEvent = new DropNamedRuleItemEvent("foo_db", "t_user", "sharding.tables");
+        AlterTableEvent tableEvent = new AlterTableEvent("foo_db", "foo_schema", "t_order", "/metadata/foo_db/schemas/foo_schema/tables/t_order/active_version", "0");
+        AlterNamedRuleItemEvent lastEvent = new AlterNamedRuleItemEvent("foo_db", "t_item", "/metadata/foo_db/rules/sharding/tables/t_item/active_version", "0", "sharding.tables");
+        List<GovernanceEvent> actual = GovernanceEventCoalescer.coalesce(Arrays.asList(firstEvent, secondEvent, dropEvent, tableEvent, lastEvent));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(RuleItemChangedBatchEvent.class));
+        assertThat(((RuleItemChangedBatchEvent) actual.get(0)).getDatabaseName(), is("foo_db"));
+        assertThat(((RuleItemChangedBatchEvent) actual.get(0)).getEvents().size(), is(2));
+        assertThat(((RuleItemChangedBatchEvent) actual.get(0)).getEvents().iterator().next(), is(secondEvent));
+        assertThat(actual.get(1), is(tableEvent));
+        assertThat(actual.get(2), is(lastEvent));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry;
+
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.event.compute.ComputeNodeStatusChangedEvent;
+import org.apache.shardingsphere.mode.event.manager.ContextManagerClosedEvent;
+import org.apache.shardingsphere.mode.event.schema.table.DropTableEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class GovernanceEventDispatcherTest {
+    
+    private final EventBusContext eventBusContext = mock(EventBusContext.class);
+    
+    private final GovernanceEventDispatcher dispatcher = new GovernanceEventDispatcher(eventBusContext, 60000L);
+    
+    @Test
+    void assertDispatchImmediatelyAfterPendingEventsPosted() {
+        DropTableEvent batchedEvent = new DropTableEvent("foo_db", "foo_schema", "t_order");
+        ComputeNodeStatusChangedEvent unbatchedEvent = new ComputeNodeStatusChangedEvent("foo_instance", null);
+        dispatcher.dispatch("foo_db", batchedEvent);
+        verify(eventBusContext, never()).post(batchedEvent);
+        dispatcher.dispatchImmediately(unbatchedEvent);
+        InOrder inOrder = inOrder(eventBusContext);
+        inOrder.verify(eventBusContext).post(batchedEvent);
+        inOrder.verify(eventBusContext).post(unbatchedEvent);
+    }
+    
+    @Test
+    void assertCloseAfterPendingEventsPosted() {
+        DropTableEvent batchedEvent = new DropTableEvent("foo_db", "foo_schema", "t_order");
+        dispatcher.dispatch("foo_db", batchedEvent);
+        dispatcher.close(new ContextManagerClosedEvent());
+        verify(eventBusContext).post(batchedEvent);
+        DropTableEvent eventAfterClosed = new DropTableEvent("foo_db", "foo_schema", "t_user");
+        dispatcher.dispatch("foo_db", eventAfterClosed);
+        verify(eventBusContext).post(eventAfterClosed);
+    }
+}
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.process.subscriber;
 
+import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.process.event.KillProcessRequestEvent;
 import org.apache.shardingsphere.mode.process.event.ShowProcessListRequestEvent;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,9 +31,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,15 +54,39 @@ class ClusterProcessSubscriberTest {
     
     @BeforeEach
     void setUp() {
-        clusterProcessListSubscriber = new ClusterProcessSubscriber(repository, eventBusContext);
+        clusterProcessListSubscriber = new ClusterProcessSubscriber(repository, eventBusContext, "foo_instance");
     }
     
     @Test
     void assertPostShowProcessListData() {
         when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.JDBC))).thenReturn(Collections.emptyList());
         when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY))).thenReturn(Collections.singletonList("abc"));
-        when(repository.getDirectly(any())).thenReturn(null);
         clusterProcessListSubscriber.postShowProcessListData(new ShowProcessListRequestEvent());
-        verify(repository).persist(any(), any());
+        verify(repository).batchPersist(anyMap());
+    }
+    
+    @Test
+    void assertPostShowProcessListDataWithoutRemoteInstances() {
+        when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.JDBC))).thenReturn(Collections.emptyList());
+        when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY))).thenReturn(Collections.singletonList("foo_instance"));
+        clusterProcessListSubscriber.postShowProcessListData(new ShowProcessListRequestEvent());
+        verify(repository, never()).batchPersist(anyMap());
+        verify(repository, never()).delete(any());
+    }
+    
+    @Test
+    void assertKillLocalProcess() throws SQLException {
+        Process process = mock(Process.class);
+        Statement statement = mock(Statement.class);
+        when(process.getId()).thenReturn("local_process_id");
+        when(process.getProcessStatements()).thenReturn(Collections.singletonList(statement));
+        ProcessRegistry.getInstance().add(process);
+        try {
+            clusterProcessListSubscriber.killProcess(new KillProcessRequestEvent("local_process_id"));
+        } finally {
+            ProcessRegistry.getInstance().remove("local_process_id");
+        }
+        verify(statement).cancel();
+        verify(repository, never()).getChildrenKeys(any());
     }
 }
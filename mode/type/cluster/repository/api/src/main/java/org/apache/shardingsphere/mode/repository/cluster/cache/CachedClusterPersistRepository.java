@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Cluster persist repository with local read cache.
+ *
+ * <p>Values of keys under cached key prefixes are served locally once loaded. The cache shares watches registered by callers instead of watching by itself,
+ * so only keys under both a cached key prefix and a watched key are cached, and are kept coherent by the watched events.</p>
+ */
+public final class CachedClusterPersistRepository implements ClusterPersistRepository {
+    
+    /**
+     * Property key of cached key prefixes, separated by comma.
+     */
+    public static final String CACHED_KEY_PREFIXES_KEY = "cachedKeyPrefixes";
+    
+    private final ClusterPersistRepository delegate;
+    
+    private final Collection<String> cachedKeyPrefixes;
+    
+    private final Collection<String> watchedKeys = new CopyOnWriteArraySet<>();
+    
+    private final Map<String, CachedValue> cache = new ConcurrentHashMap<>();
+    
+    private final Object lock = new Object();
+    
+    private long version;
+    
+    @Getter
+    private final CachedClusterPersistRepositoryStatistics statistics = new CachedClusterPersistRepositoryStatistics();
+    
+    public CachedClusterPersistRepository(final ClusterPersistRepository delegate, final Collection<String> cachedKeyPrefixes) {
+        this.delegate = delegate;
+        this.cachedKeyPrefixes = cachedKeyPrefixes;
+    }
+    
+    /**
+     * Decorate cluster persist repository with local read cache if cached key prefixes are configured.
+     *
+     * @param repository cluster persist repository to be decorated
+     * @param props properties of cluster persist repository
+     * @return decorated cluster persist repository
+     */
+    public static ClusterPersistRepository decorate(final ClusterPersistRepository repository, final Properties props) {
+        String cachedKeyPrefixes = null == props ? null : props.getProperty(CACHED_KEY_PREFIXES_KEY);
+        if (Strings.isNullOrEmpty(cachedKeyPrefixes)) {
+            return repository;
+        }
+        return new CachedClusterPersistRepository(repository, Splitter.on(',').trimResults().omitEmptyStrings().splitToList(cachedKeyPrefixes));
+    }
+    
+    private void refresh(final DataChangedEvent event) {
+        if (!isCached(event.getKey())) {
+            return;
+        }
+        if (Type.ADDED == event.getType() || Type.UPDATED == event.getType()) {
+            put(event.getKey(), event.getValue());
+        } else if (Type.DELETED == event.getType()) {
+            invalidate(event.getKey());
+        }
+    }
+    
+    private void put(final String key, final String value) {
+        synchronized (lock) {
+            version++;
+            cache.put(key, new CachedValue(value, System.currentTimeMillis()));
+        }
+    }
+    
+    private void invalidate(final String key) {
+        synchronized (lock) {
+            version++;
+            cache.remove(key);
+            String childPrefix = key + PATH_SEPARATOR;
+            cache.keySet().removeIf(each -> each.startsWith(childPrefix));
+        }
+    }
+    
+    private long getVersion() {
+        synchronized (lock) {
+            return version;
+        }
+    }
+    
+    private void putLoadedValue(final String key, final String value, final long loadedVersion, final long loadedMillis) {
+        synchronized (lock) {
+            if (version == loadedVersion) {
+                cache.putIfAbsent(key, new CachedValue(value, loadedMillis));
+            }
+        }
+    }
+    
+    private boolean isCached(final String key) {
+        return isUnderAny(key, cachedKeyPrefixes) && isUnderAny(key, watchedKeys);
+    }
+    
+    private boolean isUnderAny(final String key, final Collection<String> parentKeys) {
+        return parentKeys.stream().anyMatch(each -> key.equals(each) || key.startsWith(each + PATH_SEPARATOR));
+    }
+    
+    @Override
+    public void init(final ClusterPersistRepositoryConfiguration config) {
+        delegate.init(config);
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        if (!isCached(key)) {
+            return delegate.getDirectly(key);
+        }
+        CachedValue cachedValue = cache.get(key);
+        if (null != cachedValue) {
+            statistics.recordHit(System.currentTimeMillis() - cachedValue.getRefreshedMillis());
+            return cachedValue.getValue();
+        }
+        statistics.recordMiss();
+        long loadedVersion = getVersion();
+        long loadedMillis = System.currentTimeMillis();
+        String result = delegate.getDirectly(key);
+        putLoadedValue(key, result, loadedVersion, loadedMillis);
+        return result;
+    }
+    
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        Collection<String> missedKeys = new LinkedList<>();
+        for (String each : keys) {
+            CachedValue cachedValue = isCached(each) ? cache.get(each) : null;
+            if (null == cachedValue) {
+                missedKeys.add(each);
+                continue;
+            }
+            statistics.recordHit(System.currentTimeMillis() - cachedValue.getRefreshedMillis());
+            if (null != cachedValue.getValue()) {
+                result.put(each, cachedValue.getValue());
+            }
+        }
+        if (missedKeys.isEmpty()) {
+            return result;
+        }
+        long loadedVersion = getVersion();
+        long loadedMillis = System.currentTimeMillis();
+        Map<String, String> loadedValues = delegate.batchGetDirectly(missedKeys);
+        for (String each : missedKeys) {
+            if (isCached(each)) {
+                statistics.recordMiss();
+                putLoadedValue(each, loadedValues.get(each), loadedVersion, loadedMillis);
+            }
+        }
+        result.putAll(loadedValues);
+        return result;
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        return delegate.getChildrenKeys(key);
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return delegate.isExisted(key);
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        long writtenVersion = getVersion();
+        delegate.persist(key, value);
+        putWrittenValue(key, value, writtenVersion);
+    }
+    
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        long writtenVersion = getVersion();
+        delegate.batchPersist(keyValues);
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            putWrittenValue(entry.getKey(), entry.getValue(), writtenVersion);
+        }
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        long writtenVersion = getVersion();
+        delegate.update(key, value);
+        putWrittenValue(key, value, writtenVersion);
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        long writtenVersion = getVersion();
+        delegate.persistEphemeral(key, value);
+        putWrittenValue(key, value, writtenVersion);
+    }
+    
+    @Override
+    public void persistExclusiveEphemeral(final String key, final String value) {
+        delegate.persistExclusiveEphemeral(key, value);
+        invalidate(key);
+    }
+    
+    private void putWrittenValue(final String key, final String value, final long writtenVersion) {
+        if (!isCached(key)) {
+            return;
+        }
+        synchronized (lock) {
+            // Watched events during writing may carry newer values than the written one, so the key is reloaded instead of overwritten
+            version++;
+            if (version == writtenVersion + 1L) {
+                cache.put(key, new CachedValue(value, System.currentTimeMillis()));
+            } else {
+                cache.remove(key);
+            }
+        }
+    }
+    
+    @Override
+    public void delete(final String key) {
+        delegate.delete(key);
+        invalidate(key);
+    }
+    
+    @Override
+    public DistributedLockHolder getDistributedLockHolder() {
+        return delegate.getDistributedLockHolder();
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener) {
+        if (!isUnderAny(key, cachedKeyPrefixes) && cachedKeyPrefixes.stream().noneMatch(each -> isUnderAny(each, Collections.singleton(key)))) {
+            delegate.watch(key, listener);
+            return;
+        }
+        delegate.watch(key, event -> {
+            refresh(event);
+            listener.onChange(event);
+        });
+        watchedKeys.add(key);
+    }
+    
+    @Override
+    public boolean isDurable() {
+        return delegate.isDurable();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+        cache.clear();
+    }
+    
+    @Override
+    public Object getType() {
+        return delegate.getType();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedValue {
+        
+        private final String value;
+        
+        private final long refreshedMillis;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of cluster persist repository local read cache.
+ */
+@Getter
+public final class CachedClusterPersistRepositoryStatistics {
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong totalHitStalenessMillis = new AtomicLong();
+    
+    /**
+     * Record cache hit.
+     *
+     * @param stalenessMillis millis since hit entry last refreshed
+     */
+    public void recordHit(final long stalenessMillis) {
+        hitCount.incrementAndGet();
+        totalHitStalenessMillis.addAndGet(stalenessMillis);
+    }
+    
+    /**
+     * Record cache miss.
+     */
+    public void recordMiss() {
+        missCount.incrementAndGet();
+    }
+}
@@ -18,33 +18,58 @@
 package org.apache.shardingsphere.mode.repository.cluster.lock.impl;
 
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.infra.util.retry.RetryExecutor;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
 import org.apache.shardingsphere.mode.repository.cluster.lock.impl.props.DefaultLockPropertyKey;
 import org.apache.shardingsphere.mode.repository.cluster.lock.impl.props.DefaultLockTypedProperties;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Default distributed lock.
+ *
+ * <p>Threads of the same instance queue on a local lock, so that only one of them competes for the lock key. Waiters are woken up by watching deletion of the lock key.</p>
  */
 public final class DefaultDistributedLock implements DistributedLock {
     
+    private static final long MAX_WAIT_MILLIS = 1000L;
+    
     private final String lockKey;
     
     private final ClusterPersistRepository client;
     
     private final String instanceId;
     
+    private final ReentrantLock localLock;
+    
+    private final Object releaseMonitor = new Object();
+    
+    private volatile long releasedCount;
+    
     private final Map<Thread, LockData> threadData = new ConcurrentHashMap<>();
     
     public DefaultDistributedLock(final String lockKey, final ClusterPersistRepository client, final DefaultLockTypedProperties props) {
         this.lockKey = lockKey;
         this.client = client;
         instanceId = props.getValue(DefaultLockPropertyKey.INSTANCE_ID);
+        localLock = new ReentrantLock(props.getValue(DefaultLockPropertyKey.FAIR));
+        client.watch(lockKey, this::onLockKeyChanged);
+    }
+    
+    private void onLockKeyChanged(final DataChangedEvent event) {
+        if (Type.DELETED == event.getType() && lockKey.equals(event.getKey())) {
+            synchronized (releaseMonitor) {
+                releasedCount++;
+                releaseMonitor.notifyAll();
+            }
+        }
     }
     
     @Override
@@ -55,16 +80,57 @@ public final class DefaultDistributedLock implements DistributedLock {
             lockData.increment();
             return true;
         }
-        if (!new RetryExecutor(timeoutMillis, 100L).execute(this::persist, instanceId)) {
-            return false;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            if (!tryLocalLock(timeoutMillis)) {
+                return false;
+            }
+            if (acquire(timeoutMillis, deadline)) {
+                threadData.put(currentThread, new LockData());
+                return true;
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        if (localLock.isHeldByCurrentThread()) {
+            localLock.unlock();
         }
-        threadData.put(currentThread, new LockData());
-        return true;
+        return false;
     }
     
-    private boolean persist(final String value) {
-        client.persistExclusiveEphemeral(lockKey, value);
-        return true;
+    private boolean tryLocalLock(final long timeoutMillis) throws InterruptedException {
+        if (timeoutMillis < 0L) {
+            localLock.lockInterruptibly();
+            return true;
+        }
+        return localLock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    private boolean acquire(final long timeoutMillis, final long deadline) throws InterruptedException {
+        while (true) {
+            long observedReleasedCount = releasedCount;
+            if (persist()) {
+                return true;
+            }
+            long remainingMillis = timeoutMillis < 0L ? MAX_WAIT_MILLIS : deadline - System.currentTimeMillis();
+            if (remainingMillis <= 0L) {
+                return false;
+            }
+            synchronized (releaseMonitor) {
+                if (observedReleasedCount == releasedCount) {
+                    releaseMonitor.wait(Math.min(remainingMillis, MAX_WAIT_MILLIS));
+                }
+            }
+        }
+    }
+    
+    private boolean persist() {
+        try {
+            client.persistExclusiveEphemeral(lockKey, instanceId);
+            return true;
+        } catch (final ClusterPersistRepositoryException ignored) {
+            return false;
+        }
     }
     
     @Override
@@ -81,6 +147,7 @@ public final class DefaultDistributedLock implements DistributedLock {
             client.delete(lockKey);
         } finally {
             threadData.remove(currentThread);
+            localLock.unlock();
         }
     }
     
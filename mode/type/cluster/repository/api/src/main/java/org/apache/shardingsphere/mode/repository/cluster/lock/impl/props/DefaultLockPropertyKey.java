@@ -28,7 +28,9 @@ import org.apache.shardingsphere.infra.props.TypedPropertyKey;
 @Getter
 public enum DefaultLockPropertyKey implements TypedPropertyKey {
     
-    INSTANCE_ID("instanceId", "", String.class);
+    INSTANCE_ID("instanceId", "", String.class),
+    
+    FAIR("fair", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedClusterPersistRepositoryTest {
+    
+    @Mock
+    private ClusterPersistRepository delegate;
+    
+    private CachedClusterPersistRepository repository;
+    
+    @Mock
+    private DataChangedEventListener watchingListener;
+    
+    private DataChangedEventListener listener;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CachedClusterPersistRepository(delegate, Collections.singletonList("/nodes"));
+        repository.watch("/nodes", watchingListener);
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(delegate).watch(eq("/nodes"), listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+    }
+    
+    @Test
+    void assertGetDirectlyFromCache() {
+        when(delegate.getDirectly("/nodes/foo")).thenReturn("foo_value");
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo_value"));
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo_value"));
+        verify(delegate, times(1)).getDirectly("/nodes/foo");
+        assertThat(repository.getStatistics().getHitCount().get(), is(1L));
+        assertThat(repository.getStatistics().getMissCount().get(), is(1L));
+    }
+    
+    @Test
+    void assertGetDirectlyWithoutWatchedKey() {
+        CachedClusterPersistRepository unwatchedRepository = new CachedClusterPersistRepository(delegate, Collections.singletonList("/status"));
+        when(delegate.getDirectly("/status/foo")).thenReturn("foo_value");
+        assertThat(unwatchedRepository.getDirectly("/status/foo"), is("foo_value"));
+        assertThat(unwatchedRepository.getDirectly("/status/foo"), is("foo_value"));
+        verify(delegate, times(2)).getDirectly("/status/foo");
+        verify(delegate, never()).watch(eq("/status"), any());
+    }
+    
+    @Test
+    void assertGetDirectlyNotCachedWhenChangedDuringLoad() {
+        when(delegate.getDirectly("/nodes/foo")).thenAnswer(invocation -> {
+            listener.onChange(new DataChangedEvent("/nodes/foo", "", Type.DELETED));
+            return "stale_value";
+        }).thenReturn(null);
+        assertThat(repository.getDirectly("/nodes/foo"), is("stale_value"));
+        assertThat(repository.getDirectly("/nodes/foo"), nullValue());
+        verify(delegate, times(2)).getDirectly("/nodes/foo");
+    }
+    
+    @Test
+    void assertWatchedEventsPassedToListener() {
+        DataChangedEvent event = new DataChangedEvent("/nodes/foo", "foo_value", Type.ADDED);
+        listener.onChange(event);
+        verify(watchingListener).onChange(event);
+    }
+    
+    @Test
+    void assertGetDirectlyWithoutCachedKeyPrefix() {
+        when(delegate.getDirectly("/metadata/foo")).thenReturn("foo_value");
+        assertThat(repository.getDirectly("/metadata/foo"), is("foo_value"));
+        assertThat(repository.getDirectly("/metadata/foo"), is("foo_value"));
+        verify(delegate, times(2)).getDirectly("/metadata/foo");
+    }
+    
+    @Test
+    void assertRefreshByWatchedEvents() {
+        assertThat(repository.getDirectly("/nodes/foo"), nullValue());
+        listener.onChange(new DataChangedEvent("/nodes/foo", "foo_value", Type.ADDED));
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo_value"));
+        listener.onChange(new DataChangedEvent("/nodes/foo", "", Type.DELETED));
+        when(delegate.getDirectly("/nodes/foo")).thenReturn("new_value");
+        assertThat(repository.getDirectly("/nodes/foo"), is("new_value"));
+        verify(delegate, times(2)).getDirectly("/nodes/foo");
+    }
+    
+    @Test
+    void assertReadYourWrites() {
+        repository.persist("/nodes/foo", "foo_value");
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo_value"));
+        verify(delegate).persist("/nodes/foo", "foo_value");
+        verify(delegate, times(0)).getDirectly("/nodes/foo");
+    }
+    
+    @Test
+    void assertWrittenValueNotCachedWhenChangedDuringWrite() {
+        doAnswer(invocation -> {
+            listener.onChange(new DataChangedEvent("/nodes/foo", "remote_value", Type.UPDATED));
+            return null;
+        }).when(delegate).persist("/nodes/foo", "foo_value");
+        when(delegate.getDirectly("/nodes/foo")).thenReturn("remote_value");
+        repository.persist("/nodes/foo", "foo_value");
+        assertThat(repository.getDirectly("/nodes/foo"), is("remote_value"));
+        verify(delegate).getDirectly("/nodes/foo");
+    }
+    
+    @Test
+    void assertDecorateWithoutCachedKeyPrefixes() {
+        assertThat(CachedClusterPersistRepository.decorate(delegate, new Properties()), is(delegate));
+    }
+    
+    @Test
+    void assertDecorateWithCachedKeyPrefixes() {
+        Properties props = PropertiesBuilder.build(new Property(CachedClusterPersistRepository.CACHED_KEY_PREFIXES_KEY, "/nodes, /status"));
+        assertThat(CachedClusterPersistRepository.decorate(delegate, props), instanceOf(CachedClusterPersistRepository.class));
+    }
+}
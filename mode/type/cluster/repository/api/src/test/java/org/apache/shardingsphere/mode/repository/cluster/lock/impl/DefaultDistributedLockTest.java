@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.lock.impl;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.mode.repository.cluster.lock.impl.props.DefaultLockTypedProperties;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultDistributedLockTest {
+    
+    @Mock
+    private ClusterPersistRepository client;
+    
+    private DefaultDistributedLock lock;
+    
+    private DataChangedEventListener listener;
+    
+    @BeforeEach
+    void setUp() {
+        lock = new DefaultDistributedLock("/lock/foo", client, new DefaultLockTypedProperties(PropertiesBuilder.build(new Property("instanceId", "foo_instance"), new Property("fair", "true"))));
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(client).watch(eq("/lock/foo"), listenerCaptor.capture());
+        listener = listenerCaptor.getValue();
+    }
+    
+    @Test
+    void assertReentrantLock() {
+        assertTrue(lock.tryLock(100L));
+        assertTrue(lock.tryLock(100L));
+        lock.unlock();
+        verify(client, times(0)).delete("/lock/foo");
+        lock.unlock();
+        verify(client).persistExclusiveEphemeral("/lock/foo", "foo_instance");
+        verify(client).delete("/lock/foo");
+    }
+    
+    @Test
+    void assertTryLockTimeout() {
+        doThrow(new ClusterPersistRepositoryException(new Exception("exists"))).when(client).persistExclusiveEphemeral("/lock/foo", "foo_instance");
+        assertFalse(lock.tryLock(10L));
+        assertThrows(IllegalMonitorStateException.class, () -> lock.unlock());
+    }
+    
+    @Test
+    void assertTryLockAfterLockKeyDeleted() throws InterruptedException {
+        doThrow(new ClusterPersistRepositoryException(new Exception("exists"))).doNothing().when(client).persistExclusiveEphemeral("/lock/foo", "foo_instance");
+        Thread releaseThread = new Thread(() -> listener.onChange(new DataChangedEvent("/lock/foo", "", Type.DELETED)));
+        releaseThread.start();
+        assertTrue(lock.tryLock(5000L));
+        releaseThread.join();
+        verify(client, times(2)).persistExclusiveEphemeral("/lock/foo", "foo_instance");
+    }
+}
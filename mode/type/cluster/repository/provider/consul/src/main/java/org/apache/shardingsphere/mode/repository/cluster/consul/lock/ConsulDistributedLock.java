@@ -37,6 +37,7 @@ import org.apache.shardingsphere.mode.repository.cluster.consul.props.ConsulProp
 import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
 
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -61,11 +62,14 @@ public final class ConsulDistributedLock implements DistributedLock {
     
     private final ThreadLocal<String> lockSessionId;
     
+    private final ThreadLocal<ScheduledFuture<?>> sessionRenewFuture;
+    
     public ConsulDistributedLock(final String lockKey, final ConsulClient client, final ConsulProperties props) {
         lockPath = String.format(LOCK_PATH_PATTERN, lockKey);
         this.client = client;
         timeToLiveSeconds = props.getValue(ConsulPropertyKey.TIME_TO_LIVE_SECONDS);
         lockSessionId = new ThreadLocal<>();
+        sessionRenewFuture = new ThreadLocal<>();
     }
     
     @Override
@@ -93,7 +97,7 @@ public final class ConsulDistributedLock implements DistributedLock {
     
     private boolean tryLock(final String sessionId) {
         lockSessionId.set(sessionId);
-        SESSION_FLUSH_EXECUTOR.scheduleAtFixedRate(() -> client.renewSession(sessionId, QueryParams.DEFAULT), 5L, 10L, TimeUnit.SECONDS);
+        sessionRenewFuture.set(SESSION_FLUSH_EXECUTOR.scheduleAtFixedRate(() -> client.renewSession(sessionId, QueryParams.DEFAULT), 5L, 10L, TimeUnit.SECONDS));
         return true;
     }
     
@@ -156,6 +160,11 @@ public final class ConsulDistributedLock implements DistributedLock {
         String sessionId = lockSessionId.get();
         PutParams putParams = new PutParams();
         putParams.setReleaseSession(sessionId);
+        ScheduledFuture<?> renewFuture = sessionRenewFuture.get();
+        if (null != renewFuture) {
+            renewFuture.cancel(false);
+            sessionRenewFuture.remove();
+        }
         try {
             client.setKVValue(lockPath, UNLOCK_VALUE, putParams);
             client.sessionDestroy(sessionId, null);
@@ -23,6 +23,8 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -43,7 +45,15 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,6 +62,8 @@ import java.util.stream.Collectors;
  */
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -76,6 +88,23 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            responses.put(each, client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8)));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            if (!keyValues.isEmpty()) {
+                result.put(entry.getKey(), keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
@@ -103,6 +132,29 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        Set<String> parents = new HashSet<>();
+        for (String each : keyValues.keySet()) {
+            if (parents.add(each.substring(0, Math.max(0, each.lastIndexOf(PATH_SEPARATOR))))) {
+                buildParentPath(each);
+            }
+        }
+        List<Op> operations = new ArrayList<>(Math.min(keyValues.size(), MAX_TRANSACTION_OPERATIONS));
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+            // Batches larger than one transaction are split, and are not atomic any more
+            if (MAX_TRANSACTION_OPERATIONS == operations.size()) {
+                client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+                operations.clear();
+            }
+        }
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
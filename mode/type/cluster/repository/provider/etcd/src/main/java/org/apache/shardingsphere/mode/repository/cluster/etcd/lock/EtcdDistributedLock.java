@@ -21,20 +21,31 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.Lease;
 import io.etcd.jetcd.Lock;
+import io.etcd.jetcd.support.CloseableClient;
+import io.etcd.jetcd.support.Observers;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperties;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdPropertyKey;
 import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Etcd distributed lock.
+ *
+ * <p>Waiters are queued by etcd in revision order and each of them watches its predecessor, so acquiring is fair and does not poll.
+ * The lease of the lock is kept alive while the lock is held, and revoked on unlock or acquiring timeout.</p>
  */
 public final class EtcdDistributedLock implements DistributedLock {
     
+    private final String lockName;
+    
     private final ByteSequence lockKey;
     
     private final Lock lock;
@@ -43,7 +54,10 @@ public final class EtcdDistributedLock implements DistributedLock {
     
     private final int timeToLiveSeconds;
     
+    private final Map<Thread, LockData> threadData = new ConcurrentHashMap<>();
+    
     public EtcdDistributedLock(final String lockKey, final Client client, final EtcdProperties props) {
+        lockName = lockKey;
         this.lockKey = ByteSequence.from(lockKey, StandardCharsets.UTF_8);
         lock = client.getLockClient();
         lease = client.getLeaseClient();
@@ -52,24 +66,66 @@ public final class EtcdDistributedLock implements DistributedLock {
     
     @Override
     public boolean tryLock(final long timeoutMillis) {
+        Thread currentThread = Thread.currentThread();
+        LockData lockData = threadData.get(currentThread);
+        if (null != lockData) {
+            lockData.lockCount++;
+            return true;
+        }
+        long leaseId = 0L;
+        CloseableClient keepAliveClient = null;
         try {
-            lock.lock(lockKey, lease.grant(timeToLiveSeconds).get().getID()).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            leaseId = lease.grant(timeToLiveSeconds).get().getID();
+            keepAliveClient = lease.keepAlive(leaseId, Observers.observer(response -> {
+            }));
+            ByteSequence ownerKey = lock.lock(lockKey, leaseId).get(timeoutMillis, TimeUnit.MILLISECONDS).getKey();
+            threadData.put(currentThread, new LockData(ownerKey, leaseId, keepAliveClient));
             return true;
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
-            return false;
         } catch (final ExecutionException | TimeoutException ignored) {
-            return false;
         }
+        releaseLease(leaseId, keepAliveClient);
+        return false;
     }
     
     @Override
     public void unlock() {
+        Thread currentThread = Thread.currentThread();
+        LockData lockData = threadData.get(currentThread);
+        ShardingSpherePreconditions.checkNotNull(lockData, () -> new IllegalMonitorStateException(String.format("You do not own the lock: %s.", lockName)));
+        if (--lockData.lockCount > 0) {
+            return;
+        }
         try {
-            lock.unlock(lockKey).get();
+            lock.unlock(lockData.ownerKey).get();
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
         } catch (final ExecutionException ignored) {
+        } finally {
+            threadData.remove(currentThread);
+            releaseLease(lockData.leaseId, lockData.keepAliveClient);
         }
     }
+    
+    private void releaseLease(final long leaseId, final CloseableClient keepAliveClient) {
+        if (null != keepAliveClient) {
+            keepAliveClient.close();
+        }
+        if (0L != leaseId) {
+            lease.revoke(leaseId);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LockData {
+        
+        private final ByteSequence ownerKey;
+        
+        private final long leaseId;
+        
+        private final CloseableClient keepAliveClient;
+        
+        private int lockCount = 1;
+    }
 }
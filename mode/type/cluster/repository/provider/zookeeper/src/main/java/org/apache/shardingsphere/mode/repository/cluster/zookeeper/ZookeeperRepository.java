@@ -23,11 +23,13 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.instance.InstanceContextAware;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
@@ -42,30 +44,43 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Registry repository of ZooKeeper.
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware {
     
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
     
     private CuratorFramework client;
     
+    private long batchTimeoutMilliseconds;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
@@ -82,6 +97,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         int maxRetries = zookeeperProps.getValue(ZookeeperPropertyKey.MAX_RETRIES);
         int timeToLiveSeconds = zookeeperProps.getValue(ZookeeperPropertyKey.TIME_TO_LIVE_SECONDS);
         int operationTimeoutMilliseconds = zookeeperProps.getValue(ZookeeperPropertyKey.OPERATION_TIMEOUT_MILLISECONDS);
+        batchTimeoutMilliseconds = Math.max((long) retryIntervalMilliseconds * maxRetries, operationTimeoutMilliseconds);
         builder.connectString(config.getServerLists())
                 .ensembleTracker(false)
                 .retryPolicy(new ExponentialBackoffRetry(retryIntervalMilliseconds, maxRetries, retryIntervalMilliseconds * maxRetries))
@@ -156,6 +172,82 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        if (keyValues.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> existedKeys = getExistedKeys(keyValues.keySet());
+            createParentsIfNeeded(keyValues.keySet(), existedKeys);
+            List<CuratorOp> operations = new LinkedList<>();
+            int transactionBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                // Batches larger than one transaction are split, and are not atomic any more
+                if (!operations.isEmpty() && transactionBytes + value.length > MAX_TRANSACTION_BYTES) {
+                    client.transaction().forOperations(operations);
+                    operations = new LinkedList<>();
+                    transactionBytes = 0;
+                }
+                operations.add(existedKeys.contains(entry.getKey())
+                        ? client.transactionOp().setData().forPath(entry.getKey(), value)
+                        : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), value));
+                transactionBytes += value.length;
+            }
+            client.transaction().forOperations(operations);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            // Failures are thrown instead of ignored like single writes, because callers may delete data replaced by the batch once it returns
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ClusterPersistRepositoryException(ex);
+        }
+    }
+    
+    private Set<String> getExistedKeys(final Collection<String> keys) throws Exception {
+        Set<String> result = ConcurrentHashMap.newKeySet(keys.size());
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        AtomicReference<KeeperException> failure = new AtomicReference<>();
+        for (String each : keys) {
+            client.checkExists().inBackground((framework, event) -> {
+                if (KeeperException.Code.OK.intValue() == event.getResultCode()) {
+                    result.add(each);
+                } else if (KeeperException.Code.NONODE.intValue() != event.getResultCode()) {
+                    failure.compareAndSet(null, KeeperException.create(KeeperException.Code.get(event.getResultCode()), each));
+                }
+                latch.countDown();
+            }).forPath(each);
+        }
+        awaitBatch(latch);
+        if (null != failure.get()) {
+            throw failure.get();
+        }
+        return result;
+    }
+    
+    private void awaitBatch(final CountDownLatch latch) throws InterruptedException, OperationTimeoutException {
+        if (!latch.await(batchTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+            throw new OperationTimeoutException();
+        }
+    }
+    
+    private void createParentsIfNeeded(final Collection<String> keys, final Collection<String> existedKeys) {
+        Set<String> parents = new LinkedHashSet<>();
+        for (String each : keys) {
+            if (!existedKeys.contains(each)) {
+                parents.add(ZKPaths.getPathAndNode(each).getPath());
+            }
+        }
+        for (String each : parents) {
+            if (!PATH_SEPARATOR.equals(each) && !isExisted(each)) {
+                persist(each, "");
+            }
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -179,6 +271,40 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> values = new ConcurrentHashMap<>(keys.size(), 1F);
+        try {
+            CountDownLatch latch = new CountDownLatch(keys.size());
+            AtomicReference<KeeperException> failure = new AtomicReference<>();
+            for (String each : keys) {
+                client.getData().inBackground((framework, event) -> {
+                    if (KeeperException.Code.OK.intValue() == event.getResultCode()) {
+                        values.put(each, null == event.getData() ? "" : new String(event.getData(), StandardCharsets.UTF_8));
+                    } else if (KeeperException.Code.NONODE.intValue() != event.getResultCode()) {
+                        failure.compareAndSet(null, KeeperException.create(KeeperException.Code.get(event.getResultCode()), each));
+                    }
+                    latch.countDown();
+                }).forPath(each);
+            }
+            awaitBatch(latch);
+            if (null != failure.get()) {
+                throw failure.get();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+        Map<String, String> result = new LinkedHashMap<>(values.size(), 1F);
+        for (String each : keys) {
+            if (values.containsKey(each)) {
+                result.put(each, values.get(each));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
@@ -22,14 +22,18 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperDistributedLock;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
@@ -37,6 +41,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,16 +58,19 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -102,6 +110,9 @@ class ZookeeperRepositoryTest {
     @Mock
     private Builder builder;
     
+    @Mock
+    private ErrorListenerPathable<Stat> existsInBackgroundPathable;
+    
     @BeforeEach
     void init() {
         mockClient();
@@ -173,6 +184,23 @@ class ZookeeperRepositoryTest {
         verify(protect).forPath("/test/ephemeral", "value4".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    void assertBatchPersistWithCheckExistsFailure() throws Exception {
+        AtomicReference<BackgroundCallback> callback = new AtomicReference<>();
+        when(existsBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback.set(invocation.getArgument(0));
+            return existsInBackgroundPathable;
+        });
+        CuratorEvent event = mock(CuratorEvent.class);
+        when(event.getResultCode()).thenReturn(KeeperException.Code.CONNECTIONLOSS.intValue());
+        when(existsInBackgroundPathable.forPath("/test")).thenAnswer(invocation -> {
+            callback.get().processResult(client, event);
+            return null;
+        });
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.batchPersist(Collections.singletonMap("/test", "value")));
+        verify(client, never()).transaction();
+    }
+    
     @Test
     void assertGetChildrenKeys() throws Exception {
         List<String> keys = Arrays.asList("/test/children/keys/1", "/test/children/keys/2");
@@ -137,7 +137,8 @@ public final class StandaloneModeContextManager implements ModeContextManager, C
     }
     
     private void removeSchemaMetaData(final ShardingSphereDatabase database, final String schemaName) {
-        ShardingSphereSchema schema = new ShardingSphereSchema(database.getSchema(schemaName).getTables(), database.getSchema(schemaName).getViews());
+        ShardingSphereSchema currentSchema = database.getSchema(schemaName);
+        ShardingSphereSchema schema = new ShardingSphereSchema(currentSchema.getTables(), currentSchema.getViews(), currentSchema.getLazyTables());
         database.dropSchema(schemaName);
         removeDataNode(database.getRuleMetaData().findRules(MutableDataNodeRule.class), Collections.singleton(schemaName), schema.getAllTableNames());
     }
@@ -173,7 +174,8 @@ public final class StandaloneModeContextManager implements ModeContextManager, C
         Collection<String> tobeRemovedSchemas = new LinkedHashSet<>();
         ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName);
         for (String each : schemaNames) {
-            ShardingSphereSchema schema = new ShardingSphereSchema(database.getSchema(each).getTables(), database.getSchema(each).getViews());
+            ShardingSphereSchema currentSchema = database.getSchema(each);
+            ShardingSphereSchema schema = new ShardingSphereSchema(currentSchema.getTables(), currentSchema.getViews(), currentSchema.getLazyTables());
             database.dropSchema(each);
             Optional.of(schema).ifPresent(optional -> tobeRemovedTables.addAll(optional.getAllTableNames()));
             tobeRemovedSchemas.add(each.toLowerCase());
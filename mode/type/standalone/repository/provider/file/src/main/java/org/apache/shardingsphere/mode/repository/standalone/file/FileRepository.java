@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.standalone.file;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+import org.apache.shardingsphere.mode.repository.standalone.file.props.FileRepositoryProperties;
+import org.apache.shardingsphere.mode.repository.standalone.file.props.FileRepositoryPropertyKey;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * File repository.
+ *
+ * <p>Data is held in an in-memory tree, every change is appended to a memory mapped log file, which is replayed on startup and compacted when it grows.</p>
+ */
+@Slf4j
+public final class FileRepository implements StandalonePersistRepository {
+    
+    private static final String SEPARATOR = "/";
+    
+    private final Node root = new Node();
+    
+    private MappedAppendOnlyLog appendOnlyLog;
+    
+    private int compactionThresholdBytes;
+    
+    private int compactedSize;
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void init(final Properties props) {
+        FileRepositoryProperties fileRepositoryProps = new FileRepositoryProperties(props);
+        compactionThresholdBytes = fileRepositoryProps.getValue(FileRepositoryPropertyKey.COMPACTION_THRESHOLD_BYTES);
+        appendOnlyLog = new MappedAppendOnlyLog(Paths.get(fileRepositoryProps.<String>getValue(FileRepositoryPropertyKey.PATH)));
+        appendOnlyLog.replay(this::apply);
+        compactedSize = appendOnlyLog.getSize();
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        Node node = findNode(key);
+        return null == node ? "" : node.value;
+    }
+    
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            Node node = findNode(each);
+            if (null != node) {
+                result.put(each, node.value);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        Node node = findNode(key);
+        return null == node ? Collections.emptyList() : new ArrayList<>(node.children.keySet());
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return !Strings.isNullOrEmpty(getDirectly(key));
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        write(Collections.singletonMap(key, value));
+    }
+    
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        write(keyValues);
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        if (null != findNode(key)) {
+            write(Collections.singletonMap(key, value));
+        }
+    }
+    
+    @Override
+    public void delete(final String key) {
+        write(Collections.singletonMap(key, null));
+    }
+    
+    private synchronized void write(final Map<String, String> keyValues) {
+        try {
+            appendOnlyLog.append(keyValues);
+        } catch (final IOException ex) {
+            log.error("Persist {} data to keys: {} failed", getType(), keyValues.keySet(), ex);
+            return;
+        }
+        keyValues.forEach(this::apply);
+        compactIfNecessary();
+    }
+    
+    private void compactIfNecessary() {
+        int size = appendOnlyLog.getSize();
+        if (size < compactionThresholdBytes || size < compactedSize * 2L) {
+            return;
+        }
+        try {
+            appendOnlyLog.rewrite(snapshot());
+            compactedSize = appendOnlyLog.getSize();
+        } catch (final IOException ex) {
+            log.error("Compact {} data failed", getType(), ex);
+        }
+    }
+    
+    private Map<String, String> snapshot() {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Entry<String, Node> entry : root.children.entrySet()) {
+            snapshot(SEPARATOR + entry.getKey(), entry.getValue(), result);
+        }
+        return result;
+    }
+    
+    private void snapshot(final String key, final Node node, final Map<String, String> result) {
+        result.put(key, node.value);
+        for (Entry<String, Node> entry : node.children.entrySet()) {
+            snapshot(key + SEPARATOR + entry.getKey(), entry.getValue(), result);
+        }
+    }
+    
+    private void apply(final String key, final String value) {
+        if (null == value) {
+            removeNode(key);
+        } else {
+            putNode(key, value);
+        }
+    }
+    
+    private Node findNode(final String key) {
+        Node result = root;
+        for (String each : split(key)) {
+            result = result.children.get(each);
+            if (null == result) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private void putNode(final String key, final String value) {
+        Node node = root;
+        for (String each : split(key)) {
+            node = node.children.computeIfAbsent(each, unused -> new Node());
+        }
+        node.value = value;
+    }
+    
+    private void removeNode(final String key) {
+        List<String> paths = split(key);
+        if (paths.isEmpty()) {
+            root.children.clear();
+            return;
+        }
+        Node parent = root;
+        for (String each : paths.subList(0, paths.size() - 1)) {
+            parent = parent.children.get(each);
+            if (null == parent) {
+                return;
+            }
+        }
+        parent.children.remove(paths.get(paths.size() - 1));
+    }
+    
+    private List<String> split(final String key) {
+        return Splitter.on(SEPARATOR).omitEmptyStrings().splitToList(key);
+    }
+    
+    @Override
+    public void close() {
+        try {
+            appendOnlyLog.close();
+        } catch (final IOException ex) {
+            log.error("Close {} failed", getType(), ex);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "File";
+    }
+    
+    private static final class Node {
+        
+        private volatile String value = "";
+        
+        private final Map<String, Node> children = new ConcurrentSkipListMap<>();
+    }
+}
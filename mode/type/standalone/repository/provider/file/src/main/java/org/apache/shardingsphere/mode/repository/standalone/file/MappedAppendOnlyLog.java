@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.standalone.file;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Memory mapped append only log.
+ *
+ * <p>Each record is laid out as body length, CRC32 of body and body. Body of put record is type, key and value, body of delete record is type and key.
+ * Replay stops at the first record whose length or checksum is invalid, so torn writes at the tail are discarded.</p>
+ */
+public final class MappedAppendOnlyLog implements AutoCloseable {
+    
+    private static final int INITIAL_CAPACITY = 1024 * 1024;
+    
+    private static final int HEADER_LENGTH = 8;
+    
+    private static final byte PUT = 1;
+    
+    private static final byte DELETE = 2;
+    
+    private final Path path;
+    
+    private FileChannel channel;
+    
+    private MappedByteBuffer buffer;
+    
+    @Getter
+    private int size;
+    
+    public MappedAppendOnlyLog(final Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (null != parent) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+    
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(MapMode.READ_WRITE, 0L, Math.max(channel.size(), INITIAL_CAPACITY));
+    }
+    
+    /**
+     * Replay records.
+     *
+     * @param consumer consumer of key and value, value is null for delete record
+     */
+    public void replay(final BiConsumer<String, String> consumer) {
+        int position = 0;
+        while (position + HEADER_LENGTH <= buffer.capacity()) {
+            int bodyLength = buffer.getInt(position);
+            if (bodyLength <= 0 || bodyLength > buffer.capacity() - position - HEADER_LENGTH) {
+                break;
+            }
+            byte[] body = new byte[bodyLength];
+            ByteBuffer bodyBuffer = buffer.duplicate();
+            bodyBuffer.position(position + HEADER_LENGTH);
+            bodyBuffer.get(body);
+            if (buffer.getInt(position + 4) != checksum(body)) {
+                break;
+            }
+            replay(ByteBuffer.wrap(body), consumer);
+            position += HEADER_LENGTH + bodyLength;
+        }
+        size = position;
+        clearTail();
+    }
+    
+    private void replay(final ByteBuffer body, final BiConsumer<String, String> consumer) {
+        byte type = body.get();
+        String key = readString(body);
+        consumer.accept(key, PUT == type ? readString(body) : null);
+    }
+    
+    private String readString(final ByteBuffer body) {
+        byte[] result = new byte[body.getInt()];
+        body.get(result);
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    private void clearTail() {
+        if (size + HEADER_LENGTH > buffer.capacity() || 0 == buffer.getInt(size)) {
+            return;
+        }
+        for (int i = size; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+    
+    /**
+     * Append records and force them to storage.
+     *
+     * @param keyValues key and value map, value is null for delete record
+     * @throws IOException IO exception
+     */
+    public void append(final Map<String, String> keyValues) throws IOException {
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            byte[] body = encode(entry.getKey(), entry.getValue());
+            ensureCapacity(HEADER_LENGTH + body.length);
+            buffer.putInt(size + 4, checksum(body));
+            ByteBuffer bodyBuffer = buffer.duplicate();
+            bodyBuffer.position(size + HEADER_LENGTH);
+            bodyBuffer.put(body);
+            buffer.putInt(size, body.length);
+            size += HEADER_LENGTH + body.length;
+        }
+        buffer.force();
+    }
+    
+    private void ensureCapacity(final int recordLength) throws IOException {
+        if (size + recordLength <= buffer.capacity()) {
+            return;
+        }
+        long newCapacity = Math.max(buffer.capacity() * 2L, (long) size + recordLength);
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new IOException(String.format("Log file `%s` exceeds max size.", path));
+        }
+        buffer = channel.map(MapMode.READ_WRITE, 0L, newCapacity);
+    }
+    
+    /**
+     * Rewrite log with live records only.
+     *
+     * @param keyValues live key and value map
+     * @throws IOException IO exception
+     */
+    public void rewrite(final Map<String, String> keyValues) throws IOException {
+        Path compactingPath = path.resolveSibling(path.getFileName() + ".compacting");
+        int compactedSize = 0;
+        try (FileChannel compactingChannel = FileChannel.open(compactingPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] body = encode(entry.getKey(), entry.getValue());
+                ByteBuffer record = ByteBuffer.allocate(HEADER_LENGTH + body.length);
+                record.putInt(body.length).putInt(checksum(body)).put(body);
+                record.flip();
+                while (record.hasRemaining()) {
+                    compactingChannel.write(record);
+                }
+                compactedSize += HEADER_LENGTH + body.length;
+            }
+            compactingChannel.force(true);
+        }
+        channel.close();
+        Files.move(compactingPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open();
+        size = compactedSize;
+    }
+    
+    private byte[] encode(final String key, final String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = null == value ? null : value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer result = ByteBuffer.allocate(1 + 4 + keyBytes.length + (null == valueBytes ? 0 : 4 + valueBytes.length));
+        result.put(null == valueBytes ? DELETE : PUT).putInt(keyBytes.length).put(keyBytes);
+        if (null != valueBytes) {
+            result.putInt(valueBytes.length).put(valueBytes);
+        }
+        return result.array();
+    }
+    
+    private int checksum(final byte[] body) {
+        CRC32 result = new CRC32();
+        result.update(body, 0, body.length);
+        return (int) result.getValue();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
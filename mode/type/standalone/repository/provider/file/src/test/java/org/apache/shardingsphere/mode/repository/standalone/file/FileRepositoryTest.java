@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.standalone.file;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileRepositoryTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private FileRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = createRepository("1024");
+    }
+    
+    private FileRepository createRepository(final String compactionThresholdBytes) {
+        FileRepository result = new FileRepository();
+        Properties props = PropertiesBuilder.build(new Property("path", tempDir.resolve("repository.log").toString()), new Property("compaction_threshold_bytes", compactionThresholdBytes));
+        result.init(props);
+        return result;
+    }
+    
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+    
+    @Test
+    void assertPersistAndGet() {
+        repository.persist("/metadata/foo_db/active_version", "0");
+        assertThat(repository.getDirectly("/metadata/foo_db/active_version"), is("0"));
+        assertThat(repository.getDirectly("/metadata"), is(""));
+        assertThat(repository.getDirectly("/metadata/bar_db"), is(""));
+        assertTrue(repository.isExisted("/metadata/foo_db/active_version"));
+        assertFalse(repository.isExisted("/metadata/bar_db"));
+    }
+    
+    @Test
+    void assertGetChildrenKeys() {
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/metadata/foo_db/versions/0", "foo");
+        keyValues.put("/metadata/bar_db/versions/0", "bar");
+        repository.batchPersist(keyValues);
+        assertThat(repository.getChildrenKeys("/metadata"), is(Arrays.asList("bar_db", "foo_db")));
+        assertThat(repository.getChildrenKeys("/metadata/foo_db/versions"), is(Collections.singletonList("0")));
+        assertTrue(repository.getChildrenKeys("/rules").isEmpty());
+    }
+    
+    @Test
+    void assertUpdateAndDelete() {
+        repository.update("/props", "foo");
+        assertThat(repository.getDirectly("/props"), is(""));
+        repository.persist("/props", "foo");
+        repository.update("/props", "bar");
+        assertThat(repository.getDirectly("/props"), is("bar"));
+        repository.persist("/metadata/foo_db/schemas/foo_schema", "");
+        repository.delete("/metadata/foo_db");
+        assertTrue(repository.getChildrenKeys("/metadata").isEmpty());
+        assertThat(repository.getDirectly("/metadata/foo_db/schemas/foo_schema"), is(""));
+    }
+    
+    @Test
+    void assertReplayAfterRestart() {
+        repository.persist("/props", "foo");
+        repository.persist("/metadata/foo_db/active_version", "0");
+        repository.delete("/metadata/foo_db");
+        repository.close();
+        repository = createRepository("1024");
+        assertThat(repository.getDirectly("/props"), is("foo"));
+        assertTrue(repository.getChildrenKeys("/metadata").isEmpty());
+    }
+    
+    @Test
+    void assertReplayAfterCompaction() {
+        for (int i = 0; i < 200; i++) {
+            repository.persist("/props", String.valueOf(i));
+        }
+        repository.close();
+        repository = createRepository("1024");
+        assertThat(repository.getDirectly("/props"), is("199"));
+    }
+}
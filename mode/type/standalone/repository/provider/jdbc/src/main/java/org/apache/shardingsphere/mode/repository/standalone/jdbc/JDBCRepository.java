@@ -34,10 +34,17 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -48,10 +55,14 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     private static final String SEPARATOR = "/";
     
+    private static final int MAX_KEYS_PER_QUERY = 1000;
+    
     private JDBCRepositorySQL repositorySQL;
     
     private HikariDataSource dataSource;
     
+    private boolean durable;
+    
     @SneakyThrows(SQLException.class)
     @Override
     public void init(final Properties props) {
@@ -62,6 +73,7 @@ public final class JDBCRepository implements StandalonePersistRepository {
         dataSource.setJdbcUrl(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.JDBC_URL));
         dataSource.setUsername(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.USERNAME));
         dataSource.setPassword(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.PASSWORD));
+        durable = !jdbcRepositoryProps.<String>getValue(JDBCRepositoryPropertyKey.JDBC_URL).contains("h2:mem:");
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
@@ -77,6 +89,11 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public boolean isDurable() {
+        return durable;
+    }
+    
     @Override
     public String getDirectly(final String key) {
         try (
@@ -94,6 +111,31 @@ public final class JDBCRepository implements StandalonePersistRepository {
         return "";
     }
     
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        List<String> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < distinctKeys.size(); i += MAX_KEYS_PER_QUERY) {
+                List<String> batchKeys = distinctKeys.subList(i, Math.min(i + MAX_KEYS_PER_QUERY, distinctKeys.size()));
+                String placeholders = String.join(", ", Collections.nCopies(batchKeys.size(), "?"));
+                try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(repositorySQL.getSelectByKeysSQL(), placeholders))) {
+                    for (int j = 0; j < batchKeys.size(); j++) {
+                        preparedStatement.setString(j + 1, batchKeys.get(j));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            result.put(resultSet.getString("key"), resultSet.getString("value"));
+                        }
+                    }
+                }
+            }
+        } catch (final SQLException ex) {
+            log.error("Batch get {} data by keys: {} failed", getType(), keys, ex);
+        }
+        return result;
+    }
+    
     @Override
     public List<String> getChildrenKeys(final String key) {
         try (
@@ -149,6 +191,68 @@ public final class JDBCRepository implements StandalonePersistRepository {
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (
+                    PreparedStatement updateStatement = connection.prepareStatement(repositorySQL.getUpdateSQL());
+                    PreparedStatement selectStatement = connection.prepareStatement(repositorySQL.getSelectByKeySQL());
+                    PreparedStatement insertStatement = connection.prepareStatement(repositorySQL.getInsertSQL())) {
+                Set<String> existedParents = new HashSet<>();
+                for (Entry<String, String> entry : keyValues.entrySet()) {
+                    updateStatement.setString(1, entry.getValue());
+                    updateStatement.setString(2, entry.getKey());
+                    if (updateStatement.executeUpdate() > 0) {
+                        continue;
+                    }
+                    String parent = createParentsIfNeeded(entry.getKey(), existedParents, selectStatement, insertStatement);
+                    insert(insertStatement, entry.getKey(), entry.getValue(), parent);
+                }
+                connection.commit();
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException ex) {
+            log.error("Batch persist {} data to keys: {} failed", getType(), keyValues.keySet(), ex);
+        }
+    }
+    
+    private String createParentsIfNeeded(final String key, final Set<String> existedParents,
+                                         final PreparedStatement selectStatement, final PreparedStatement insertStatement) throws SQLException {
+        String result = SEPARATOR;
+        String tempPrefix = "";
+        String[] paths = Arrays.stream(key.split(SEPARATOR)).filter(each -> !Strings.isNullOrEmpty(each)).toArray(String[]::new);
+        for (int i = 0; i < paths.length - 1; i++) {
+            String tempKey = tempPrefix + SEPARATOR + paths[i];
+            if (existedParents.add(tempKey) && !isExisted(selectStatement, tempKey)) {
+                insert(insertStatement, tempKey, "", result);
+            }
+            tempPrefix = tempKey;
+            result = tempKey;
+        }
+        return result;
+    }
+    
+    private boolean isExisted(final PreparedStatement selectStatement, final String key) throws SQLException {
+        selectStatement.setString(1, key);
+        try (ResultSet resultSet = selectStatement.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+    
+    private void insert(final PreparedStatement insertStatement, final String key, final String value, final String parent) throws SQLException {
+        insertStatement.setString(1, UUID.randomUUID().toString());
+        insertStatement.setString(2, key);
+        insertStatement.setString(3, value);
+        insertStatement.setString(4, parent);
+        insertStatement.executeUpdate();
+    }
+    
     private void insert(final String key, final String value, final String parent) throws SQLException {
         try (
                 Connection connection = dataSource.getConnection();
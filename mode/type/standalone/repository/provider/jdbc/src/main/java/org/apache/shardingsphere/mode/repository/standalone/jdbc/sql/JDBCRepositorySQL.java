@@ -45,6 +45,9 @@ public final class JDBCRepositorySQL {
     @XmlElement(name = "select-by-key", required = true)
     private String selectByKeySQL;
     
+    @XmlElement(name = "select-by-keys", required = true)
+    private String selectByKeysSQL;
+    
     @XmlElement(name = "select-by-parent", required = true)
     private String selectByParentKeySQL;
     
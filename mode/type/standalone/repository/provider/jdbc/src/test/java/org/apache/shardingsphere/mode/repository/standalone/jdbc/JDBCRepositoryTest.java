@@ -35,11 +35,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
@@ -96,6 +99,11 @@ class JDBCRepositoryTest {
         verify(mockStatement).execute(repositorySQL.getCreateTableSQL());
     }
     
+    @Test
+    void assertIsDurableWithInMemoryDatabase() {
+        assertFalse(repository.isDurable());
+    }
+    
     @Test
     void assertGet() throws SQLException {
         String key = "key";
@@ -118,6 +126,20 @@ class JDBCRepositoryTest {
         assertThat(actual, is(""));
     }
     
+    @Test
+    void assertBatchGet() throws SQLException {
+        when(mockJdbcConnection.prepareStatement(String.format(repositorySQL.getSelectByKeysSQL(), "?, ?"))).thenReturn(mockPreparedStatement);
+        when(mockPreparedStatement.executeQuery()).thenReturn(mockResultSet);
+        when(mockResultSet.next()).thenReturn(true, false);
+        when(mockResultSet.getString("key")).thenReturn("key1");
+        when(mockResultSet.getString("value")).thenReturn("value1");
+        Map<String, String> actual = repository.batchGetDirectly(Arrays.asList("key1", "key2"));
+        verify(mockPreparedStatement).setString(1, "key1");
+        verify(mockPreparedStatement).setString(2, "key2");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("key1"), is("value1"));
+    }
+    
     @Test
     void assertPersistAndGetChildrenKeys() throws SQLException {
         when(mockJdbcConnection.prepareStatement(repositorySQL.getSelectByParentKeySQL())).thenReturn(mockPreparedStatement);
@@ -1011,7 +1011,9 @@ public final class MySQLDDLStatementVisitor extends MySQLStatementVisitor implem
     
     @Override
     public ASTNode visitPrepare(final PrepareContext ctx) {
-        return new MySQLPrepareStatement();
+        MySQLPrepareStatement result = new MySQLPrepareStatement();
+        result.setName(((IdentifierValue) visit(ctx.identifier())).getValue());
+        return result;
     }
     
     @Override
@@ -1021,6 +1023,8 @@ public final class MySQLDDLStatementVisitor extends MySQLStatementVisitor implem
     
     @Override
     public ASTNode visitDeallocate(final DeallocateContext ctx) {
-        return new MySQLDeallocateStatement();
+        MySQLDeallocateStatement result = new MySQLDeallocateStatement();
+        result.setName(((IdentifierValue) visit(ctx.identifier())).getValue());
+        return result;
     }
 }
@@ -761,6 +761,7 @@ public final class OpenGaussDDLStatementVisitor extends OpenGaussStatementVisito
     @Override
     public ASTNode visitPrepare(final PrepareContext ctx) {
         OpenGaussPrepareStatement result = new OpenGaussPrepareStatement();
+        result.setName(((IdentifierValue) visit(ctx.name())).getValue());
         if (null != ctx.preparableStmt().select()) {
             result.setSelect((SelectStatement) visit(ctx.preparableStmt().select()));
         }
@@ -778,7 +779,11 @@ public final class OpenGaussDDLStatementVisitor extends OpenGaussStatementVisito
     
     @Override
     public ASTNode visitDeallocate(final DeallocateContext ctx) {
-        return new OpenGaussDeallocateStatement();
+        OpenGaussDeallocateStatement result = new OpenGaussDeallocateStatement();
+        if (null != ctx.name()) {
+            result.setName(((IdentifierValue) visit(ctx.name())).getValue());
+        }
+        return result;
     }
     
     @Override
@@ -884,6 +884,7 @@ public final class PostgreSQLDDLStatementVisitor extends PostgreSQLStatementVisi
     @Override
     public ASTNode visitPrepare(final PrepareContext ctx) {
         PostgreSQLPrepareStatement result = new PostgreSQLPrepareStatement();
+        result.setName(((IdentifierValue) visit(ctx.name())).getValue());
         if (null != ctx.preparableStmt().select()) {
             result.setSelect((SelectStatement) visit(ctx.preparableStmt().select()));
         }
@@ -901,7 +902,11 @@ public final class PostgreSQLDDLStatementVisitor extends PostgreSQLStatementVisi
     
     @Override
     public ASTNode visitDeallocate(final DeallocateContext ctx) {
-        return new PostgreSQLDeallocateStatement();
+        PostgreSQLDeallocateStatement result = new PostgreSQLDeallocateStatement();
+        if (null != ctx.name()) {
+            result.setName(((IdentifierValue) visit(ctx.name())).getValue());
+        }
+        return result;
     }
     
     @Override
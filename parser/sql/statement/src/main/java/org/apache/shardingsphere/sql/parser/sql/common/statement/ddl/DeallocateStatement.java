@@ -17,10 +17,25 @@
 
 package org.apache.shardingsphere.sql.parser.sql.common.statement.ddl;
 
+import lombok.Setter;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
 
+import java.util.Optional;
+
 /**
  * Deallocate statement.
  */
+@Setter
 public abstract class DeallocateStatement extends AbstractSQLStatement implements DDLStatement {
+    
+    private String name;
+    
+    /**
+     * Get name of prepared statement.
+     *
+     * @return name of prepared statement, empty if all prepared statements are deallocated
+     */
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
 }
@@ -34,6 +34,8 @@ import java.util.Optional;
 @Setter
 public abstract class PrepareStatement extends AbstractSQLStatement implements DDLStatement {
     
+    private String name;
+    
     private SelectStatement select;
     
     private InsertStatement insert;
@@ -22,16 +22,19 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ReplayedSessionVariableCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
 import org.apache.shardingsphere.transaction.spi.TransactionHook;
 
@@ -43,6 +46,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -123,31 +127,59 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        if (connections.isEmpty()) {
             return;
         }
-        String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
         try {
-            executeSetSessionVariables(connections, setSQLs);
+            replaySessionVariables(connections);
         } catch (final SQLException ex) {
             releaseConnection(connections, ex);
             throw ex;
         }
     }
     
-    private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
+    private void replaySessionVariables(final List<Connection> connections) throws SQLException {
+        RequiredSessionVariableRecorder recorder = connectionSession.getRequiredSessionVariableRecorder();
+        boolean lazyResetEnabled = isSessionVariableLazyResetEnabled();
+        if (recorder.isEmpty() && !lazyResetEnabled) {
+            return;
+        }
+        String databaseType = null;
         for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
+            // Session variables are always reset before connections are released if lazy reset is disabled, so nothing is left replayed on them
+            Map<String, String> replayedVariables = lazyResetEnabled ? ReplayedSessionVariableCache.getInstance().get(each) : Collections.emptyMap();
+            if (recorder.isEmpty() && replayedVariables.isEmpty()) {
+                continue;
+            }
+            if (null == databaseType) {
+                databaseType = each.getMetaData().getDatabaseProductName();
+            }
+            executeSetSessionVariables(each, recorder.toSetSQLs(databaseType, replayedVariables));
+            if (lazyResetEnabled) {
+                ReplayedSessionVariableCache.getInstance().put(each, recorder.getVariables());
+            }
+        }
+    }
+    
+    private boolean isSessionVariableLazyResetEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLE_LAZY_RESET_ENABLED);
+    }
+    
+    private void executeSetSessionVariables(final Connection connection, final List<String> setSQLs) throws SQLException {
+        if (setSQLs.isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String each : setSQLs) {
+                statement.execute(each);
             }
         }
     }
     
     private void releaseConnection(final List<Connection> connections, final SQLException sqlException) {
         for (Connection each : connections) {
+            ReplayedSessionVariableCache.getInstance().remove(each);
             try {
                 each.close();
             } catch (final SQLException ex) {
@@ -247,7 +279,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     public void closeExecutionResources() throws BackendConnectionException {
         synchronized (this) {
             Collection<Exception> result = new LinkedList<>(closeHandlers(false));
-            if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction()) {
+            if (!connectionSession.getTransactionStatus().isInConnectionHeldTransaction() && !connectionSession.getConnectionPinningRecorder().isPinned()) {
                 result.addAll(closeHandlers(true));
                 result.addAll(closeConnections(false));
             } else if (closed.get()) {
@@ -329,15 +361,39 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
         }
+        Collection<Connection> toBeResetConnections = getToBeResetConnections(values);
+        if (!toBeResetConnections.isEmpty()) {
+            resetSessionVariables(toBeResetConnections, exceptions);
+        }
+        connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
+    }
+    
+    private Collection<Connection> getToBeResetConnections(final Collection<Connection> values) {
+        if (!isSessionVariableLazyResetEnabled()) {
+            return values;
+        }
+        Map<String, String> variables = connectionSession.getRequiredSessionVariableRecorder().getVariables();
+        Collection<Connection> result = new LinkedList<>();
+        for (Connection each : values) {
+            if (ReplayedSessionVariableCache.getInstance().isTracked(each) && variables.equals(ReplayedSessionVariableCache.getInstance().get(each))) {
+                continue;
+            }
+            ReplayedSessionVariableCache.getInstance().remove(each);
+            result.add(each);
+        }
+        return result;
+    }
+    
+    private void resetSessionVariables(final Collection<Connection> connections, final Collection<SQLException> exceptions) {
         String databaseType;
         try {
-            databaseType = values.iterator().next().getMetaData().getDatabaseProductName();
+            databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
         } catch (final SQLException ex) {
             exceptions.add(ex);
             return;
         }
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
-        for (Connection each : values) {
+        for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
                 for (String eachResetSQL : resetSQLs) {
                     statement.execute(eachResetSQL);
@@ -346,6 +402,5 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
                 exceptions.add(ex);
             }
         }
-        connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
     }
 }
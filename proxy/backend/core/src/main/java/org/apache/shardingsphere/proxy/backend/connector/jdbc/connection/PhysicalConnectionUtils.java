@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Physical connection utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PhysicalConnectionUtils {
+    
+    /**
+     * Find physical connection wrapped by pooled connection.
+     *
+     * @param connection pooled connection
+     * @return found physical connection, empty if connection is not a wrapper of another connection
+     */
+    public static Optional<Connection> findPhysicalConnection(final Connection connection) {
+        if (null == connection) {
+            return Optional.empty();
+        }
+        try {
+            if (!connection.isWrapperFor(Connection.class)) {
+                return Optional.empty();
+            }
+            Connection result = connection.unwrap(Connection.class);
+            return null == result || result == connection ? Optional.empty() : Optional.of(result);
+        } catch (final SQLException ignored) {
+            return Optional.empty();
+        }
+    }
+}
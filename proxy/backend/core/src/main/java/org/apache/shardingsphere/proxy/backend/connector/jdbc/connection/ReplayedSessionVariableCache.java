@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of session variables which have been replayed on physical backend connections.
+ * 
+ * <p>Physical connections are recognized by unwrapping pooled connections, connections which can not be unwrapped are not tracked.
+ * Physical connections are weakly referenced and compared by identity.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplayedSessionVariableCache {
+    
+    private static final ReplayedSessionVariableCache INSTANCE = new ReplayedSessionVariableCache();
+    
+    private final Cache<Connection, Map<String, String>> replayedVariables = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static ReplayedSessionVariableCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Whether connection is tracked.
+     *
+     * @param connection connection
+     * @return connection is tracked or not
+     */
+    public boolean isTracked(final Connection connection) {
+        return PhysicalConnectionUtils.findPhysicalConnection(connection).isPresent();
+    }
+    
+    /**
+     * Get session variables replayed on connection.
+     *
+     * @param connection connection
+     * @return replayed session variables
+     */
+    public Map<String, String> get(final Connection connection) {
+        return PhysicalConnectionUtils.findPhysicalConnection(connection).map(replayedVariables::getIfPresent).orElse(Collections.emptyMap());
+    }
+    
+    /**
+     * Put session variables replayed on connection.
+     *
+     * @param connection connection
+     * @param variables replayed session variables
+     */
+    public void put(final Connection connection, final Map<String, String> variables) {
+        Optional<Connection> physicalConnection = PhysicalConnectionUtils.findPhysicalConnection(connection);
+        if (!physicalConnection.isPresent()) {
+            return;
+        }
+        if (variables.isEmpty()) {
+            replayedVariables.invalidate(physicalConnection.get());
+        } else {
+            replayedVariables.put(physicalConnection.get(), new HashMap<>(variables));
+        }
+    }
+    
+    /**
+     * Remove session variables replayed on connection.
+     *
+     * @param connection connection
+     */
+    public void remove(final Connection connection) {
+        PhysicalConnectionUtils.findPhysicalConnection(connection).ifPresent(replayedVariables::invalidate);
+    }
+}
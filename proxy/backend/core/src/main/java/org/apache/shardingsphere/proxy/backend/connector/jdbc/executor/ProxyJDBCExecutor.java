@@ -26,15 +26,20 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRouteStageContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Proxy JDBC executor.
@@ -56,13 +61,14 @@ public final class ProxyJDBCExecutor {
      * Execute.
      * 
      * @param queryContext query context
+     * @param routeContext route context
      * @param executionGroupContext execution group context
      * @param isReturnGeneratedKeys is return generated keys
      * @param isExceptionThrown is exception thrown
      * @return execute results
      * @throws SQLException SQL exception
      */
-    public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+    public List<ExecuteResult> execute(final QueryContext queryContext, final RouteContext routeContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                        final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
         try {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
@@ -70,15 +76,32 @@ public final class ProxyJDBCExecutor {
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                    isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector,
+                    isReturnGeneratedKeys, isExceptionThrown, false);
+            Optional<HedgedReadRouteStageContext> hedgedReadRouteStageContext = findHedgedReadRouteStageContext(routeContext);
+            if (hedgedReadRouteStageContext.isPresent()) {
+                firstCallback.setHedgedReadRouteStageContext(hedgedReadRouteStageContext.get());
+                callback.setHedgedReadRouteStageContext(hedgedReadRouteStageContext.get());
+            }
+            return jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
         } finally {
             processEngine.completeSQLExecution();
         }
     }
+    
+    private Optional<HedgedReadRouteStageContext> findHedgedReadRouteStageContext(final RouteContext routeContext) {
+        // Hedged reads are executed with new backend connections, which have not replayed session variables and can not see writes of current session
+        if (!connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connectionSession.getTransactionStatus().isInTransaction()
+                || 0L != connectionSession.getConnectionContext().getReadWriteSplitLastWriteMillis()) {
+            return Optional.empty();
+        }
+        for (RouteStageContext each : routeContext.getRouteStageContexts().values()) {
+            if (each instanceof HedgedReadRouteStageContext && !((HedgedReadRouteStageContext) each).isEmpty()) {
+                return Optional.of((HedgedReadRouteStageContext) each);
+            }
+        }
+        return Optional.empty();
+    }
 }
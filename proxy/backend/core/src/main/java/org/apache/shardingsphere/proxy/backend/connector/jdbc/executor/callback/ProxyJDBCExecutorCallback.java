@@ -19,7 +19,9 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionRetryPolicy;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -100,6 +102,13 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
         }
     }
     
+    @Override
+    protected final SQLExecutionRetryPolicy getRetryPolicy() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return new SQLExecutionRetryPolicy(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTION_RETRY_MAX_COUNT),
+                props.<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTION_RETRY_BACKOFF_MILLISECONDS));
+    }
+    
     @Override
     protected final Optional<ExecuteResult> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
         return new SaneQueryResultEngine(getProtocolTypeType()).getSaneQueryResult(sqlStatement, ex);
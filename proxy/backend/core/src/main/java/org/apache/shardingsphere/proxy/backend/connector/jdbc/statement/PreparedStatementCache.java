@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.PhysicalConnectionUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of prepared statements on physical backend connections, keyed by SQL.
+ * 
+ * <p>A cached statement is taken out of the cache while it is in use and put back when it is released, so it is never shared by concurrent executions.
+ * Statements are only closed by the thread which is using their connection, statements prepared before DDL are discarded when they are taken or released.</p>
+ * 
+ * <p>Cached statements follow the lifecycle of their physical connection instead of being weakly keyed, because statements reference their connection.
+ * Each physical connection has its own LRU map and lock, so executions on different connections never contend.
+ * Statements of closed physical connections are removed on cache access by one thread at a time, at most once per {@value #CLOSED_CONNECTIONS_SWEEP_INTERVAL_MILLIS} milliseconds.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedStatementCache {
+    
+    private static final long CLOSED_CONNECTIONS_SWEEP_INTERVAL_MILLIS = 1000L;
+    
+    private static final PreparedStatementCache INSTANCE = new PreparedStatementCache();
+    
+    private final Map<Connection, Map<CacheKey, CachedPreparedStatement>> cachedStatements = new ConcurrentHashMap<>();
+    
+    private final Cache<Statement, CachedPreparedStatement> inUseStatements = Caffeine.newBuilder().weakKeys().build();
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    private final AtomicLong lastSweptMillis = new AtomicLong();
+    
+    /**
+     * Get instance.
+     *
+     * @return got instance
+     */
+    public static PreparedStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Prepare statement, reuse cached statement of the same physical connection if possible.
+     *
+     * @param connection connection
+     * @param sql SQL
+     * @param returnGeneratedKeys return generated keys or not
+     * @param maxCacheSize max cached statements size of each physical connection
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement prepare(final Connection connection, final String sql, final boolean returnGeneratedKeys, final int maxCacheSize) throws SQLException {
+        Optional<Connection> physicalConnection = PhysicalConnectionUtils.findPhysicalConnection(connection);
+        if (!physicalConnection.isPresent()) {
+            return prepareStatement(connection, sql, returnGeneratedKeys);
+        }
+        CacheKey key = new CacheKey(sql, returnGeneratedKeys);
+        Optional<CachedPreparedStatement> cachedStatement = take(physicalConnection.get(), key);
+        CachedPreparedStatement result;
+        if (cachedStatement.isPresent()) {
+            result = cachedStatement.get();
+        } else {
+            PreparedStatement statement = prepareStatement(physicalConnection.get(), sql, returnGeneratedKeys);
+            result = new CachedPreparedStatement(physicalConnection.get(), key, statement, statement.getFetchSize(), version.get(), maxCacheSize);
+        }
+        inUseStatements.put(result.getStatement(), result);
+        return result.getStatement();
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean returnGeneratedKeys) throws SQLException {
+        return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private Optional<CachedPreparedStatement> take(final Connection physicalConnection, final CacheKey key) {
+        removeClosedConnectionsIfNecessary().forEach(this::closeQuietly);
+        Map<CacheKey, CachedPreparedStatement> statements = cachedStatements.get(physicalConnection);
+        if (null == statements) {
+            return Optional.empty();
+        }
+        CachedPreparedStatement result;
+        synchronized (statements) {
+            result = statements.remove(key);
+        }
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (version.get() != result.getVersion()) {
+            closeQuietly(result.getStatement());
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Release statement back to cache.
+     *
+     * @param statement statement to be released
+     * @return released or not, statements which are not prepared by cache are not released and should be closed by caller
+     */
+    public boolean release(final Statement statement) {
+        CachedPreparedStatement cachedStatement = inUseStatements.asMap().remove(statement);
+        if (null == cachedStatement) {
+            return false;
+        }
+        try {
+            if (cachedStatement.getConnection().isClosed() || version.get() != cachedStatement.getVersion()) {
+                statement.close();
+                return true;
+            }
+            closeResultSet(cachedStatement.getStatement());
+            cachedStatement.getStatement().clearParameters();
+            cachedStatement.getStatement().setFetchSize(cachedStatement.getFetchSize());
+        } catch (final SQLException ignored) {
+            closeQuietly(statement);
+            return true;
+        }
+        for (Statement each : put(cachedStatement)) {
+            closeQuietly(each);
+        }
+        return true;
+    }
+    
+    private void closeResultSet(final PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+    }
+    
+    private Collection<Statement> put(final CachedPreparedStatement cachedStatement) {
+        Collection<Statement> result = new LinkedList<>(removeClosedConnectionsIfNecessary());
+        Map<CacheKey, CachedPreparedStatement> statements = cachedStatements.computeIfAbsent(cachedStatement.getConnection(), key -> new LinkedHashMap<>());
+        synchronized (statements) {
+            CachedPreparedStatement replacedStatement = statements.put(cachedStatement.getKey(), cachedStatement);
+            if (null != replacedStatement) {
+                result.add(replacedStatement.getStatement());
+            }
+            Iterator<CachedPreparedStatement> eldestStatements = statements.values().iterator();
+            while (statements.size() > cachedStatement.getMaxCacheSize()) {
+                result.add(eldestStatements.next().getStatement());
+                eldestStatements.remove();
+            }
+        }
+        return result;
+    }
+    
+    private Collection<Statement> removeClosedConnectionsIfNecessary() {
+        long currentMillis = System.currentTimeMillis();
+        long lastMillis = lastSweptMillis.get();
+        if (currentMillis - lastMillis < CLOSED_CONNECTIONS_SWEEP_INTERVAL_MILLIS || !lastSweptMillis.compareAndSet(lastMillis, currentMillis)) {
+            return Collections.emptyList();
+        }
+        Collection<Statement> result = new LinkedList<>();
+        for (Entry<Connection, Map<CacheKey, CachedPreparedStatement>> entry : cachedStatements.entrySet()) {
+            if (isClosed(entry.getKey()) && cachedStatements.remove(entry.getKey(), entry.getValue())) {
+                synchronized (entry.getValue()) {
+                    entry.getValue().values().forEach(each -> result.add(each.getStatement()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    /**
+     * Invalidate all cached statements, should be called when table or view meta data changed.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final boolean returnGeneratedKeys;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedPreparedStatement {
+        
+        private final Connection connection;
+        
+        private final CacheKey key;
+        
+        private final PreparedStatement statement;
+        
+        private final int fetchSize;
+        
+        private final long version;
+        
+        private final int maxCacheSize;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.mode.event.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.event.schema.ViewMetaDataChangedEvent;
+import org.apache.shardingsphere.mode.event.schema.table.AlterTableEvent;
+import org.apache.shardingsphere.mode.event.schema.table.DropTableEvent;
+import org.apache.shardingsphere.mode.event.schema.view.AlterViewEvent;
+import org.apache.shardingsphere.mode.event.schema.view.DropViewEvent;
+
+/**
+ * Prepared statement cache invalidation subscriber, invalidates cached statements when meta data changed by other compute nodes.
+ */
+public final class PreparedStatementCacheInvalidationSubscriber {
+    
+    /**
+     * Invalidate when table meta data changed.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final TableMetaDataChangedEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+    
+    /**
+     * Invalidate when view meta data changed.
+     *
+     * @param event view meta data changed event
+     */
+    @Subscribe
+    public void invalidate(final ViewMetaDataChangedEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+    
+    /**
+     * Invalidate when table altered.
+     *
+     * @param event alter table event
+     */
+    @Subscribe
+    public void invalidate(final AlterTableEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+    
+    /**
+     * Invalidate when table dropped.
+     *
+     * @param event drop table event
+     */
+    @Subscribe
+    public void invalidate(final DropTableEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+    
+    /**
+     * Invalidate when view altered.
+     *
+     * @param event alter view event
+     */
+    @Subscribe
+    public void invalidate(final AlterViewEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+    
+    /**
+     * Invalidate when view dropped.
+     *
+     * @param event drop view event
+     */
+    @Subscribe
+    public void invalidate(final DropViewEvent event) {
+        PreparedStatementCache.getInstance().invalidate();
+    }
+}
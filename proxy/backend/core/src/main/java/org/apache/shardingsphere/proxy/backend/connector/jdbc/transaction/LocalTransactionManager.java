@@ -18,14 +18,18 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Local transaction manager.
@@ -58,6 +62,15 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> commitConnections() {
+        List<Connection> connections = new ArrayList<>(databaseConnectionManager.getCachedConnections().values());
+        if (isTwoPhaseCommitRequired(connections)) {
+            Collection<SQLException> result = LocalTransactionTwoPhaseCommitter.commit(connections,
+                    ProxyContext.getInstance().getContextManager().getMetaDataContexts().getPersistService().getRepository());
+            for (Connection each : connections) {
+                ConnectionSavepointManager.getInstance().transactionFinished(each);
+            }
+            return result;
+        }
         Collection<SQLException> result = new LinkedList<>();
         for (Connection each : databaseConnectionManager.getCachedConnections().values()) {
             try {
@@ -71,6 +84,22 @@ public final class LocalTransactionManager {
         return result;
     }
     
+    private boolean isTwoPhaseCommitRequired(final Collection<Connection> connections) {
+        if (connections.size() < 2 || !ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_LOCAL_TRANSACTION_TWO_PHASE_COMMIT_ENABLED)) {
+            return false;
+        }
+        // Commit decisions in repository which does not survive restart can not recover prepared transactions
+        if (!ProxyContext.getInstance().getContextManager().getMetaDataContexts().getPersistService().getRepository().isDurable()) {
+            return false;
+        }
+        try {
+            return LocalTransactionTwoPhaseCommitter.isSupported(connections);
+        } catch (final SQLException ignored) {
+            return false;
+        }
+    }
+    
     /**
      * Rollback transaction.
      *
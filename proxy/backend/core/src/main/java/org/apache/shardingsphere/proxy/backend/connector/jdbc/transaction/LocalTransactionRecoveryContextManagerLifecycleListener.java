@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.metadata.persist.node.LocalTransactionDecisionNode;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Context manager lifecycle listener to recover prepared local transactions left by crashed two phase commits.
+ * 
+ * <p>Recovery runs periodically instead of only on startup, so prepared transactions left by a crashed proxy do not hold their locks until a proxy restarts.</p>
+ */
+@Slf4j
+public final class LocalTransactionRecoveryContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private static final ScheduledExecutorService RECOVERY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("LocalTransactionRecovery-%d"));
+    
+    private static volatile ScheduledFuture<?> recoveryFuture;
+    
+    @Override
+    public void onInitialized(final String databaseName, final ContextManager contextManager) {
+        if (InstanceType.PROXY != contextManager.getInstanceContext().getInstance().getMetaData().getType()) {
+            return;
+        }
+        synchronized (RECOVERY_EXECUTOR) {
+            if (null != recoveryFuture) {
+                recoveryFuture.cancel(false);
+            }
+            recoveryFuture = RECOVERY_EXECUTOR.scheduleWithFixedDelay(() -> recoverQuietly(contextManager), 0L, LocalTransactionTwoPhaseCommitter.RECOVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+    
+    private void recoverQuietly(final ContextManager contextManager) {
+        try {
+            recover(contextManager);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Recover prepared local transactions failed", ex);
+        }
+    }
+    
+    private void recover(final ContextManager contextManager) {
+        if (!contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_LOCAL_TRANSACTION_TWO_PHASE_COMMIT_ENABLED)) {
+            return;
+        }
+        PersistRepository repository = contextManager.getMetaDataContexts().getPersistService().getRepository();
+        Collection<String> preparedTransactionIds = new HashSet<>();
+        boolean recovered = true;
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getDatabases().values()) {
+            recovered &= recover(each, repository, preparedTransactionIds);
+        }
+        if (recovered) {
+            deleteFinishedDecisions(repository, preparedTransactionIds);
+        }
+    }
+    
+    private boolean recover(final ShardingSphereDatabase database, final PersistRepository repository, final Collection<String> preparedTransactionIds) {
+        boolean result = true;
+        for (StorageUnit each : database.getResourceMetaData().getStorageUnits().values()) {
+            if (!LocalTransactionTwoPhaseCommitter.isSupported(each.getStorageType().getType())) {
+                continue;
+            }
+            try {
+                preparedTransactionIds.addAll(LocalTransactionTwoPhaseCommitter.recover(each.getDataSource(), repository));
+            } catch (final SQLException ex) {
+                log.error("Recover prepared local transactions of database `{}` failed", database.getName(), ex);
+                result = false;
+            }
+        }
+        return result;
+    }
+    
+    private void deleteFinishedDecisions(final PersistRepository repository, final Collection<String> preparedTransactionIds) {
+        long expiredMillis = System.currentTimeMillis() - LocalTransactionTwoPhaseCommitter.RECOVERY_TIMEOUT_SECONDS * 1000L;
+        for (String each : repository.getChildrenKeys(LocalTransactionDecisionNode.getRootPath())) {
+            String decisionPath = LocalTransactionDecisionNode.getDecisionPath(each);
+            String decidedMillis = repository.getDirectly(decisionPath);
+            if (!preparedTransactionIds.contains(each) && !Strings.isNullOrEmpty(decidedMillis) && Long.parseLong(decidedMillis) < expiredMillis) {
+                repository.delete(decisionPath);
+            }
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final String databaseName, final InstanceType instanceType) {
+        if (InstanceType.PROXY != instanceType) {
+            return;
+        }
+        synchronized (RECOVERY_EXECUTOR) {
+            if (null != recoveryFuture) {
+                recoveryFuture.cancel(false);
+                recoveryFuture = null;
+            }
+        }
+    }
+}
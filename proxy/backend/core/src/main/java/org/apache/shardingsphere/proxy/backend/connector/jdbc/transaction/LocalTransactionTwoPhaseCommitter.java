@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.metadata.persist.node.LocalTransactionDecisionNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+/**
+ * Committer which upgrades local transactions to two phase commit by preparing them with {@code PREPARE TRANSACTION}.
+ * 
+ * <p>Local transactions are prepared with global transaction IDs as {@code ss_<transaction ID>_<index>}. After all of them are prepared,
+ * the commit decision is persisted into repository and read back before any of them is committed, and is deleted after all of them are committed.
+ * Prepared transactions left by crashed committers are recovered by the decision: they are committed if the decision exists,
+ * otherwise none of them may be committed and they are rolled back once prepared longer than the recovery timeout.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class LocalTransactionTwoPhaseCommitter {
+    
+    /**
+     * Timeout seconds of prepared transactions without commit decision to be rolled back by recovery.
+     */
+    public static final int RECOVERY_TIMEOUT_SECONDS = 60;
+    
+    private static final Collection<String> SUPPORTED_DATABASE_PRODUCT_NAMES = new HashSet<>(Arrays.asList("PostgreSQL", "openGauss"));
+    
+    private static final String GLOBAL_TRANSACTION_ID_PREFIX = "ss_";
+    
+    private static final String PREPARED_TRANSACTIONS_SQL = "SELECT gid, prepared < CURRENT_TIMESTAMP - INTERVAL '" + RECOVERY_TIMEOUT_SECONDS + " seconds' AS expired"
+            + " FROM pg_prepared_xacts WHERE database = current_database() AND gid LIKE 'ss\\_%'";
+    
+    /**
+     * Judge whether local transactions of connections can be prepared.
+     *
+     * @param connections connections
+     * @return can be prepared or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSupported(final Collection<Connection> connections) throws SQLException {
+        for (Connection each : connections) {
+            if (!isSupported(each.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether local transactions of database product can be prepared.
+     *
+     * @param databaseProductName database product name
+     * @return can be prepared or not
+     */
+    public static boolean isSupported(final String databaseProductName) {
+        return SUPPORTED_DATABASE_PRODUCT_NAMES.contains(databaseProductName);
+    }
+    
+    /**
+     * Commit local transactions of connections in two phases.
+     *
+     * @param connections connections
+     * @param repository repository to persist commit decision
+     * @return SQL exceptions
+     */
+    public static Collection<SQLException> commit(final List<Connection> connections, final PersistRepository repository) {
+        String transactionId = UUID.randomUUID().toString().replace("-", "");
+        Collection<SQLException> result = new LinkedList<>();
+        for (int i = 0; i < connections.size(); i++) {
+            try {
+                execute(connections.get(i), "PREPARE TRANSACTION '" + getGlobalTransactionId(transactionId, i) + "'");
+            } catch (final SQLException ex) {
+                result.add(ex);
+                rollback(connections, transactionId, i, result);
+                return result;
+            }
+        }
+        String decisionPath = LocalTransactionDecisionNode.getDecisionPath(transactionId);
+        try {
+            persistDecision(repository, decisionPath);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.add(new SQLException("Persist commit decision of local transaction failed", ex));
+            rollback(connections, transactionId, connections.size(), result);
+            return result;
+        }
+        for (int i = 0; i < connections.size(); i++) {
+            finishPrepared(connections.get(i), "COMMIT PREPARED '" + getGlobalTransactionId(transactionId, i) + "'", result);
+        }
+        if (result.isEmpty()) {
+            repository.delete(decisionPath);
+        }
+        return result;
+    }
+    
+    private static void persistDecision(final PersistRepository repository, final String decisionPath) {
+        String decision = String.valueOf(System.currentTimeMillis());
+        repository.persist(decisionPath, decision);
+        // Some repositories log and swallow failures of persisting, so the decision is read back to confirm it before committing
+        if (!decision.equals(repository.getDirectly(decisionPath))) {
+            throw new IllegalStateException(String.format("Commit decision `%s` is not persisted", decisionPath));
+        }
+    }
+    
+    private static void rollback(final List<Connection> connections, final String transactionId, final int preparedCount, final Collection<SQLException> exceptions) {
+        for (int i = 0; i < preparedCount; i++) {
+            finishPrepared(connections.get(i), "ROLLBACK PREPARED '" + getGlobalTransactionId(transactionId, i) + "'", exceptions);
+        }
+        for (int i = preparedCount; i < connections.size(); i++) {
+            try {
+                connections.get(i).rollback();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+    }
+    
+    private static void finishPrepared(final Connection connection, final String sql, final Collection<SQLException> exceptions) {
+        try {
+            connection.setAutoCommit(true);
+            execute(connection, sql);
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+    }
+    
+    /**
+     * Recover prepared local transactions left in data source.
+     *
+     * @param dataSource data source
+     * @param repository repository of commit decisions
+     * @return transaction IDs which are still prepared after recovery
+     * @throws SQLException SQL exception
+     */
+    public static Collection<String> recover(final DataSource dataSource, final PersistRepository repository) throws SQLException {
+        Collection<String> result = new LinkedHashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (Entry<String, Boolean> entry : loadPreparedTransactions(connection).entrySet()) {
+                String transactionId = getTransactionId(entry.getKey());
+                if (!Strings.isNullOrEmpty(repository.getDirectly(LocalTransactionDecisionNode.getDecisionPath(transactionId)))) {
+                    finishPrepared(connection, "COMMIT PREPARED '" + entry.getKey() + "'", entry.getKey(), transactionId, result);
+                } else if (entry.getValue()) {
+                    finishPrepared(connection, "ROLLBACK PREPARED '" + entry.getKey() + "'", entry.getKey(), transactionId, result);
+                } else {
+                    result.add(transactionId);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Boolean> loadPreparedTransactions(final Connection connection) throws SQLException {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(PREPARED_TRANSACTIONS_SQL)) {
+            while (resultSet.next()) {
+                result.put(resultSet.getString("gid"), resultSet.getBoolean("expired"));
+            }
+        }
+        return result;
+    }
+    
+    private static void finishPrepared(final Connection connection, final String sql, final String globalTransactionId, final String transactionId, final Collection<String> preparedTransactionIds) {
+        try {
+            execute(connection, sql);
+        } catch (final SQLException ex) {
+            log.error("Recover prepared local transaction `{}` failed", globalTransactionId, ex);
+            preparedTransactionIds.add(transactionId);
+        }
+    }
+    
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    private static String getGlobalTransactionId(final String transactionId, final int index) {
+        return GLOBAL_TRANSACTION_ID_PREFIX + transactionId + "_" + (index + 1);
+    }
+    
+    private static String getTransactionId(final String globalTransactionId) {
+        return globalTransactionId.substring(GLOBAL_TRANSACTION_ID_PREFIX.length(), globalTransactionId.lastIndexOf('_'));
+    }
+}
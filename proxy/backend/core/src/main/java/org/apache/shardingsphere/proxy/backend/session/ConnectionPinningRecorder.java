@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DeallocateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.PrepareStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLUnlockStatement;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class records backend session states which can not be replayed on other connections.
+ * 
+ * <p>Backend connections are returned to data source pool at statement or transaction boundaries, unless they are pinned by such states.</p>
+ */
+public final class ConnectionPinningRecorder {
+    
+    private final Set<String> preparedStatementNames = ConcurrentHashMap.newKeySet();
+    
+    private volatile boolean tablesLocked;
+    
+    /**
+     * Record executed SQL statement.
+     *
+     * @param sqlStatement executed SQL statement
+     */
+    public void record(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof PrepareStatement) {
+            preparedStatementNames.add(((PrepareStatement) sqlStatement).getName());
+        } else if (sqlStatement instanceof DeallocateStatement) {
+            recordDeallocate((DeallocateStatement) sqlStatement);
+        } else if (sqlStatement instanceof MySQLLockStatement) {
+            tablesLocked = true;
+        } else if (sqlStatement instanceof MySQLUnlockStatement) {
+            tablesLocked = false;
+        }
+    }
+    
+    private void recordDeallocate(final DeallocateStatement sqlStatement) {
+        Optional<String> name = sqlStatement.getName();
+        if (name.isPresent()) {
+            preparedStatementNames.remove(name.get());
+        } else {
+            preparedStatementNames.clear();
+        }
+    }
+    
+    /**
+     * Judge whether backend connections are pinned to session.
+     *
+     * @return pinned or not
+     */
+    public boolean isPinned() {
+        return tablesLocked || !preparedStatementNames.isEmpty();
+    }
+}
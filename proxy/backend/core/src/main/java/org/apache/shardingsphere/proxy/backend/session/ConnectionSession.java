@@ -71,6 +71,8 @@ public final class ConnectionSession {
     
     private final RequiredSessionVariableRecorder requiredSessionVariableRecorder = new RequiredSessionVariableRecorder();
     
+    private final ConnectionPinningRecorder connectionPinningRecorder = new ConnectionPinningRecorder();
+    
     private volatile String processId;
     
     private QueryContext queryContext;
@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,6 +59,15 @@ public final class RequiredSessionVariableRecorder {
         return sessionVariables.isEmpty();
     }
     
+    /**
+     * Get variables.
+     *
+     * @return snapshot of variables
+     */
+    public Map<String, String> getVariables() {
+        return new HashMap<>(sessionVariables);
+    }
+    
     /**
      * Get set SQLs for database.
      *
@@ -62,31 +75,60 @@ public final class RequiredSessionVariableRecorder {
      * @return set SQLs
      */
     public List<String> toSetSQLs(final String databaseType) {
-        if (sessionVariables.isEmpty()) {
+        return toSetSQLs(databaseType, Collections.emptyMap());
+    }
+    
+    /**
+     * Get set SQLs for database which only apply the differences from variables already replayed on connection.
+     *
+     * @param databaseType database type
+     * @param replayedVariables variables already replayed on connection
+     * @return set SQLs
+     */
+    public List<String> toSetSQLs(final String databaseType, final Map<String, String> replayedVariables) {
+        Map<String, String> changedVariables = new LinkedHashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!entry.getValue().equals(replayedVariables.get(entry.getKey()))) {
+                changedVariables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Collection<String> resetVariableNames = new LinkedList<>();
+        for (String each : replayedVariables.keySet()) {
+            if (!sessionVariables.containsKey(each)) {
+                resetVariableNames.add(each);
+            }
+        }
+        if (changedVariables.isEmpty() && resetVariableNames.isEmpty()) {
             return Collections.emptyList();
         }
         // TODO Refactor the following switch by SPI if we support more database in future
         switch (databaseType) {
             case "MySQL":
-                return Collections.singletonList(aggregateToMySQLSetSQL());
+                return Collections.singletonList(aggregateToMySQLSetSQL(changedVariables, resetVariableNames));
             case "PostgreSQL":
-                return convertToPostgreSQLSetSQLs();
+                return convertToPostgreSQLSetSQLs(changedVariables, resetVariableNames);
             default:
                 return Collections.emptyList();
         }
     }
     
-    private String aggregateToMySQLSetSQL() {
+    private String aggregateToMySQLSetSQL(final Map<String, String> changedVariables, final Collection<String> resetVariableNames) {
         StringJoiner result = new StringJoiner(",", "SET ", "");
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
             result.add(entry.getKey() + "=" + entry.getValue());
         }
+        for (String each : resetVariableNames) {
+            result.add(toMySQLSetDefaultAssignment(each));
+        }
         return result.toString();
     }
     
-    private List<String> convertToPostgreSQLSetSQLs() {
-        List<String> result = new ArrayList<>(sessionVariables.size());
-        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+    private List<String> convertToPostgreSQLSetSQLs(final Map<String, String> changedVariables, final Collection<String> resetVariableNames) {
+        List<String> result = new ArrayList<>(changedVariables.size() + resetVariableNames.size());
+        for (String each : resetVariableNames) {
+            result.add("RESET " + each);
+        }
+        for (Entry<String, String> entry : changedVariables.entrySet()) {
             result.add("SET " + entry.getKey() + "=" + entry.getValue());
         }
         return result;
@@ -116,15 +158,15 @@ public final class RequiredSessionVariableRecorder {
     private String aggregateToMySQLSetDefaultSQLs() {
         StringJoiner result = new StringJoiner(",", "SET ", "");
         for (String each : sessionVariables.keySet()) {
-            if (each.startsWith("@")) {
-                result.add(each + "=" + NULL);
-            } else {
-                result.add(each + "=" + DEFAULT);
-            }
+            result.add(toMySQLSetDefaultAssignment(each));
         }
         return result.toString();
     }
     
+    private String toMySQLSetDefaultAssignment(final String variableName) {
+        return variableName.startsWith("@") ? variableName + "=" + NULL : variableName + "=" + DEFAULT;
+    }
+    
     /**
      * Remove variables with default value.
      */
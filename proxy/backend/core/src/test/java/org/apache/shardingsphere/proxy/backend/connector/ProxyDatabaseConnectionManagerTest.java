@@ -19,17 +19,21 @@ package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ReplayedSessionVariableCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionPinningRecorder;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.apache.shardingsphere.transaction.api.TransactionType;
@@ -99,6 +103,9 @@ class ProxyDatabaseConnectionManagerTest {
         JDBCBackendStatement backendStatement = new JDBCBackendStatement();
         when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(new RequiredSessionVariableRecorder());
+        when(connectionSession.getConnectionPinningRecorder()).thenReturn(new ConnectionPinningRecorder());
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLE_LAZY_RESET_ENABLED)).thenReturn(false);
     }
     
     @AfterEach
@@ -218,6 +225,8 @@ class ProxyDatabaseConnectionManagerTest {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLE_LAZY_RESET_ENABLED)).thenReturn(false);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
@@ -226,6 +235,15 @@ class ProxyDatabaseConnectionManagerTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    void assertGetConnectionsWithoutSessionVariables() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection, never()).isWrapperFor(Connection.class);
+        verify(connection, never()).getMetaData();
+    }
+    
     @Test
     void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
@@ -366,6 +384,15 @@ class ProxyDatabaseConnectionManagerTest {
         assertThat(getInUseBackendHandlers(), is(Collections.singleton(inUseHandler)));
     }
     
+    @Test
+    void assertCloseExecutionResourcesWithPinnedConnections() throws BackendConnectionException {
+        connectionSession.getConnectionPinningRecorder().record(new MySQLLockStatement());
+        Connection cachedConnection = prepareCachedConnections();
+        databaseConnectionManager.closeExecutionResources();
+        verifyNoInteractions(cachedConnection);
+        assertThat(databaseConnectionManager.getConnectionSize(), is(1));
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private Collection<ProxyBackendHandler> getBackendHandlers() {
@@ -408,6 +435,26 @@ class ProxyDatabaseConnectionManagerTest {
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
     }
     
+    @Test
+    void assertCloseConnectionsAndLazyResetVariables() throws SQLException {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLE_LAZY_RESET_ENABLED)).thenReturn(true);
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
+        Connection physicalConnection = mock(Connection.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.isWrapperFor(Connection.class)).thenReturn(true);
+        when(connection.unwrap(Connection.class)).thenReturn(physicalConnection);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(ProxyContext.getInstance().getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        databaseConnectionManager.closeConnections(false);
+        databaseConnectionManager.getConnections("", 0, 1, ConnectionMode.CONNECTION_STRICTLY);
+        verify(connection.createStatement()).execute("SET key=value");
+        verify(connection.createStatement(), never()).execute("RESET ALL");
+        assertThat(ReplayedSessionVariableCache.getInstance().get(connection), is(Collections.singletonMap("key", "value")));
+        ReplayedSessionVariableCache.getInstance().remove(connection);
+    }
+    
     @Test
     void assertCloseConnectionsAndFailedToGetDatabaseType() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.mode.event.schema.TableMetaDataChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheTest {
+    
+    @Test
+    void assertPrepareWithoutPhysicalConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        assertThat(PreparedStatementCache.getInstance().prepare(connection, "SELECT 1", false, 1), is(statement));
+        assertFalse(PreparedStatementCache.getInstance().release(statement));
+    }
+    
+    @Test
+    void assertPrepareWithReleasedStatement() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement, mock(PreparedStatement.class));
+        Connection connection = mockPooledConnection(physicalConnection);
+        assertThat(PreparedStatementCache.getInstance().prepare(connection, "SELECT 1", false, 1), is(statement));
+        assertTrue(PreparedStatementCache.getInstance().release(statement));
+        assertThat(PreparedStatementCache.getInstance().prepare(mockPooledConnection(physicalConnection), "SELECT 1", false, 1), is(statement));
+        verify(physicalConnection, times(1)).prepareStatement("SELECT 1");
+        verify(statement).clearParameters();
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    void assertPrepareAfterInvalidated() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(statement, mock(PreparedStatement.class));
+        Connection connection = mockPooledConnection(physicalConnection);
+        PreparedStatementCache.getInstance().prepare(connection, "SELECT 1", false, 1);
+        PreparedStatementCache.getInstance().release(statement);
+        PreparedStatementCache.getInstance().invalidate();
+        assertThat(PreparedStatementCache.getInstance().prepare(connection, "SELECT 1", false, 1), not(statement));
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertReleaseWithResultSetClosed() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        when(physicalConnection.prepareStatement("SELECT 3")).thenReturn(statement);
+        PreparedStatementCache.getInstance().prepare(mockPooledConnection(physicalConnection), "SELECT 3", false, 1);
+        assertTrue(PreparedStatementCache.getInstance().release(statement));
+        verify(resultSet).close();
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    void assertPrepareAfterTableMetaDataChangedEvent() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 4")).thenReturn(statement, mock(PreparedStatement.class));
+        Connection connection = mockPooledConnection(physicalConnection);
+        PreparedStatementCache.getInstance().prepare(connection, "SELECT 4", false, 1);
+        PreparedStatementCache.getInstance().release(statement);
+        new PreparedStatementCacheInvalidationSubscriber().invalidate(mock(TableMetaDataChangedEvent.class));
+        assertThat(PreparedStatementCache.getInstance().prepare(connection, "SELECT 4", false, 1), not(statement));
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertReleaseWithEldestStatementEvicted() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        PreparedStatement eldestStatement = mock(PreparedStatement.class);
+        PreparedStatement latestStatement = mock(PreparedStatement.class);
+        when(physicalConnection.prepareStatement("SELECT 1")).thenReturn(eldestStatement);
+        when(physicalConnection.prepareStatement("SELECT 2")).thenReturn(latestStatement);
+        Connection connection = mockPooledConnection(physicalConnection);
+        PreparedStatementCache.getInstance().prepare(connection, "SELECT 1", false, 1);
+        PreparedStatementCache.getInstance().prepare(connection, "SELECT 2", false, 1);
+        PreparedStatementCache.getInstance().release(eldestStatement);
+        PreparedStatementCache.getInstance().release(latestStatement);
+        verify(eldestStatement).close();
+        verify(latestStatement, never()).close();
+    }
+    
+    @Test
+    void assertPrepareWithClosedConnectionStatementsRemoved() throws SQLException, ReflectiveOperationException {
+        Connection closedConnection = mock(Connection.class);
+        PreparedStatement closedConnectionStatement = mock(PreparedStatement.class);
+        when(closedConnection.prepareStatement("SELECT 5")).thenReturn(closedConnectionStatement);
+        PreparedStatementCache.getInstance().prepare(mockPooledConnection(closedConnection), "SELECT 5", false, 1);
+        assertTrue(PreparedStatementCache.getInstance().release(closedConnectionStatement));
+        when(closedConnection.isClosed()).thenReturn(true);
+        ((AtomicLong) Plugins.getMemberAccessor().get(PreparedStatementCache.class.getDeclaredField("lastSweptMillis"), PreparedStatementCache.getInstance())).set(0L);
+        Connection physicalConnection = mock(Connection.class);
+        when(physicalConnection.prepareStatement("SELECT 5")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache.getInstance().prepare(mockPooledConnection(physicalConnection), "SELECT 5", false, 1);
+        verify(closedConnectionStatement).close();
+    }
+    
+    private Connection mockPooledConnection(final Connection physicalConnection) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.isWrapperFor(Connection.class)).thenReturn(true);
+        when(result.unwrap(Connection.class)).thenReturn(physicalConnection);
+        return result;
+    }
+}
@@ -18,27 +18,45 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class LocalTransactionManagerTest {
     
@@ -86,6 +104,107 @@ class LocalTransactionManagerTest {
         verify(connection).commit();
     }
     
+    @Test
+    void assertCommitInTwoPhasesWithMultipleConnections() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Connection connection1 = mockConnection("PostgreSQL", statement1);
+        Statement statement2 = mock(Statement.class);
+        Connection connection2 = mockConnection("PostgreSQL", statement2);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(createCachedConnections(connection1, connection2));
+        mockTwoPhaseCommitEnabled(true);
+        localTransactionManager.commit();
+        verify(statement1).execute(matches("PREPARE TRANSACTION .*"));
+        verify(statement2).execute(matches("PREPARE TRANSACTION .*"));
+        verify(statement1).execute(matches("COMMIT PREPARED .*"));
+        verify(statement2).execute(matches("COMMIT PREPARED .*"));
+        verify(connection1, never()).commit();
+        verify(connection2, never()).commit();
+    }
+    
+    @Test
+    void assertCommitInOnePhaseWhenTwoPhaseCommitDisabled() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Connection connection1 = mockConnection("PostgreSQL", statement1);
+        Statement statement2 = mock(Statement.class);
+        Connection connection2 = mockConnection("PostgreSQL", statement2);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(createCachedConnections(connection1, connection2));
+        mockTwoPhaseCommitEnabled(false);
+        localTransactionManager.commit();
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(statement1, never()).execute(anyString());
+    }
+    
+    @Test
+    void assertCommitInOnePhaseWithoutDurableRepository() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Connection connection1 = mockConnection("PostgreSQL", statement1);
+        Statement statement2 = mock(Statement.class);
+        Connection connection2 = mockConnection("PostgreSQL", statement2);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(createCachedConnections(connection1, connection2));
+        mockTwoPhaseCommitEnabled(true, false);
+        localTransactionManager.commit();
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(statement1, never()).execute(anyString());
+    }
+    
+    @Test
+    void assertCommitInOnePhaseWithUnsupportedDatabase() throws SQLException {
+        Statement statement1 = mock(Statement.class);
+        Connection connection1 = mockConnection("PostgreSQL", statement1);
+        Statement statement2 = mock(Statement.class);
+        Connection connection2 = mockConnection("MySQL", statement2);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(createCachedConnections(connection1, connection2));
+        mockTwoPhaseCommitEnabled(true);
+        localTransactionManager.commit();
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(statement1, never()).execute(anyString());
+    }
+    
+    @Test
+    void assertCommitInOnePhaseWithSingleConnection() throws SQLException {
+        Statement statement = mock(Statement.class);
+        Connection connection = mockConnection("PostgreSQL", statement);
+        when(databaseConnectionManager.getCachedConnections()).thenReturn(createCachedConnections(connection));
+        mockTwoPhaseCommitEnabled(true);
+        localTransactionManager.commit();
+        verify(connection).commit();
+        verify(statement, never()).execute(anyString());
+    }
+    
+    private Connection mockConnection(final String databaseProductName, final Statement statement) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseProductName()).thenReturn(databaseProductName);
+        when(result.createStatement()).thenReturn(statement);
+        return result;
+    }
+    
+    private Multimap<String, Connection> createCachedConnections(final Connection... connections) {
+        Multimap<String, Connection> result = LinkedHashMultimap.create();
+        for (int i = 0; i < connections.length; i++) {
+            result.put("ds" + i, connections[i]);
+        }
+        return result;
+    }
+    
+    private void mockTwoPhaseCommitEnabled(final boolean enabled) {
+        mockTwoPhaseCommitEnabled(enabled, true);
+    }
+    
+    private void mockTwoPhaseCommitEnabled(final boolean enabled, final boolean durable) {
+        ConfigurationProperties props = new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_LOCAL_TRANSACTION_TWO_PHASE_COMMIT_ENABLED.getKey(), String.valueOf(enabled))));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        Map<String, String> persistedData = new HashMap<>();
+        PersistRepository repository = mock(PersistRepository.class);
+        when(repository.isDurable()).thenReturn(durable);
+        doAnswer(invocation -> persistedData.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        when(repository.getDirectly(anyString())).thenAnswer(invocation -> persistedData.get(invocation.<String>getArgument(0)));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getPersistService().getRepository()).thenReturn(repository);
+    }
+    
     @Test
     void assertRollback() throws SQLException {
         localTransactionManager.rollback();
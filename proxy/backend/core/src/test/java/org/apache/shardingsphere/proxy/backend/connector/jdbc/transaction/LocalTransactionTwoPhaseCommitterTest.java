@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
+
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalTransactionTwoPhaseCommitterTest {
+    
+    @Test
+    void assertIsSupported() throws SQLException {
+        assertThat(LocalTransactionTwoPhaseCommitter.isSupported(Arrays.asList(mockConnection("PostgreSQL"), mockConnection("openGauss"))), is(true));
+        assertThat(LocalTransactionTwoPhaseCommitter.isSupported(Arrays.asList(mockConnection("PostgreSQL"), mockConnection("MySQL"))), is(false));
+    }
+    
+    private PersistRepository mockRepository() {
+        Map<String, String> persistedData = new HashMap<>();
+        PersistRepository result = mock(PersistRepository.class);
+        doAnswer(invocation -> persistedData.put(invocation.getArgument(0), invocation.getArgument(1))).when(result).persist(anyString(), anyString());
+        when(result.getDirectly(anyString())).thenAnswer(invocation -> persistedData.get(invocation.<String>getArgument(0)));
+        return result;
+    }
+    
+    private Connection mockConnection(final String databaseProductName) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getDatabaseProductName()).thenReturn(databaseProductName);
+        return result;
+    }
+    
+    @Test
+    void assertCommit() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        when(connection1.createStatement()).thenReturn(statement1);
+        Connection connection2 = mock(Connection.class);
+        Statement statement2 = mock(Statement.class);
+        when(connection2.createStatement()).thenReturn(statement2);
+        PersistRepository repository = mockRepository();
+        assertThat(LocalTransactionTwoPhaseCommitter.commit(Arrays.asList(connection1, connection2), repository).isEmpty(), is(true));
+        InOrder inOrder = inOrder(statement1, statement2, connection1, repository);
+        inOrder.verify(statement1).execute(matches("PREPARE TRANSACTION 'ss_\\w+_1'"));
+        inOrder.verify(statement2).execute(matches("PREPARE TRANSACTION 'ss_\\w+_2'"));
+        inOrder.verify(repository).persist(matches("/local_transaction_decisions/\\w+"), anyString());
+        inOrder.verify(connection1).setAutoCommit(true);
+        inOrder.verify(statement1).execute(matches("COMMIT PREPARED 'ss_\\w+_1'"));
+        inOrder.verify(statement2).execute(matches("COMMIT PREPARED 'ss_\\w+_2'"));
+        inOrder.verify(repository).delete(matches("/local_transaction_decisions/\\w+"));
+    }
+    
+    @Test
+    void assertRollbackWhenPrepareFailed() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        when(connection1.createStatement()).thenReturn(statement1);
+        Connection connection2 = mock(Connection.class);
+        Statement statement2 = mock(Statement.class);
+        when(connection2.createStatement()).thenReturn(statement2);
+        SQLException expected = new SQLException("prepare failed");
+        when(statement2.execute(matches("PREPARE TRANSACTION .*"))).thenThrow(expected);
+        PersistRepository repository = mock(PersistRepository.class);
+        Collection<SQLException> actual = LocalTransactionTwoPhaseCommitter.commit(Arrays.asList(connection1, connection2), repository);
+        assertThat(actual, is(Collections.singletonList(expected)));
+        verify(statement1).execute(matches("ROLLBACK PREPARED 'ss_\\w+_1'"));
+        verify(connection2).rollback();
+        verify(statement1, never()).execute(matches("COMMIT PREPARED .*"));
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertRollbackWhenPersistDecisionFailed() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        when(connection1.createStatement()).thenReturn(statement1);
+        Connection connection2 = mock(Connection.class);
+        Statement statement2 = mock(Statement.class);
+        when(connection2.createStatement()).thenReturn(statement2);
+        PersistRepository repository = mock(PersistRepository.class);
+        doThrow(IllegalStateException.class).when(repository).persist(anyString(), anyString());
+        assertThat(LocalTransactionTwoPhaseCommitter.commit(Arrays.asList(connection1, connection2), repository).size(), is(1));
+        verify(statement1).execute(matches("ROLLBACK PREPARED 'ss_\\w+_1'"));
+        verify(statement2).execute(matches("ROLLBACK PREPARED 'ss_\\w+_2'"));
+        verify(statement1, never()).execute(matches("COMMIT PREPARED .*"));
+        verify(statement2, never()).execute(matches("COMMIT PREPARED .*"));
+    }
+    
+    @Test
+    void assertRollbackWhenPersistedDecisionNotReadBack() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        when(connection1.createStatement()).thenReturn(statement1);
+        Connection connection2 = mock(Connection.class);
+        Statement statement2 = mock(Statement.class);
+        when(connection2.createStatement()).thenReturn(statement2);
+        PersistRepository repository = mock(PersistRepository.class);
+        when(repository.getDirectly(anyString())).thenReturn("");
+        assertThat(LocalTransactionTwoPhaseCommitter.commit(Arrays.asList(connection1, connection2), repository).size(), is(1));
+        verify(statement1).execute(matches("ROLLBACK PREPARED 'ss_\\w+_1'"));
+        verify(statement2).execute(matches("ROLLBACK PREPARED 'ss_\\w+_2'"));
+        verify(statement1, never()).execute(matches("COMMIT PREPARED .*"));
+        verify(statement2, never()).execute(matches("COMMIT PREPARED .*"));
+    }
+    
+    @Test
+    void assertKeepDecisionWhenCommitPreparedFailed() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        when(connection1.createStatement()).thenReturn(statement1);
+        Connection connection2 = mock(Connection.class);
+        Statement statement2 = mock(Statement.class);
+        when(connection2.createStatement()).thenReturn(statement2);
+        when(statement2.execute(matches("COMMIT PREPARED .*"))).thenThrow(SQLException.class);
+        PersistRepository repository = mockRepository();
+        assertThat(LocalTransactionTwoPhaseCommitter.commit(Arrays.asList(connection1, connection2), repository).size(), is(1));
+        verify(statement1).execute(matches("COMMIT PREPARED 'ss_\\w+_1'"));
+        verify(repository, never()).delete(anyString());
+    }
+    
+    @Test
+    void assertRecover() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection().createStatement()).thenReturn(statement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("gid")).thenReturn("ss_foo_1", "ss_bar_1", "ss_baz_1");
+        when(resultSet.getBoolean("expired")).thenReturn(false, true, false);
+        PersistRepository repository = mock(PersistRepository.class);
+        when(repository.getDirectly("/local_transaction_decisions/foo")).thenReturn("1");
+        when(repository.getDirectly("/local_transaction_decisions/bar")).thenReturn("");
+        when(repository.getDirectly("/local_transaction_decisions/baz")).thenReturn("");
+        assertThat(LocalTransactionTwoPhaseCommitter.recover(dataSource, repository), is(Collections.singleton("baz")));
+        verify(statement).execute("COMMIT PREPARED 'ss_foo_1'");
+        verify(statement).execute("ROLLBACK PREPARED 'ss_bar_1'");
+        verify(statement, never()).execute("ROLLBACK PREPARED 'ss_baz_1'");
+    }
+}
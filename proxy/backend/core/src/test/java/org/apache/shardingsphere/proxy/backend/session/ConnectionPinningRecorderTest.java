@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLDeallocateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.ddl.MySQLPrepareStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLLockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.tcl.MySQLUnlockStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDeallocateStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPinningRecorderTest {
+    
+    @Test
+    void assertRecordNotPinnedStatement() {
+        ConnectionPinningRecorder recorder = new ConnectionPinningRecorder();
+        recorder.record(new MySQLSelectStatement());
+        assertFalse(recorder.isPinned());
+    }
+    
+    @Test
+    void assertRecordPrepareAndDeallocateStatements() {
+        ConnectionPinningRecorder recorder = new ConnectionPinningRecorder();
+        recorder.record(createPrepareStatement("foo_stmt"));
+        recorder.record(createPrepareStatement("foo_stmt"));
+        recorder.record(createPrepareStatement("bar_stmt"));
+        assertTrue(recorder.isPinned());
+        recorder.record(createDeallocateStatement("foo_stmt"));
+        assertTrue(recorder.isPinned());
+        recorder.record(createDeallocateStatement("foo_stmt"));
+        assertTrue(recorder.isPinned());
+        recorder.record(createDeallocateStatement("bar_stmt"));
+        assertFalse(recorder.isPinned());
+    }
+    
+    @Test
+    void assertRecordDeallocateAllStatement() {
+        ConnectionPinningRecorder recorder = new ConnectionPinningRecorder();
+        recorder.record(createPrepareStatement("foo_stmt"));
+        recorder.record(createPrepareStatement("bar_stmt"));
+        assertTrue(recorder.isPinned());
+        recorder.record(new PostgreSQLDeallocateStatement());
+        assertFalse(recorder.isPinned());
+    }
+    
+    @Test
+    void assertRecordLockAndUnlockStatements() {
+        ConnectionPinningRecorder recorder = new ConnectionPinningRecorder();
+        recorder.record(new MySQLLockStatement());
+        assertTrue(recorder.isPinned());
+        recorder.record(new MySQLUnlockStatement());
+        assertFalse(recorder.isPinned());
+    }
+    
+    private MySQLPrepareStatement createPrepareStatement(final String name) {
+        MySQLPrepareStatement result = new MySQLPrepareStatement();
+        result.setName(name);
+        return result;
+    }
+    
+    private MySQLDeallocateStatement createDeallocateStatement(final String name) {
+        MySQLDeallocateStatement result = new MySQLDeallocateStatement();
+        result.setName(name);
+        return result;
+    }
+}
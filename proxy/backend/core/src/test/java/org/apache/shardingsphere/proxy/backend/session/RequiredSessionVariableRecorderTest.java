@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -75,4 +77,25 @@ class RequiredSessionVariableRecorderTest {
         assertTrue(recorder.toSetSQLs("unsupported").isEmpty());
         assertTrue(recorder.toResetSQLs("unsupported").isEmpty());
     }
+    
+    @Test
+    void assertToMySQLSetSQLsWithReplayedVariables() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("sql_mode", "''");
+        recorder.setVariable("max_sort_length", "1024");
+        Map<String, String> replayedVariables = new HashMap<>(3, 1F);
+        replayedVariables.put("sql_mode", "''");
+        replayedVariables.put("max_sort_length", "2048");
+        replayedVariables.put("@variable_name", "'variable_value'");
+        assertThat(recorder.toSetSQLs("MySQL", replayedVariables), is(Collections.singletonList("SET max_sort_length=1024,@variable_name=NULL")));
+        assertTrue(recorder.toSetSQLs("MySQL", recorder.getVariables()).isEmpty());
+    }
+    
+    @Test
+    void assertToPostgreSQLSetSQLsWithReplayedVariables() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("client_encoding", "utf8");
+        assertThat(recorder.toSetSQLs("PostgreSQL", Collections.singletonMap("datestyle", "iso")), is(Arrays.asList("RESET datestyle", "SET client_encoding=utf8")));
+        assertTrue(recorder.toSetSQLs("PostgreSQL", Collections.singletonMap("client_encoding", "utf8")).isEmpty());
+    }
 }
@@ -197,7 +197,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         }
         String database = backendHandler.getDatabaseNameByJobId(requestBody.getStreamingId());
         checkPrivileges(request.getRequestId(), connectionContext.getCurrentUser().getGrantee(), database);
-        backendHandler.startStreaming(requestBody.getStreamingId(), connectionContext, ctx.channel());
+        backendHandler.startStreaming(requestBody.getStreamingId(), connectionContext, ctx.channel(), requestBody.getStreamingOptions());
         ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId()));
     }
     
@@ -46,17 +46,27 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -145,6 +155,31 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertWriteIndependentRecordsConcurrently() throws SQLException, InterruptedException {
+        CountDownLatch flushingLatch = new CountDownLatch(3);
+        Collection<PreparedStatement> preparedStatements = ConcurrentHashMap.newKeySet();
+        when(connection.prepareStatement(any())).thenAnswer(invocation -> {
+            flushingLatch.countDown();
+            flushingLatch.await(5L, TimeUnit.SECONDS);
+            PreparedStatement result = mock(PreparedStatement.class);
+            preparedStatements.add(result);
+            return result;
+        });
+        ExecutorService applyExecutor = Executors.newFixedThreadPool(3);
+        try {
+            PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), dataSourceManager, applyExecutor);
+            pipelineSink.write("", Arrays.asList(getDataRecord("INSERT", 1), getDataRecord("UPDATE", 2), getDataRecord("DELETE", 3)));
+            pipelineSink.close();
+        } finally {
+            applyExecutor.shutdownNow();
+        }
+        assertThat(flushingLatch.getCount(), is(0L));
+        assertThat(preparedStatements.size(), is(3));
+        verify(connection, times(3)).commit();
+        assertThat(applyExecutor.awaitTermination(5L, TimeUnit.SECONDS), is(true));
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));
@@ -161,6 +196,10 @@ class PipelineDataSourceSinkTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         Integer idOldValue = null;
         Integer userOldValue = null;
         Integer idValue = null;
@@ -168,19 +207,19 @@ class PipelineDataSourceSinkTest {
         String statusOldValue = null;
         String statusValue = null;
         if ("INSERT".equals(recordType)) {
-            idValue = 1;
+            idValue = id;
             userValue = 10;
             statusValue = recordType;
         }
         if ("UPDATE".equals(recordType)) {
-            idOldValue = 1;
+            idOldValue = id;
             idValue = idOldValue;
             userOldValue = 10;
             userValue = 20;
             statusValue = recordType;
         }
         if ("DELETE".equals(recordType)) {
-            idOldValue = 1;
+            idOldValue = id;
             userOldValue = 10;
             statusOldValue = recordType;
         }